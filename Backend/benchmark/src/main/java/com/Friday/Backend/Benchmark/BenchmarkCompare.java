@@ -0,0 +1,107 @@
+package com.Friday.Backend.Benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// java -cp target/benchmarks.jar com.Friday.Backend.Benchmark.BenchmarkCompare <기준.json> <비교.json> [문턱 %]
+// JMH 의 -rf json 결과 두 개를 벤치마크 + 파라미터별로 맞춰 CSV 로 출력한다.
+// change_pct 는 비교 쪽이 기준보다 몇 % 변했는지이다. 문턱을 넘었어도 두 점수 차가 양쪽 오차(99.9% 신뢰구간) 합보다 작으면 noise 로 표시한다.
+// AverageTime/SampleTime 은 커지면, Throughput 은 작아지면 느려진 것이다. 문턱보다 느려진 항목이 있으면 종료 코드 1
+public class BenchmarkCompare {
+
+    private record Score(String unit, String mode, double score, double error) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: BenchmarkCompare <기준.json> <비교.json> [문턱 %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5.0;
+
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        System.out.println("benchmark,unit,baseline,current,change_pct,verdict");
+        for (Map.Entry<String, Score> entry : baseline.entrySet()) {
+            Score before = entry.getValue();
+            Score after = current.get(entry.getKey());
+            if (after == null) {
+                System.out.printf("%s,%s,%.3f,,,removed%n", csv(entry.getKey()), before.unit(), before.score());
+                continue;
+            }
+
+            double change = (after.score() - before.score()) / before.score() * 100;
+            // 처리량은 클수록 좋다.
+            double slowdown = "thrpt".equals(before.mode()) ? -change : change;
+            String verdict;
+            if (Math.abs(slowdown) <= threshold) {
+                verdict = "same";
+            }
+            else if (Math.abs(after.score() - before.score()) <= before.error() + after.error()) {
+                verdict = "noise";
+            }
+            else if (slowdown > 0) {
+                verdict = "slower";
+                regressions.add(entry.getKey());
+            }
+            else {
+                verdict = "faster";
+            }
+            System.out.printf("%s,%s,%.3f,%.3f,%+.1f,%s%n",
+                csv(entry.getKey()), before.unit(), before.score(), after.score(), change, verdict);
+        }
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            if (!baseline.containsKey(entry.getKey())) {
+                System.out.printf("%s,%s,,%.3f,,added%n", csv(entry.getKey()), entry.getValue().unit(), entry.getValue().score());
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.println(threshold + "% 넘게 느려진 벤치마크 " + regressions.size() + "개: " + regressions);
+            System.exit(1);
+        }
+    }
+
+    // "클래스.메서드 {파라미터=값, ...}" → 점수
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.path("benchmark").asText();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = result.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            if (!params.isEmpty()) {
+                name += " " + params;
+            }
+
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(name, new Score(
+                metric.path("scoreUnit").asText(),
+                result.path("mode").asText(),
+                metric.path("score").asDouble(),
+                Double.isNaN(error) ? 0 : error
+            ));
+        }
+        return scores;
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") ? "\"" + value + "\"" : value;
+    }
+}
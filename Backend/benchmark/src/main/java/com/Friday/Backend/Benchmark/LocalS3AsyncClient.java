@@ -0,0 +1,129 @@
+package com.Friday.Backend.Benchmark;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 네트워크 없이 S3 조회/삭제/멀티파트 시작만 흉내 내는 비동기 클라이언트.
+// 요청마다 roundTripMicros 만큼 늦게 응답하고, tailRate 확률로 tailFactor 배 늦게, errorRate 확률로 503 을 돌려준다.
+// 응답은 타이머 스레드에서 완료하므로 기다리는 동안 호출한 스레드를 잡지 않는다. 취소된 요청은 그대로 버려진다.
+class LocalS3AsyncClient implements S3AsyncClient {
+
+    private final long roundTripMicros;
+    private final double tailRate;
+    private final int tailFactor;
+    private final double errorRate;
+
+    private final Set<String> objects = ConcurrentHashMap.newKeySet();
+    private final AtomicLong uploadIds = new AtomicLong();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "local-s3");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    LocalS3AsyncClient(long roundTripMicros, double tailRate, int tailFactor, double errorRate) {
+        this.roundTripMicros = roundTripMicros;
+        this.tailRate = tailRate;
+        this.tailFactor = tailFactor;
+        this.errorRate = errorRate;
+    }
+
+    void put(String key) {
+        objects.add(key);
+    }
+
+    int size() {
+        return objects.size();
+    }
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request) {
+        return respond(() -> {
+            if (!objects.contains(request.key())) {
+                throw NoSuchKeyException.builder().statusCode(404).message("Not Found").build();
+            }
+            return HeadObjectResponse.builder().contentLength(1L).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+        return respond(() -> {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectsResponse> deleteObjects(DeleteObjectsRequest request) {
+        return respond(() -> {
+            for (ObjectIdentifier object : request.delete().objects()) {
+                objects.remove(object.key());
+            }
+            return DeleteObjectsResponse.builder().build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        return respond(() -> CreateMultipartUploadResponse.builder()
+            .bucket(request.bucket())
+            .key(request.key())
+            .uploadId("local-" + uploadIds.incrementAndGet())
+            .build());
+    }
+
+    private <T> CompletableFuture<T> respond(Supplier<T> handler) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = random.nextDouble() < tailRate ? roundTripMicros * tailFactor : roundTripMicros;
+        boolean fail = random.nextDouble() < errorRate;
+
+        CompletableFuture<T> response = new CompletableFuture<>();
+        timer.schedule(() -> {
+            if (response.isDone()) {
+                return;
+            }
+            if (fail) {
+                response.completeExceptionally(S3Exception.builder().statusCode(503).message("SlowDown").build());
+                return;
+            }
+            try {
+                response.complete(handler.get());
+            }
+            catch (RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+        }, delay, TimeUnit.MICROSECONDS);
+        return response;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,92 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Dto.UploadPartUrlDto;
+import com.Friday.Backend.Service.S3Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// S3Service 의 presigned URL 생성 (네트워크 없이 SigV4 서명만).
+// 업로드 URL 은 매번 서명하고, 다운로드 URL 은 캐시에서 나간다. downloadBatchUncached 는 목록 한 페이지(20개)를 처음 서명하는 경우.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresignBenchmark {
+
+    private static final String BUCKET = "bench-bucket";
+    private static final int PAGE = 20;
+
+    private S3Presigner presigner;
+    private S3Service s3Service;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        AwsCredentialsProvider credentials = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("AKIABENCHMARK", "benchmark-secret")
+        );
+        presigner = S3Presigner.builder()
+            .region(Region.AP_NORTHEAST_2)
+            .credentialsProvider(credentials)
+            .build();
+        s3Service = new S3Service(presigner, credentials, new SimpleMeterRegistry(),
+            Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofMinutes(5), 1_000_000);
+        s3Service.getDownloadUrl(BUCKET, "bench-user-0001-태극1장.mp4");
+    }
+
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public String uploadUrl() {
+        return s3Service.getUploadUrl(BUCKET, "bench-user-0001-태극1장.mp4");
+    }
+
+    @Benchmark
+    public String downloadUrlCached() {
+        return s3Service.getDownloadUrl(BUCKET, "bench-user-0001-태극1장.mp4");
+    }
+
+    @Benchmark
+    public Map<String, String> downloadBatchUncached() {
+        List<String> objectNames = new ArrayList<>(PAGE);
+        for (int i = 0; i < PAGE; i++) {
+            objectNames.add("bench-user-" + (sequence++) + "-태극1장.mp4");
+        }
+        return s3Service.getDownloadUrls(BUCKET, objectNames);
+    }
+
+    // 멀티파트 업로드 시작 시 내주는 파트 URL 한 묶음 (aws.s3.multipart.url-batch 기본값)
+    @Benchmark
+    public List<UploadPartUrlDto> uploadPartUrls() {
+        return s3Service.getUploadPartUrls(BUCKET, "bench-user-0001-태극1장.mp4", "bench-upload-id", 1, 50);
+    }
+}
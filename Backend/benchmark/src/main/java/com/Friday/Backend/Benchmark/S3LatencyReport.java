@@ -0,0 +1,87 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Service.S3Gateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// java -cp target/benchmarks.jar com.Friday.Backend.Benchmark.S3LatencyReport
+// S3Gateway 를 로컬 S3 대역(왕복 20ms, 5% 는 200ms, 1% 는 503)에 붙여 작업별 p50/p99 를 재교환(hedge) 유무로 비교한다.
+// 값은 S3Gateway 가 남기는 s3.requests 타이머에서 읽는다(성공한 요청 기준).
+public class S3LatencyReport {
+
+    private static final int REQUESTS = 4000;
+    private static final int CONCURRENCY = 64;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("hedge,operation,requests,p50_ms,p99_ms,errors,hedges,hedges_won");
+        for (boolean hedging : new boolean[] { false, true }) {
+            LocalS3AsyncClient s3 = new LocalS3AsyncClient(20_000, 0.05, 10, 0.01);
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            S3Gateway gateway = new S3Gateway(s3, meterRegistry,
+                Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2), Duration.ofSeconds(2),
+                hedging, Duration.ofMillis(40), 50, 20, 0.5, 1000);
+
+            for (int i = 0; i < REQUESTS; i++) {
+                s3.put("video-" + i + ".mp4");
+            }
+
+            run(i -> gateway.headObject("bench", "video-" + i + ".mp4"));
+            run(i -> gateway.deleteObjects("bench", List.of("video-" + i + ".mp4")));
+
+            for (S3Gateway.Operation operation : List.of(S3Gateway.Operation.HEAD, S3Gateway.Operation.DELETE)) {
+                print(meterRegistry, hedging, operation.name());
+            }
+            s3.close();
+        }
+    }
+
+    // 동시에 CONCURRENCY 개까지 보낸다.
+    private static void run(Function<Integer, CompletableFuture<?>> request) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        for (int i = 0; i < REQUESTS; i++) {
+            inFlight.acquire();
+            request.apply(i).whenComplete((value, error) -> inFlight.release());
+        }
+        inFlight.acquire(CONCURRENCY);
+    }
+
+    private static void print(MeterRegistry meterRegistry, boolean hedging, String operation) {
+        Timer success = meterRegistry.get("s3.requests").tag("operation", operation).tag("outcome", "success").timer();
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : success.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.5) {
+                p50 = value.value(TimeUnit.MILLISECONDS);
+            }
+            else if (value.percentile() == 0.99) {
+                p99 = value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+
+        long errors = Search.in(meterRegistry).name("s3.requests").tag("operation", operation).timers().stream()
+            .filter(timer -> !"success".equals(timer.getId().getTag("outcome")))
+            .mapToLong(Timer::count)
+            .sum();
+
+        System.out.printf("%s,%s,%d,%.1f,%.1f,%d,%.0f,%.0f%n",
+            hedging ? "on" : "off",
+            operation,
+            success.count() + errors,
+            p50,
+            p99,
+            errors,
+            meterRegistry.get("s3.hedges").tag("operation", operation).counter().count(),
+            meterRegistry.get("s3.hedges.won").tag("operation", operation).counter().count());
+    }
+}
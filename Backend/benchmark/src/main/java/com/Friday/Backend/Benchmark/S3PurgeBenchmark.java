@@ -0,0 +1,85 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Service.S3BatchDeleter;
+import com.Friday.Backend.Service.S3Gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 사용자 탈퇴 시 영상 keys 개를 지우는 시간. 로컬 S3 대역(요청당 roundTripMicros 지연)에 대해
+// 예전처럼 객체마다 DeleteObject 를 부르는 경우와 S3PurgeService 가 쓰는 DeleteObjects 묶음을 비교한다.
+// 처리량(keys/s) = keys / 결과(ms) × 1000
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class S3PurgeBenchmark {
+
+    @Param({ "100", "1000", "2500" })
+    public int keys;
+
+    @Param({ "2000" })
+    public long roundTripMicros;
+
+    private LocalS3AsyncClient s3;
+    private S3BatchDeleter deleter;
+    private List<String> objectKeys;
+
+    @Setup
+    public void setUp() {
+        s3 = new LocalS3AsyncClient(roundTripMicros, 0, 1, 0);
+        S3Gateway gateway = new S3Gateway(s3, new SimpleMeterRegistry(),
+            Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10),
+            false, Duration.ofSeconds(1), 50, 20, 0.5, 10_000);
+        deleter = new S3BatchDeleter(gateway, S3BatchDeleter.MAX_KEYS_PER_REQUEST);
+        objectKeys = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            objectKeys.add("user-" + (i % 7) + "-" + i + ".mp4");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        objectKeys.forEach(s3::put);
+    }
+
+    @Benchmark
+    public int deleteEach() {
+        for (String key : objectKeys) {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket("bench").key(key).build()).join();
+        }
+        return s3.size();
+    }
+
+    @Benchmark
+    public int deleteBatched() {
+        return deleter.delete("bench", objectKeys).size() + s3.size();
+    }
+}
@@ -0,0 +1,112 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Domain.repository.TokenRevocationRepository;
+import com.Friday.Backend.Security.JwtTokenProvider;
+import com.Friday.Backend.Security.VerifiedToken;
+import com.Friday.Backend.Service.TokenRevocationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 거치는 인증 경로. JwtAuthenticationFilter 의 verify 와 로그인의 createToken, BCrypt 비밀번호 확인.
+// verifyUncached 는 검증 캐시를 끈 provider 에 토큰을 돌려 가며 넣어 매번 서명을 확인한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityBenchmark {
+
+    private static final int TOKENS = 4096;
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    // SecurityConfig 와 같은 기본 강도(10)
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        provider = provider(10_000);
+        uncachedProvider = provider(0);
+
+        token = provider.createToken("bench-user");
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = provider.createToken("bench-user-" + i);
+        }
+        encodedPassword = passwordEncoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken("bench-user");
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        next = (next + 1) % TOKENS;
+        return uncachedProvider.verify(tokens[next]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches("correct horse battery staple", encodedPassword);
+    }
+
+    // 스프링 컨텍스트 없이 @Value 필드를 채운다. 취소 목록은 항상 비어 있다.
+    private static JwtTokenProvider provider(long cacheMaxEntries) {
+        TokenRevocationRepository repository = (TokenRevocationRepository) Proxy.newProxyInstance(
+            TokenRevocationRepository.class.getClassLoader(),
+            new Class<?>[] { TokenRevocationRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByRevokedAtGreaterThanEqual" -> List.of();
+                case "deleteExpired" -> 0;
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        );
+        TokenRevocationService revocations = new TokenRevocationService(repository, 3_600_000L);
+
+        JwtTokenProvider provider = new JwtTokenProvider(revocations, new SimpleMeterRegistry());
+        set(provider, "secret", "benchmark-secret-key-for-hmac-sha256-signing-0123456789");
+        set(provider, "expiration", 3_600_000L);
+        set(provider, "cacheMaxEntries", cacheMaxEntries);
+        provider.init();
+        return provider;
+    }
+
+    private static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
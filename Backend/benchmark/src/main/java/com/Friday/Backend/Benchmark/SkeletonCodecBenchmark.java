@@ -0,0 +1,83 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Dto.SkeletonUploadDto;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkeletonCodecBenchmark {
+
+    // 30fps 기준 10초, 1분, 4분
+    @Param({ "300", "1800", "7200" })
+    public int frames;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SkeletonCodec codec = new SkeletonCodec();
+
+    private String json;
+    private String requestBody;
+    private SkeletonData data;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        json = SkeletonFixtures.json(frames, 42L);
+        requestBody = "{\"videoName\":\"태극1장\",\"fileExtension\":\".mp4\",\"joints\":" + json + "}";
+        data = SkeletonJson.parse(json);
+        encoded = codec.encode(data);
+    }
+
+    // 기존 업로드 경로: JsonNode 바인딩 후 toString()
+    @Benchmark
+    public String uploadJsonTree() throws Exception {
+        return objectMapper.readTree(json).toString();
+    }
+
+    // POST /api/upload/skeleton: 요청 본문을 SkeletonUploadDto 로 바인딩하고 joints 를 문자열로 되돌린다.
+    @Benchmark
+    public String uploadDto() throws Exception {
+        return objectMapper.readValue(requestBody, SkeletonUploadDto.class).getJoints().toString();
+    }
+
+    @Benchmark
+    public byte[] uploadBinary() {
+        return codec.encode(SkeletonJson.parse(json));
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(data);
+    }
+
+    @Benchmark
+    public SkeletonData decode() {
+        return codec.decode(encoded);
+    }
+
+    // 바이너리 행을 기존 FrameDto 의 JSON 문자열로 되돌리는 조회 경로
+    @Benchmark
+    public String readBinaryAsJson() {
+        return SkeletonJson.toJson(codec.decode(encoded));
+    }
+}
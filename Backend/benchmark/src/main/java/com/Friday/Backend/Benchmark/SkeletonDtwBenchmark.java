@@ -0,0 +1,109 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Skeleton.ScalarSkeletonNormalizer;
+import com.Friday.Backend.Skeleton.SkeletonDtw;
+import com.Friday.Backend.Skeleton.SkeletonReference;
+import com.Friday.Backend.Skeleton.SkeletonTemplateLibrary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 60초(30fps, 1800프레임) 시도 하나를 기준 동작과 정렬하는 시간, 여러 시도를 코어 수만큼 병렬로 재채점하는 시간,
+// 그리고 템플릿 24개에 대한 LB_Keogh 가지치기 분류 시간
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkeletonDtwBenchmark {
+
+    static final int FRAMES = 1800;
+    static final int ATTEMPTS = 32;
+    static final int TEMPLATES = 24;
+    static final int FRAME_SIZE = SkeletonFixtures.JOINTS * 2;
+
+    // scoring.dtw.stride (1 = 30fps 그대로, 2 = 15fps, 3 = 10fps)
+    @Param({ "1", "2", "3" })
+    public int stride;
+
+    @Param({ "0.1" })
+    public double bandRatio;
+
+    private float[] reference;
+    private float[][] attempts;
+    private int referenceFrames;
+    private int attemptFrames;
+    private SkeletonTemplateLibrary library;
+
+    private static final ThreadLocal<SkeletonDtw> DTW = ThreadLocal.withInitial(SkeletonDtw::new);
+
+    @Setup
+    public void setUp() {
+        reference = prepare(SkeletonFixtures.motion(FRAMES, 1L), FRAMES);
+        referenceFrames = reference.length / FRAME_SIZE;
+
+        int length = FRAMES * 11 / 10;
+        attempts = new float[ATTEMPTS][];
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attempts[i] = prepare(SkeletonFixtures.motion(length, 100L + i), length);
+        }
+        attemptFrames = attempts[0].length / FRAME_SIZE;
+
+        Map<String, SkeletonReference> templates = new LinkedHashMap<>();
+        templates.put("reference", new SkeletonReference("reference", SkeletonFixtures.JOINTS, FRAME_SIZE, referenceFrames, reference));
+        for (int t = 1; t < TEMPLATES; t++) {
+            float[] values = prepare(SkeletonFixtures.motion(FRAMES, 1000L + t), FRAMES);
+            templates.put("template-" + t, new SkeletonReference("template-" + t, SkeletonFixtures.JOINTS, FRAME_SIZE, values.length / FRAME_SIZE, values));
+        }
+        library = new SkeletonTemplateLibrary(templates, 128, bandRatio);
+    }
+
+    @Benchmark
+    public double single() {
+        return DTW.get().distance(
+            attempts[0], attemptFrames, reference, referenceFrames, FRAME_SIZE, bandRatio, Double.POSITIVE_INFINITY
+        );
+    }
+
+    @Benchmark
+    public double rescoreParallel() {
+        return IntStream.range(0, ATTEMPTS)
+            .parallel()
+            .mapToDouble(i -> DTW.get().distance(
+                attempts[i], attemptFrames, reference, referenceFrames, FRAME_SIZE, bandRatio, Double.POSITIVE_INFINITY
+            ))
+            .sum();
+    }
+
+    @Benchmark
+    public SkeletonTemplateLibrary.Classification classify() {
+        return library.classify(attempts[0], attemptFrames, DTW.get());
+    }
+
+    private float[] prepare(double[] motion, int frames) {
+        float[] src = new float[motion.length];
+        for (int i = 0; i < motion.length; i++) {
+            src[i] = (float) motion[i];
+        }
+        float[] normalized = new float[frames * FRAME_SIZE];
+        new ScalarSkeletonNormalizer().normalize(
+            src, 0, SkeletonFixtures.DIMS, normalized, 0, 2, SkeletonFixtures.JOINTS, frames
+        );
+        return SkeletonDtw.downsample(normalized, frames, FRAME_SIZE, stride);
+    }
+}
@@ -0,0 +1,87 @@
+package com.Friday.Backend.Benchmark;
+
+import java.util.Random;
+
+public final class SkeletonFixtures {
+
+    public static final String[] POSE_LANDMARKS = {
+        "nose", "left_eye_inner", "left_eye", "left_eye_outer",
+        "right_eye_inner", "right_eye", "right_eye_outer",
+        "left_ear", "right_ear", "mouth_left", "mouth_right",
+        "left_shoulder", "right_shoulder", "left_elbow", "right_elbow",
+        "left_wrist", "right_wrist", "left_pinky", "right_pinky",
+        "left_index", "right_index", "left_thumb", "right_thumb",
+        "left_hip", "right_hip", "left_knee", "right_knee",
+        "left_ankle", "right_ankle", "left_heel", "right_heel",
+        "left_foot_index", "right_foot_index"
+    };
+
+    public static final int JOINTS = POSE_LANDMARKS.length;
+    public static final int DIMS = 3;
+    public static final double FPS = 30.0;
+
+    private SkeletonFixtures() {}
+
+    // MediaPipe 출력과 비슷하게 부드러운 궤적 + 측정 잡음을 갖는 [frames][33][3] 좌표
+    public static double[] motion(int frames, long seed) {
+        Random random = new Random(seed);
+        double[] base = new double[JOINTS * DIMS];
+        double[] amplitude = new double[JOINTS * DIMS];
+        double[] frequency = new double[JOINTS * DIMS];
+        double[] phase = new double[JOINTS * DIMS];
+
+        for (int joint = 0; joint < JOINTS; joint++) {
+            double y = 0.1 + 0.8 * joint / (JOINTS - 1);
+            for (int dim = 0; dim < DIMS; dim++) {
+                int i = joint * DIMS + dim;
+                base[i] = switch (dim) {
+                    case 0 -> 0.4 + 0.2 * random.nextDouble();
+                    case 1 -> y;
+                    default -> -0.2 + 0.4 * random.nextDouble();
+                };
+                amplitude[i] = 0.02 + 0.1 * random.nextDouble();
+                frequency[i] = 0.2 + 0.8 * random.nextDouble();
+                phase[i] = 2 * Math.PI * random.nextDouble();
+            }
+        }
+
+        double[] values = new double[frames * JOINTS * DIMS];
+        for (int frame = 0; frame < frames; frame++) {
+            double t = frame / FPS;
+            for (int i = 0; i < JOINTS * DIMS; i++) {
+                values[frame * JOINTS * DIMS + i] = base[i]
+                    + amplitude[i] * Math.sin(2 * Math.PI * frequency[i] * t + phase[i])
+                    + 0.002 * random.nextGaussian();
+            }
+        }
+        return values;
+    }
+
+    // 클라이언트 SkeletonFrame[] 과 같은 [[{"name", "position": [x, y, z]}]] 형식
+    public static String json(int frames, long seed) {
+        double[] values = motion(frames, seed);
+        StringBuilder sb = new StringBuilder(frames * JOINTS * 80);
+
+        sb.append('[');
+        for (int frame = 0; frame < frames; frame++) {
+            if (frame > 0) {
+                sb.append(',');
+            }
+            sb.append('[');
+            for (int joint = 0; joint < JOINTS; joint++) {
+                if (joint > 0) {
+                    sb.append(',');
+                }
+                int i = (frame * JOINTS + joint) * DIMS;
+                sb.append("{\"name\":\"").append(POSE_LANDMARKS[joint]).append("\",\"position\":[")
+                    .append(values[i]).append(',')
+                    .append(values[i + 1]).append(',')
+                    .append(values[i + 2]).append("]}");
+            }
+            sb.append(']');
+        }
+        sb.append(']');
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Dto.FrameDto;
+import com.Friday.Backend.Dto.SkeletonFramesDto;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonFloat32;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// GET /api/skeleton/videos/{videoId} 응답 형식별 직렬화 시간 (디코딩된 프레임 → 응답 바이트)
+// 응답 크기는 SkeletonSizeReport 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkeletonFormatBenchmark {
+
+    @Param({ "300", "1800", "7200" })
+    public int frames;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    private SkeletonData data;
+
+    @Setup
+    public void setUp() {
+        data = SkeletonJson.parse(SkeletonFixtures.json(frames, 42L));
+    }
+
+    // 기본: joints 를 JSON 문자열로 만든 뒤 FrameDto 로 한 번 더 감싼다.
+    @Benchmark
+    public byte[] json() throws Exception {
+        return jsonMapper.writeValueAsBytes(new FrameDto("0001", SkeletonJson.toJson(data), 0, frames));
+    }
+
+    @Benchmark
+    public byte[] smile() throws Exception {
+        return smileMapper.writeValueAsBytes(new SkeletonFramesDto("0001", new SkeletonView(data, 0, frames, null)));
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cborMapper.writeValueAsBytes(new SkeletonFramesDto("0001", new SkeletonView(data, 0, frames, null)));
+    }
+
+    @Benchmark
+    public byte[] float32() {
+        return SkeletonFloat32.encode(data, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Skeleton.ScalarSkeletonNormalizer;
+import com.Friday.Backend.Skeleton.SkeletonNormalizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 점수는 ops/s = frames/s (@OperationsPerInvocation)
+// preferred 는 demo 를 -Pvector 로 설치했을 때만 Vector API 구현이고, 아니면 scalar 와 같다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@OperationsPerInvocation(SkeletonNormalizerBenchmark.FRAMES)
+public class SkeletonNormalizerBenchmark {
+
+    static final int FRAMES = 1800;
+
+    // 3: 저장된 x, y, z 에서 x, y 만 골라 정규화, 2: 이미 2차원인 버퍼
+    @Param({ "2", "3" })
+    public int dims;
+
+    private final SkeletonNormalizer scalar = new ScalarSkeletonNormalizer();
+    private final SkeletonNormalizer preferred = SkeletonNormalizer.create();
+
+    private float[] src;
+    private float[] dst;
+
+    @Setup
+    public void setUp() {
+        double[] motion = SkeletonFixtures.motion(FRAMES, 42L);
+        src = new float[FRAMES * SkeletonFixtures.JOINTS * dims];
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (int joint = 0; joint < SkeletonFixtures.JOINTS; joint++) {
+                for (int dim = 0; dim < dims; dim++) {
+                    src[(frame * SkeletonFixtures.JOINTS + joint) * dims + dim] =
+                        (float) motion[(frame * SkeletonFixtures.JOINTS + joint) * SkeletonFixtures.DIMS + dim];
+                }
+            }
+        }
+        dst = new float[FRAMES * SkeletonFixtures.JOINTS * 2];
+        System.out.println("normalizer: " + preferred.name());
+    }
+
+    @Benchmark
+    public float[] scalar() {
+        scalar.normalize(src, 0, dims, dst, 0, 2, SkeletonFixtures.JOINTS, FRAMES);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] preferred() {
+        preferred.normalize(src, 0, dims, dst, 0, 2, SkeletonFixtures.JOINTS, FRAMES);
+        return dst;
+    }
+}
@@ -0,0 +1,63 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonDecimator;
+import com.Friday.Backend.Skeleton.SkeletonImageRenderer;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 업로드 직후 작업자가 하는 일: LOD 미리보기 키프레임 선택과 썸네일/스프라이트 PNG 생성 (기본 설정값 기준)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkeletonPreviewBenchmark {
+
+    @Param({ "300", "1800", "7200" })
+    public int frames;
+
+    private SkeletonData data;
+    private int[] spriteFrames;
+
+    @Setup
+    public void setUp() {
+        data = SkeletonJson.parse(SkeletonFixtures.json(frames, 42L));
+        spriteFrames = SkeletonDecimator.motionAware(data, 16);
+    }
+
+    // skeleton.lod.ratios 의 lod=2 (1/10)
+    @Benchmark
+    public SkeletonData lodPreview() {
+        return SkeletonDecimator.pick(data, SkeletonDecimator.motionAware(data, Math.max(2, frames / 10)));
+    }
+
+    @Benchmark
+    public byte[] thumbnail() {
+        return SkeletonImageRenderer.toPng(SkeletonImageRenderer.render(data, new int[] { frames / 2 }, 160, 1));
+    }
+
+    @Benchmark
+    public byte[] sprite() {
+        return SkeletonImageRenderer.toPng(SkeletonImageRenderer.render(data, SkeletonDecimator.motionAware(data, 16), 96, 4));
+    }
+
+    @Benchmark
+    public String spriteContentHash() {
+        return SkeletonImageRenderer.contentHash(data, spriteFrames, 96, 4);
+    }
+}
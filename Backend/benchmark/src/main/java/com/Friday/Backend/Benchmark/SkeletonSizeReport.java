@@ -0,0 +1,56 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.Dto.FrameDto;
+import com.Friday.Backend.Dto.SkeletonFramesDto;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonFloat32;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.nio.charset.StandardCharsets;
+
+// java -cp target/benchmarks.jar com.Friday.Backend.Benchmark.SkeletonSizeReport
+public class SkeletonSizeReport {
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SkeletonCodec codec = new SkeletonCodec();
+
+        System.out.println("# 저장 크기");
+        System.out.println("frames,json_bytes,binary_bytes,ratio,bytes_per_frame");
+        for (int frames : new int[] { 300, 1800, 7200 }) {
+            String stored = objectMapper.readTree(SkeletonFixtures.json(frames, 42L)).toString();
+            byte[] encoded = codec.encode(SkeletonJson.parse(stored));
+
+            int jsonBytes = stored.getBytes(StandardCharsets.UTF_8).length;
+            System.out.printf("%d,%d,%d,%.1f,%.1f%n",
+                frames,
+                jsonBytes,
+                encoded.length,
+                (double) jsonBytes / encoded.length,
+                (double) encoded.length / frames);
+        }
+
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+        System.out.println();
+        System.out.println("# 응답 크기 (압축 전)");
+        System.out.println("frames,json_bytes,smile_bytes,cbor_bytes,float32_bytes");
+        for (int frames : new int[] { 300, 1800, 7200 }) {
+            SkeletonData data = SkeletonJson.parse(SkeletonFixtures.json(frames, 42L));
+            SkeletonFramesDto binary = new SkeletonFramesDto("0001", new SkeletonView(data, 0, frames, null));
+
+            System.out.printf("%d,%d,%d,%d,%d%n",
+                frames,
+                objectMapper.writeValueAsBytes(new FrameDto("0001", SkeletonJson.toJson(data), 0, frames)).length,
+                smileMapper.writeValueAsBytes(binary).length,
+                cborMapper.writeValueAsBytes(binary).length,
+                SkeletonFloat32.encode(data, null).length);
+        }
+    }
+}
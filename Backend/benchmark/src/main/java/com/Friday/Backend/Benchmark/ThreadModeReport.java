@@ -0,0 +1,286 @@
+package com.Friday.Backend.Benchmark;
+
+import com.Friday.Backend.SpringApp;
+import com.Friday.Backend.Security.JwtTokenProvider;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// java -cp target/benchmarks.jar com.Friday.Backend.Benchmark.ThreadModeReport [초] [동시 요청 수...]
+// 앱을 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)로 차례로 띄워
+// 업로드/목록/다운로드 URL 엔드포인트의 처리량과 p50/p99 를 비교한다.
+// DB 는 H2(MySQL 모드, 메모리), S3 는 로컬 대역(왕복 20ms)이다. 업로드는 큰 파일로 신고해 멀티파트 시작 요청이 S3 까지 간다.
+// 가상 스레드 모드에서는 JFR 의 jdk.VirtualThreadPinned 이벤트(1ms 이상)를 세어 고정된 곳을 함께 출력한다.
+public class ThreadModeReport {
+
+    private static final int USERS = 64;
+    private static final int SEED_VIDEOS_PER_USER = 20;
+    private static final long LARGE_FILE = 100L << 20;
+    private static final String JOINTS = "[[[0.1,1.7,0.0],[0.2,1.4,0.0]],[[0.1,1.7,0.0],[0.2,1.5,0.0]]]";
+    private static final Pattern OBJECT_NAME = Pattern.compile("\"objectName\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int[] concurrencies = args.length > 1
+            ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+            : new int[] { 64, 512 };
+
+        // presigner 가 쓰는 기본 자격 증명 체인이 시스템 속성에서 찾는다.
+        System.setProperty("aws.accessKeyId", "AKIALOCALBENCH");
+        System.setProperty("aws.secretAccessKey", "local-bench-secret");
+
+        System.out.println("mode,endpoint,concurrency,requests,throughput_rps,p50_ms,p99_ms,errors,pinned");
+        for (boolean virtualThreads : new boolean[] { false, true }) {
+            run(virtualThreads, seconds, concurrencies);
+        }
+    }
+
+    private static void run(boolean virtualThreads, int seconds, int[] concurrencies) throws Exception {
+        LocalS3AsyncClient s3 = new LocalS3AsyncClient(20_000, 0, 1, 0);
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = start(virtualThreads, s3);
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder()
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            String[] tokens = new String[USERS];
+            for (int user = 0; user < USERS; user++) {
+                tokens[user] = context.getBean(JwtTokenProvider.class).createToken("thread-mode-user-" + user);
+            }
+            Api api = new Api(http, "http://localhost:" + port, tokens);
+
+            // 목록과 다운로드가 읽을 영상. 작은 파일이라 바로 objectName 이 저장된다.
+            List<List<String>> videoIds = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < SEED_VIDEOS_PER_USER; i++) {
+                    ids.add(api.upload(user, null));
+                }
+                videoIds.add(ids);
+            }
+
+            Map<String, IntFunction<HttpRequest>> endpoints = new TreeMap<>();
+            endpoints.put("upload", client -> api.uploadRequest(client % USERS, LARGE_FILE));
+            endpoints.put("list", client -> api.get(client % USERS, "/api/videos?size=20"));
+            endpoints.put("download", client -> {
+                List<String> ids = videoIds.get(client % USERS);
+                return api.get(client % USERS, "/api/download/videos/" + ids.get((int) (System.nanoTime() % ids.size())));
+            });
+
+            for (Map.Entry<String, IntFunction<HttpRequest>> endpoint : endpoints.entrySet()) {
+                for (int concurrency : concurrencies) {
+                    // 워밍업
+                    load(http, endpoint.getValue(), concurrency, Duration.ofSeconds(1));
+
+                    List<RecordedEvent> pinned = new ArrayList<>();
+                    Result result;
+                    try (RecordingStream recording = new RecordingStream()) {
+                        recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+                        recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                            synchronized (pinned) {
+                                pinned.add(event);
+                            }
+                        });
+                        recording.startAsync();
+                        result = load(http, endpoint.getValue(), concurrency, Duration.ofSeconds(seconds));
+                        recording.stop();
+                    }
+
+                    System.out.printf("%s,%s,%d,%d,%.0f,%.1f,%.1f,%d,%d%n",
+                        mode, endpoint.getKey(), concurrency, result.requests(), result.throughput(),
+                        result.percentileMillis(0.5), result.percentileMillis(0.99), result.errors(), pinned.size());
+                    printPinnedSites(pinned);
+                }
+            }
+        }
+        finally {
+            s3.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads, LocalS3AsyncClient s3) {
+        return new SpringApplicationBuilder(SpringApp.class)
+            // 실제 S3 클라이언트 대신 로컬 대역을 주입한다.
+            .initializers(context -> ((GenericApplicationContext) context)
+                .registerBean("localS3AsyncClient", S3AsyncClient.class, () -> s3, definition -> definition.setPrimary(true)))
+            // application.properties 보다 우선하도록 명령행 인자로 넘긴다.
+            .run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:thread-mode-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--aws.s3.bucket-name=bench-bucket",
+                "--aws.kms.key-arn=bench-key",
+                "--aws.region=ap-northeast-2",
+                "--jwt.key=thread-mode-report-secret-key-0123456789abcdef",
+                "--jwt.expiration=3600000",
+                "--s3.purge.enabled=false",
+                "--aws.s3.multipart.reaper.enabled=false",
+                "--logging.level.root=ERROR"
+            );
+    }
+
+    // concurrency 개의 가상 스레드가 응답을 받는 즉시 다음 요청을 보낸다 (닫힌 루프).
+    private static Result load(HttpClient http, IntFunction<HttpRequest> request, int concurrency, Duration duration)
+        throws InterruptedException {
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int client = 0; client < concurrency; client++) {
+            int id = client;
+            threads.add(Thread.ofVirtual().start(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request.apply(id), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.increment();
+                            continue;
+                        }
+                    }
+                    catch (Exception e) {
+                        errors.increment();
+                        continue;
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[id] = samples;
+                counts[id] = count;
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int client = 0; client < concurrency; client++) {
+            System.arraycopy(latencies[client], 0, all, offset, counts[client]);
+            offset += counts[client];
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.sum(), duration);
+    }
+
+    // 고정이 생긴 곳: 스택에서 java.* / jdk.* 가 아닌 첫 프레임별 횟수
+    private static void printPinnedSites(List<RecordedEvent> pinned) {
+        Map<String, AtomicLong> sites = new ConcurrentHashMap<>();
+        for (RecordedEvent event : pinned) {
+            String site = "unknown";
+            if (event.getStackTrace() != null) {
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    String type = frame.getMethod().getType().getName();
+                    if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                        site = type + "." + frame.getMethod().getName();
+                        break;
+                    }
+                }
+            }
+            sites.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        }
+        sites.forEach((site, count) -> System.out.println("#   pinned " + count + "x at " + site));
+    }
+
+    private record Result(long[] sortedNanos, long errors, Duration duration) {
+
+        int requests() {
+            return sortedNanos.length;
+        }
+
+        double throughput() {
+            return sortedNanos.length / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(percentile * sortedNanos.length) - 1);
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private record Api(HttpClient http, String baseUrl, String[] tokens) {
+
+        String token(int user) {
+            return tokens[user];
+        }
+
+        HttpRequest get(int user, String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token(user))
+                .GET()
+                .build();
+        }
+
+        HttpRequest uploadRequest(int user, Long fileSize) {
+            String body = "{\"videoName\":\"bench\",\"fileExtension\":\".mp4\",\"joints\":" + JOINTS
+                + (fileSize != null ? ",\"fileSize\":" + fileSize : "") + "}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/upload/skeleton"))
+                .header("Authorization", "Bearer " + token(user))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+
+        // 업로드하고 새 영상의 videoId 를 돌려준다. 응답의 objectName 이 "userId-videoId-영상이름.확장자" 이므로 거기서 꺼낸다.
+        String upload(int user, Long fileSize) throws Exception {
+            HttpResponse<String> response = http.send(uploadRequest(user, fileSize), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("업로드 실패: " + response.statusCode() + " " + response.body());
+            }
+            Matcher matcher = OBJECT_NAME.matcher(response.body());
+            String prefix = "thread-mode-user-" + user + "-";
+            String suffix = "-bench.mp4";
+            if (!matcher.find() || !matcher.group(1).startsWith(prefix) || !matcher.group(1).endsWith(suffix)) {
+                throw new IllegalStateException("응답에서 videoId 를 찾을 수 없습니다: " + response.body());
+            }
+            return matcher.group(1).substring(prefix.length(), matcher.group(1).length() - suffix.length());
+        }
+    }
+}
@@ -3,21 +3,54 @@ package com.Friday.Backend.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
 
     @Value("${aws.region}")
     private String region;
 
+    // 클라이언트와 presigner 가 같은 자격 증명을 쓰고, S3Service 가 presign 캐시 키로 자격 증명 세대를 확인한다.
+    @Bean
+    public AwsCredentialsProvider awsCredentialsProvider() {
+        return DefaultCredentialsProvider.builder().build();
+    }
+
+    // 비동기 클라이언트만 둔다. 작업별 기한/차단기/재요청은 S3Gateway 에서 한다.
+    // 결과를 join 하는 호출자는 요청 스레드에서 기다리므로, 플랫폼 스레드 모드에서는 그동안 Tomcat 스레드 하나를 잡는다.
+    // 여기 기한은 S3Gateway 를 거치지 않는 호출까지 포함한 상한
+    // 가상 스레드 모드에서는 응답 future 를 완료하는 콜백도 SDK 의 고정 스레드 풀 대신 가상 스레드에서 돈다.
     @Bean
-    public S3Client s3Client() {
-        return S3Client.builder()
+    public S3AsyncClient s3AsyncClient(
+        AwsCredentialsProvider credentialsProvider,
+        @Value("${aws.s3.api-call-timeout:30s}") Duration apiCallTimeout,
+        @Value("${aws.s3.api-call-attempt-timeout:10s}") Duration apiCallAttemptTimeout,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return S3AsyncClient.builder()
         .region(Region.of(region))
+        .asyncConfiguration(configuration -> {
+            if (virtualThreads) {
+                configuration.advancedOption(
+                    SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-completion-", 0).factory())
+                );
+            }
+        })
+        .credentialsProvider(credentialsProvider)
+        .overrideConfiguration(configuration -> configuration
+            .apiCallTimeout(apiCallTimeout)
+            .apiCallAttemptTimeout(apiCallAttemptTimeout))
         .serviceConfiguration(
             S3Configuration.builder()
             .pathStyleAccessEnabled(false)
@@ -28,9 +61,10 @@ public class S3Config {
         }
 
     @Bean
-    public S3Presigner s3Presigner() {
+    public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider) {
         return S3Presigner.builder()
         .region(Region.of(region))
+        .credentialsProvider(credentialsProvider)
         .serviceConfiguration(
             S3Configuration.builder()
             .pathStyleAccessEnabled(false)
@@ -39,4 +73,4 @@ public class S3Config {
             )
             .build();
         }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.Friday.Backend.Config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,8 +26,15 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    // 교차 출처 요청을 허용할 출처. 비어 있으면 같은 출처만 (WebSocketConfig 도 같은 목록을 쓴다)
+    private final String[] allowedOrigins;
+
+    public SecurityConfig(
+        JwtAuthenticationFilter jwtAuthenticationFilter,
+        @Value("${cors.allowed-origins:}") String[] allowedOrigins
+    ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.allowedOrigins = allowedOrigins;
     }
 
     @Bean
@@ -35,9 +44,16 @@ public class SecurityConfig {
         .cors(cors -> cors.configurationSource(request -> {
             CorsConfiguration cfg = new CorsConfiguration();
             //cfg.setAllowedOrigins(List.of("http://localhost:8080", "http://127.0.0.1:5500"));
-            cfg.setAllowedOrigins(null);
+            cfg.setAllowedOrigins(allowedOrigins.length == 0 ? null : List.of(allowedOrigins));
             cfg.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
             cfg.setAllowedHeaders(List.of("*"));
+            // 클라이언트가 읽는 응답 헤더: float32 스켈레톤 구조 정보, ETag, 목록 다음 페이지 커서, 스프라이트 칸 배치
+            cfg.setExposedHeaders(List.of(
+                "X-Skeleton-Frame-Count", "X-Skeleton-Joint-Count", "X-Skeleton-Dims", "X-Skeleton-Layout",
+                "X-Skeleton-Start-Frame", "X-Skeleton-Total-Frames", "X-Skeleton-Joint-Names",
+                "X-Skeleton-Dim-Names", "X-Skeleton-Index-Offset", "ETag", "X-Next-Cursor",
+                "X-Sprite-Cell-Size", "X-Sprite-Columns", "X-Sprite-Frames"
+            ));
             cfg.setAllowCredentials(true);
             return cfg;
         }))
@@ -46,6 +62,11 @@ public class SecurityConfig {
             .requestMatchers("/auth/login", "/auth/signup", "/auth/check/**").permitAll()
             .requestMatchers("/test_4.html", "/favicon.ico").permitAll()
             .requestMatchers("/error").permitAll()
+            .requestMatchers("/actuator/health").permitAll()
+            // SSE 응답이 끝날 때의 async 디스패치. 최초 요청에서 이미 인증됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+            // WebSocket 핸드셰이크는 JwtHandshakeInterceptor에서 인증
+            .requestMatchers("/ws/skeleton").permitAll()
             .anyRequest().authenticated()
             )
             .exceptionHandling(ex -> ex
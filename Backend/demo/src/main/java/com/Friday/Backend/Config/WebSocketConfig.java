@@ -0,0 +1,37 @@
+package com.Friday.Backend.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.Friday.Backend.Controller.SkeletonWebSocketHandler;
+import com.Friday.Backend.Security.JwtHandshakeInterceptor;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final SkeletonWebSocketHandler skeletonWebSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    // REST CORS 와 같은 목록. 비어 있으면 같은 출처의 핸드셰이크만 받는다.
+    @Value("${cors.allowed-origins:}")
+    private String[] allowedOrigins;
+
+    public WebSocketConfig(
+        SkeletonWebSocketHandler skeletonWebSocketHandler,
+        JwtHandshakeInterceptor jwtHandshakeInterceptor
+    ) {
+        this.skeletonWebSocketHandler = skeletonWebSocketHandler;
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(skeletonWebSocketHandler, "/ws/skeleton")
+            .addInterceptors(jwtHandshakeInterceptor)
+            .setAllowedOrigins(allowedOrigins);
+    }
+}
@@ -41,6 +41,15 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        authService.logout(authenticatedUserId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/users")
     public ResponseEntity<Void> deleteUser() {
         String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
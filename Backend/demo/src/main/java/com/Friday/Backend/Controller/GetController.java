@@ -2,60 +2,408 @@ package com.Friday.Backend.Controller;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.Friday.Backend.Domain.db.SkeletonImage;
+import com.Friday.Backend.Dto.ClassificationResultDto;
 import com.Friday.Backend.Dto.DownloadUrlDto;
 import com.Friday.Backend.Dto.FrameDto;
+import com.Friday.Backend.Dto.ScoringJobDto;
+import com.Friday.Backend.Dto.SkeletonFramesDto;
+import com.Friday.Backend.Dto.TemplateLibraryStatusDto;
+import com.Friday.Backend.Dto.UploadPartUrlDto;
+import com.Friday.Backend.Dto.UploadSessionStatusDto;
 import com.Friday.Backend.Dto.VideoListDto;
+import com.Friday.Backend.Dto.VideoPageDto;
 import com.Friday.Backend.Service.EstimateService;
+import com.Friday.Backend.Service.MultipartUploadService;
+import com.Friday.Backend.Service.ScoringJobService;
+import com.Friday.Backend.Service.SkeletonImageService;
 import com.Friday.Backend.Service.UploadService;
+import com.Friday.Backend.Service.UploadSessionService;
 import com.Friday.Backend.Service.VideoService;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonFloat32;
+import com.Friday.Backend.Skeleton.SkeletonSelection;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+import com.Friday.Backend.Skeleton.SkeletonView;
 
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api")
 public class GetController {
 
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+    public static final String FLOAT32_MEDIA_TYPE = "application/x-skeleton-float32";
+
+    // 브라우저가 저장은 하되 매번 ETag 로 재검증하게 한다 (Spring Security 기본값은 no-store).
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // 스켈레톤 이미지는 업로드 뒤 바뀌지 않으므로 재검증 없이 오래 쓴다. 다른 사용자와 공유되는 캐시에는 두지 않는다.
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final UploadService uploadService;
     private final EstimateService estimateService;
     private final VideoService videoService;
+    private final UploadSessionService uploadSessionService;
+    private final ScoringJobService scoringJobService;
+    private final MultipartUploadService multipartUploadService;
+    private final SkeletonImageService skeletonImageService;
 
     private final String bucket;
+    private final int fps;
+    private final int maxBatchIds;
+    private final int defaultPageSize;
 
     public GetController(
         UploadService uploadService,
         EstimateService estimateService,
         VideoService videoService,
-        @Value("${aws.s3.bucket-name}") String bucket
+        UploadSessionService uploadSessionService,
+        ScoringJobService scoringJobService,
+        MultipartUploadService multipartUploadService,
+        SkeletonImageService skeletonImageService,
+        @Value("${aws.s3.bucket-name}") String bucket,
+        @Value("${skeleton.fps:30}") int fps,
+        @Value("${aws.s3.presign.max-batch:100}") int maxBatchIds,
+        @Value("${video.list.page-size:50}") int defaultPageSize
     ) {
         this.uploadService = uploadService;
         this.estimateService = estimateService;
         this.videoService = videoService;
+        this.uploadSessionService = uploadSessionService;
+        this.scoringJobService = scoringJobService;
+        this.multipartUploadService = multipartUploadService;
+        this.skeletonImageService = skeletonImageService;
         this.bucket = bucket;
+        this.fps = fps;
+        this.maxBatchIds = maxBatchIds;
+        this.defaultPageSize = defaultPageSize;
     }
 
     @GetMapping("/skeleton/videos/{videoId}")
-    public ResponseEntity<FrameDto> getSkeleton(@PathVariable String videoId) {
+    public ResponseEntity<FrameDto> getSkeleton(
+        @PathVariable String videoId,
+        @RequestParam(required = false) Integer from,
+        @RequestParam(required = false) Integer to,
+        @RequestParam(required = false) Long startMs,
+        @RequestParam(required = false) Long endMs,
+        @RequestParam(required = false) List<String> joints,
+        @RequestParam(defaultValue = "0") int lod,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+        SkeletonSelection selection = parseSelection(from, to, startMs, endMs, joints);
 
-        FrameDto frameDto = uploadService.getSkeleton(authenticatedUserId, videoId);
+        String etag = skeletonETag(authenticatedUserId, videoId, "json", selection, lod);
+        if (etag == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        FrameDto frameDto;
+        try {
+            frameDto = uploadService.getSkeleton(authenticatedUserId, videoId, selection, lod);
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
 
         if (frameDto == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(frameDto);
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(frameDto);
+    }
+
+    // Accept: application/x-jackson-smile 또는 application/cbor → 숫자 배열 그대로 인코딩한 SkeletonFramesDto
+    @GetMapping(
+        value = "/skeleton/videos/{videoId}",
+        produces = { SMILE_MEDIA_TYPE, MediaType.APPLICATION_CBOR_VALUE }
+    )
+    public ResponseEntity<SkeletonFramesDto> getSkeletonFrames(
+        @PathVariable String videoId,
+        @RequestParam(required = false) Integer from,
+        @RequestParam(required = false) Integer to,
+        @RequestParam(required = false) Long startMs,
+        @RequestParam(required = false) Long endMs,
+        @RequestParam(required = false) List<String> joints,
+        @RequestParam(defaultValue = "0") int lod,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+        SkeletonSelection selection = parseSelection(from, to, startMs, endMs, joints);
+
+        // Smile 과 CBOR 가 같은 핸들러라 Accept 값까지 ETag 에 넣는다.
+        String etag = skeletonETag(authenticatedUserId, videoId, acceptTag(accept), selection, lod);
+        if (etag == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        SkeletonView view = readSkeletonView(authenticatedUserId, videoId, selection, lod);
+        if (view == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(new SkeletonFramesDto(videoId, view));
+    }
+
+    // Accept: application/x-skeleton-float32 → 리틀 엔디언 float32 버퍼. 브라우저에서 new Float32Array(body) 로 바로 쓴다.
+    // 구조는 X-Skeleton-* 헤더로, lod 키프레임 번호는 X-Skeleton-Index-Offset 위치부터 float32 로 이어 붙인다.
+    @GetMapping(value = "/skeleton/videos/{videoId}", produces = FLOAT32_MEDIA_TYPE)
+    public ResponseEntity<byte[]> getSkeletonFloat32(
+        @PathVariable String videoId,
+        @RequestParam(required = false) Integer from,
+        @RequestParam(required = false) Integer to,
+        @RequestParam(required = false) Long startMs,
+        @RequestParam(required = false) Long endMs,
+        @RequestParam(required = false) List<String> joints,
+        @RequestParam(defaultValue = "0") int lod,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+        SkeletonSelection selection = parseSelection(from, to, startMs, endMs, joints);
+
+        String etag = skeletonETag(authenticatedUserId, videoId, "f32", selection, lod);
+        if (etag == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        SkeletonView view = readSkeletonView(authenticatedUserId, videoId, selection, lod);
+        if (view == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SkeletonData data = view.getData();
+        SkeletonShape shape = data.getShape();
+        int valueCount = data.getFrameCount() * shape.getFrameSize();
+        int[] indices = view.getFrameIndices();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(FLOAT32_MEDIA_TYPE))
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .header("X-Skeleton-Frame-Count", String.valueOf(data.getFrameCount()))
+            .header("X-Skeleton-Joint-Count", String.valueOf(shape.getJointCount()))
+            .header("X-Skeleton-Dims", String.valueOf(shape.getDims()))
+            .header("X-Skeleton-Layout", shape.getLayout().name())
+            .header("X-Skeleton-Start-Frame", String.valueOf(view.getStartFrame()));
+        if (view.getTotalFrames() != null) {
+            response.header("X-Skeleton-Total-Frames", String.valueOf(view.getTotalFrames()));
+        }
+        if (shape.getJointNames() != null) {
+            response.header("X-Skeleton-Joint-Names", encodeNames(shape.getJointNames()));
+        }
+        if (shape.getDimNames() != null) {
+            response.header("X-Skeleton-Dim-Names", encodeNames(shape.getDimNames()));
+        }
+        if (indices != null) {
+            response.header("X-Skeleton-Index-Offset", String.valueOf(valueCount));
+        }
+
+        return response.body(SkeletonFloat32.encode(data, indices));
+    }
+
+    // 목록 화면용 스틱 피겨 PNG (가운데 프레임 한 장)
+    @GetMapping(value = "/skeleton/videos/{videoId}/thumbnail", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getSkeletonThumbnail(
+        @PathVariable String videoId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return skeletonImage(videoId, SkeletonImage.Kind.THUMBNAIL, ifNoneMatch);
+    }
+
+    // 키프레임 스프라이트 시트. 칸은 X-Sprite-Cell-Size 픽셀 정사각형이고 왼쪽 위부터 X-Sprite-Columns 개씩 채운다.
+    // 칸마다 원본 프레임 번호는 X-Sprite-Frames 에 쉼표로 이어 준다.
+    @GetMapping(value = "/skeleton/videos/{videoId}/sprite", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getSkeletonSprite(
+        @PathVariable String videoId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return skeletonImage(videoId, SkeletonImage.Kind.SPRITE, ifNoneMatch);
+    }
+
+    private ResponseEntity<byte[]> skeletonImage(String videoId, SkeletonImage.Kind kind, String ifNoneMatch) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        SkeletonImageService.ImageInfo image = skeletonImageService.getImage(authenticatedUserId, videoId, kind);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = "\"i" + image.contentHash() + "\"";
+        if (isNotModified(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
+
+        byte[] png = skeletonImageService.readPng(image.contentHash());
+        if (png == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StringBuilder frames = new StringBuilder();
+        for (int frame : image.frameIndices()) {
+            if (frames.length() > 0) {
+                frames.append(',');
+            }
+            frames.append(frame);
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.IMAGE_PNG)
+            .eTag(etag)
+            .cacheControl(IMMUTABLE)
+            .header("X-Sprite-Cell-Size", String.valueOf(image.cellSize()))
+            .header("X-Sprite-Columns", String.valueOf(image.columns()))
+            .header("X-Sprite-Frames", frames.toString())
+            .body(png);
+    }
+
+    private SkeletonView readSkeletonView(String userId, String videoId, SkeletonSelection selection, int lod) {
+        try {
+            return uploadService.getSkeletonView(userId, videoId, selection, lod);
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // 스켈레톤은 업로드가 끝나면 바뀌지 않으므로 저장 버전(프레임PK.프레임수)과 조회 조건만으로 강한 ETag 를 만든다.
+    // 버전 조회는 LOB 를 읽지 않는다. 영상이 없거나 권한이 없으면 null
+    private String skeletonETag(String userId, String videoId, String format, SkeletonSelection selection, int lod) {
+        String version = uploadService.getSkeletonVersion(userId, videoId);
+        if (version == null) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder("\"s").append(version).append('.').append(format).append('.').append(lod);
+        if (!selection.isFullRange()) {
+            tag.append('.').append(selection.getFromFrame()).append('-').append(selection.getToFrame());
+        }
+        if (selection.getJoints() != null) {
+            tag.append('.').append(Integer.toHexString(String.join(",", selection.getJoints()).hashCode()));
+        }
+        return tag.append('"').toString();
+    }
+
+    private static String acceptTag(String accept) {
+        return "a" + Integer.toHexString(Objects.hashCode(accept));
+    }
+
+    // If-None-Match 는 약한 비교: W/ 접두사는 무시하고, * 는 항상 일치
+    private static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .build();
+    }
+
+    // 헤더에는 ASCII 만 쓸 수 있으므로 이름마다 URL 인코딩 후 쉼표로 잇는다.
+    private static String encodeNames(String[] names) {
+        StringBuilder joined = new StringBuilder();
+        for (String name : names) {
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(URLEncoder.encode(name, StandardCharsets.UTF_8));
+        }
+        return joined.toString();
+    }
+
+    private SkeletonSelection parseSelection(Integer from, Integer to, Long startMs, Long endMs, List<String> joints) {
+        try {
+            return toSelection(from, to, startMs, endMs, joints);
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // from/to 는 프레임 번호 [from, to), startMs/endMs 는 skeleton.fps 기준 시간. 둘 다 없으면 전체
+    private SkeletonSelection toSelection(Integer from, Integer to, Long startMs, Long endMs, List<String> joints) {
+        int fromFrame = from != null ? from : startMs != null ? (int) (startMs * fps / 1000) : 0;
+        int toFrame = to != null ? to : endMs != null ? (int) Math.min(Integer.MAX_VALUE, (endMs * fps + 999) / 1000) : Integer.MAX_VALUE;
+
+        return new SkeletonSelection(fromFrame, toFrame, joints);
+    }
+
+    // 중단된 클라이언트는 nextSequence부터 다시 전송하면 된다.
+    @GetMapping("/upload/skeleton/sessions/{sessionId}")
+    public ResponseEntity<UploadSessionStatusDto> getUploadSession(@PathVariable String sessionId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(new UploadSessionStatusDto(uploadSessionService.getSession(authenticatedUserId, sessionId)));
+    }
+
+    // 첫 응답에 없던 파트나 만료된 URL 을 다시 받는다. count 는 서버 설정(url-batch)까지만 반영된다.
+    @GetMapping("/upload/videos/{videoId}/multipart/parts")
+    public ResponseEntity<List<UploadPartUrlDto>> getMultipartPartUrls(
+        @PathVariable String videoId,
+        @RequestParam(defaultValue = "1") int from,
+        @RequestParam(defaultValue = "50") int count
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(multipartUploadService.getPartUrls(authenticatedUserId, videoId, from, count));
     }
 
     @GetMapping("/score/videos/{videoId}")
@@ -70,14 +418,66 @@ public class GetController {
 
         return ResponseEntity.ok(score);
     }
+
+    @GetMapping("/score/videos/{videoId}/jobs")
+    public ResponseEntity<ScoringJobDto> getScoringJob(@PathVariable String videoId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(scoringJobService.getJob(authenticatedUserId, videoId));
+    }
+
+    @GetMapping(value = "/score/videos/{videoId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeScoringJob(@PathVariable String videoId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return scoringJobService.subscribe(authenticatedUserId, videoId);
+    }
+
+    @GetMapping("/score/videos/{videoId}/classification")
+    public ResponseEntity<ClassificationResultDto> classifyVideo(@PathVariable String videoId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(estimateService.classify(authenticatedUserId, videoId));
+    }
+
+    @GetMapping("/score/templates")
+    public ResponseEntity<TemplateLibraryStatusDto> getTemplateStatus() {
+        return ResponseEntity.ok(estimateService.getTemplateStatus());
+    }
     
+    // 목록 버전은 업로드/삭제/점수 변경 때 올라간다. 버전을 목록보다 먼저 읽어야 그 사이 변경이 다음 요청에서 드러난다.
+    // size 나 cursor 를 주면 최신순으로 한 페이지만 주고, 다음 페이지 커서는 X-Next-Cursor 헤더로 준다.
     @GetMapping("/videos")
-    public ResponseEntity<List<VideoListDto>> getVideoList() {
+    public ResponseEntity<List<VideoListDto>> getVideoList(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
         String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+        boolean paged = cursor != null || size != null;
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        List<VideoListDto> videos = videoService.getAllVideosByUser(authenticatedUserId);
+        String etag = "\"l" + videoService.getVideoListVersion(authenticatedUserId) + "." + acceptTag(accept)
+            + (paged ? "." + pageSize + "." + Integer.toHexString(Objects.hashCode(cursor)) : "") + "\"";
+        if (isNotModified(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT);
+
+        if (!paged) {
+            return response.body(videoService.getAllVideosByUser(authenticatedUserId));
+        }
 
-        return ResponseEntity.ok(videos);
+        VideoPageDto page = videoService.getVideoPage(authenticatedUserId, cursor, pageSize);
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getVideos());
     }
 
     @DeleteMapping("/videos/{videoId}")
@@ -93,6 +493,23 @@ public class GetController {
         }
     }
 
+    // 목록 화면에서 영상마다 따로 요청하지 않도록 ?videoIds=0001,0002 로 한 번에 받는다.
+    @GetMapping("/download/videos")
+    public ResponseEntity<List<DownloadUrlDto>> getDownloadUrls(@RequestParam List<String> videoIds) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        if (videoIds.size() > maxBatchIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + maxBatchIds + "개까지 요청할 수 있습니다.");
+        }
+
+        try {
+            return ResponseEntity.ok(uploadService.createDownloadUrls(authenticatedUserId, videoIds, bucket));
+        }
+        catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "다운로드 URL 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
     @GetMapping("/download/videos/{videoId}")
     public ResponseEntity<DownloadUrlDto> getDownloadUrl(@PathVariable String videoId) {
         String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
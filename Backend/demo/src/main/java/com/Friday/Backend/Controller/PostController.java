@@ -1,42 +1,69 @@
 package com.Friday.Backend.Controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.Friday.Backend.Domain.db.UploadSession;
 import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Dto.MultipartCompleteDto;
+import com.Friday.Backend.Dto.ScoreResultDto;
 import com.Friday.Backend.Dto.ScoreUploadDto;
+import com.Friday.Backend.Dto.ScoringJobDto;
 import com.Friday.Backend.Dto.SkeletonUploadDto;
+import com.Friday.Backend.Dto.UploadSessionDto;
+import com.Friday.Backend.Dto.UploadSessionStatusDto;
 import com.Friday.Backend.Dto.UploadUrlDto;
 import com.Friday.Backend.Service.EstimateService;
+import com.Friday.Backend.Service.MultipartUploadService;
+import com.Friday.Backend.Service.ScoringJobService;
 import com.Friday.Backend.Service.UploadService;
+import com.Friday.Backend.Service.UploadSessionService;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 public class PostController {
 
     private final UploadService uploadService;
     private final EstimateService estimateService;
+    private final UploadSessionService uploadSessionService;
+    private final ScoringJobService scoringJobService;
+    private final MultipartUploadService multipartUploadService;
 
     @Value("${aws.s3.bucket-name}")
     private String bucket;
 
     public PostController(
         UploadService uploadService,
-        EstimateService estimateService
+        EstimateService estimateService,
+        UploadSessionService uploadSessionService,
+        ScoringJobService scoringJobService,
+        MultipartUploadService multipartUploadService
     ) {
         this.uploadService = uploadService;
         this.estimateService = estimateService;
+        this.uploadSessionService = uploadSessionService;
+        this.scoringJobService = scoringJobService;
+        this.multipartUploadService = multipartUploadService;
     }
 
     @PostMapping("/upload/skeleton")
@@ -51,21 +78,143 @@ public class PostController {
                 requestDto.getJoints().toString()
             );
 
-            String objectName = authenticatedUserId + "-" + video.getVideoId() + "-" + requestDto.getVideoName() + requestDto.getFileExtension();
+            return ResponseEntity.ok(createUploadResponse(
+                authenticatedUserId, video, requestDto.getVideoName(), requestDto.getFileExtension(), requestDto.getFileSize()
+            ));
 
-            String uploadUrl = uploadService
-                .createUploadUrl(authenticatedUserId, video.getVideoId(), bucket, objectName)
-                .getUploadUrl();
+        }
+        catch (ResponseStatusException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 처리 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            UploadUrlDto response = new UploadUrlDto(bucket, objectName, uploadUrl);
-            return ResponseEntity.ok(response);
+    // 요청 본문은 joints 배열 자체이며, JsonNode 트리로 바인딩하지 않고 토큰 단위로 읽어 바로 저장한다.
+    @PostMapping(value = "/upload/skeleton/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UploadUrlDto> uploadSkeletonStream(
+        @RequestParam String videoName,
+        @RequestParam String fileExtension,
+        @RequestParam(required = false) Long fileSize,
+        HttpServletRequest request
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
 
+        if (videoName.isBlank() || fileExtension.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "videoName과 fileExtension은 필수 항목입니다.");
+        }
+
+        try {
+            Video video = uploadService.uploadSkeletonStream(authenticatedUserId, videoName, request.getInputStream());
+
+            return ResponseEntity.ok(createUploadResponse(authenticatedUserId, video, videoName, fileExtension, fileSize));
+        }
+        catch (ResponseStatusException e) {
+            throw e;
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "joints 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+        catch (JsonProcessingException e) {
+            // 잘린 본문, 닫히지 않은 배열 등 JSON 문법 오류
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage(), e);
         }
         catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 처리 중 오류가 발생했습니다.", e);
         }
     }
 
+    @PostMapping("/upload/skeleton/sessions")
+    public ResponseEntity<UploadSessionStatusDto> openUploadSession(@Valid @RequestBody UploadSessionDto requestDto) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        UploadSession session = uploadSessionService.openSession(
+            authenticatedUserId,
+            requestDto.getVideoName(),
+            requestDto.getFileExtension()
+        );
+
+        return ResponseEntity.ok(new UploadSessionStatusDto(session));
+    }
+
+    // 본문은 프레임 배열 한 묶음. 같은 sequence로 재전송하면 저장 없이 현재 상태를 돌려준다.
+    @PostMapping(value = "/upload/skeleton/sessions/{sessionId}/chunks/{sequence}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UploadSessionStatusDto> appendUploadChunk(
+        @PathVariable String sessionId,
+        @PathVariable int sequence,
+        HttpServletRequest request
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        try {
+            UploadSession session = uploadSessionService.appendChunk(
+                authenticatedUserId,
+                sessionId,
+                sequence,
+                request.getInputStream()
+            );
+
+            return ResponseEntity.ok(new UploadSessionStatusDto(session));
+        }
+        catch (ResponseStatusException e) {
+            throw e;
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "joints 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+        catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage(), e);
+        }
+        catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 청크가 동시에 전송되었습니다. 세션 상태를 확인 후 다시 시도해 주세요.", e);
+        }
+        catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "청크 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @PostMapping("/upload/skeleton/sessions/{sessionId}/commit")
+    public ResponseEntity<UploadUrlDto> commitUploadSession(
+        @PathVariable String sessionId,
+        @RequestParam(required = false) Long fileSize
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        UploadSession session = uploadSessionService.commit(authenticatedUserId, sessionId);
+        Video video = session.getFrame().getVideo();
+
+        try {
+            return ResponseEntity.ok(createUploadResponse(authenticatedUserId, video, video.getVideoName(), session.getFileExtension(), fileSize));
+        }
+        catch (ResponseStatusException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "업로드 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // parts 는 각 파트 PUT 응답의 ETag. 1번부터 빠짐없이 있어야 한다.
+    @PostMapping("/upload/videos/{videoId}/multipart/complete")
+    public ResponseEntity<String> completeMultipartUpload(
+        @PathVariable String videoId,
+        @Valid @RequestBody MultipartCompleteDto requestDto
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        multipartUploadService.complete(authenticatedUserId, videoId, requestDto.getParts());
+        return ResponseEntity.ok("영상 업로드가 완료되었습니다.");
+    }
+
+    @PostMapping("/upload/videos/{videoId}/multipart/abort")
+    public ResponseEntity<String> abortMultipartUpload(@PathVariable String videoId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        multipartUploadService.abort(authenticatedUserId, videoId);
+        return ResponseEntity.ok("영상 업로드가 취소되었습니다.");
+    }
+
     @PostMapping("/score/videos/{videoId}/score")
     public ResponseEntity<String> saveScore(
         @PathVariable String videoId, 
@@ -81,4 +230,37 @@ public class PostController {
                                        
         return ResponseEntity.ok(message);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/score/videos/{videoId}/evaluate")
+    public ResponseEntity<ScoreResultDto> evaluateScore(
+        @PathVariable String videoId,
+        @RequestParam(required = false) String reference
+    ) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(estimateService.evaluateScore(authenticatedUserId, videoId, reference));
+    }
+
+    // 채점을 큐에 넣고 바로 돌아온다. 결과는 GET .../events (SSE) 로 받는다.
+    @PostMapping("/score/videos/{videoId}/jobs")
+    public ResponseEntity<ScoringJobDto> submitScoringJob(@PathVariable String videoId) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        estimateService.checkVideoOwner(authenticatedUserId, videoId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scoringJobService.submit(authenticatedUserId, videoId));
+    }
+
+    @PostMapping("/score/videos/rescore")
+    public ResponseEntity<List<ScoreResultDto>> rescoreVideos(@RequestParam(required = false) String reference) {
+        String authenticatedUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return ResponseEntity.ok(estimateService.rescoreVideos(authenticatedUserId, reference));
+    }
+
+    private UploadUrlDto createUploadResponse(String userId, Video video, String videoName, String fileExtension, Long fileSize) throws Exception {
+        String objectName = userId + "-" + video.getVideoId() + "-" + videoName + fileExtension;
+
+        return uploadService.createUploadUrl(userId, video.getVideoId(), bucket, objectName, fileSize);
+    }
+}
@@ -0,0 +1,89 @@
+package com.Friday.Backend.Controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.Friday.Backend.Security.JwtHandshakeInterceptor;
+import com.Friday.Backend.Service.SkeletonStreamService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+// ws://.../ws/skeleton?sessionId={업로드 세션 ID}
+//   Sec-WebSocket-Protocol: skeleton.v1, bearer.{JWT}   (JwtHandshakeInterceptor)
+//   text   {"type":"shape",...}  관절 구조 등록 (세션에 아직 없을 때)
+//   binary float32 little-endian 프레임 묶음
+//   text   {"type":"commit"}     남은 프레임 저장 후 세션 완료
+// 서버 → ready / ack / pause / resume / committed / error
+@Component
+public class SkeletonWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    private final SkeletonStreamService skeletonStreamService;
+    private final ObjectMapper objectMapper;
+    private final int maxMessageBytes;
+
+    public SkeletonWebSocketHandler(
+        SkeletonStreamService skeletonStreamService,
+        ObjectMapper objectMapper,
+        @Value("${skeleton.ws.max-message-bytes:262144}") int maxMessageBytes
+    ) {
+        this.skeletonStreamService = skeletonStreamService;
+        this.objectMapper = objectMapper;
+        this.maxMessageBytes = maxMessageBytes;
+    }
+
+    // 핸드셰이크 응답에는 이것만 고른다. 함께 온 bearer.{JWT} 는 돌려주지 않는다.
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(JwtHandshakeInterceptor.SUBPROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String userId = (String) session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        String uploadSessionId = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("sessionId");
+
+        if (userId == null || uploadSessionId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("sessionId가 필요합니다."));
+            return;
+        }
+
+        // 기본 8KB 제한이면 33관절 3차원 기준 한 메시지에 20프레임 정도밖에 못 보낸다.
+        session.setBinaryMessageSizeLimit(maxMessageBytes);
+        skeletonStreamService.open(session, userId, uploadSessionId);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        JsonNode body = objectMapper.readTree(message.getPayload());
+
+        switch (body.path("type").asText()) {
+            case "shape" -> skeletonStreamService.onShape(session, body);
+            case "commit" -> skeletonStreamService.onCommit(session);
+            default -> session.close(CloseStatus.BAD_DATA.withReason("알 수 없는 메시지 유형입니다."));
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        skeletonStreamService.onFrames(session, message.getPayload());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        System.err.println("WebSocket 전송 오류: " + exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        skeletonStreamService.close(session);
+    }
+}
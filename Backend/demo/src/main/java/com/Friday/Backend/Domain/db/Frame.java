@@ -21,6 +21,12 @@ public class Frame {
     @Lob
     private String joints;
 
+    @Lob
+    private byte[] encodedJoints;
+
+    // 청크(FrameChunk)로 저장된 경우의 전체 프레임 수
+    private Integer frameCount;
+
     public Frame() {}
     
     public Frame(
@@ -64,4 +70,20 @@ public class Frame {
     public void setJoints(String joints) {
         this.joints = joints;
     }
+
+    public byte[] getEncodedJoints() {
+        return encodedJoints;
+    }
+
+    public void setEncodedJoints(byte[] encodedJoints) {
+        this.encodedJoints = encodedJoints;
+    }
+
+    public Integer getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(Integer frameCount) {
+        this.frameCount = frameCount;
+    }
 }
@@ -0,0 +1,92 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(
+    name = "frame_chunk",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "frame_id", "chunkIndex" }),
+    // 구간 조회용 프레임 인덱스
+    indexes = @Index(name = "idx_frame_chunk_start_frame", columnList = "frame_id, startFrame")
+)
+public class FrameChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "frame_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Frame frame;
+
+    private int chunkIndex;
+    private int startFrame;
+    private int frameCount;
+
+    @Lob
+    private byte[] data;
+
+    public FrameChunk() {}
+
+    public FrameChunk(
+        Frame frame,
+        int chunkIndex,
+        int startFrame,
+        int frameCount,
+        byte[] data
+    ) {
+        this.frame = frame;
+        this.chunkIndex = chunkIndex;
+        this.startFrame = startFrame;
+        this.frameCount = frameCount;
+        this.data = data;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Frame getFrame() {
+        return frame;
+    }
+
+    public void setFrame(Frame frame) {
+        this.frame = frame;
+    }
+
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public int getStartFrame() {
+        return startFrame;
+    }
+
+    public void setStartFrame(int startFrame) {
+        this.startFrame = startFrame;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
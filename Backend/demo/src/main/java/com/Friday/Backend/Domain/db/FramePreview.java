@@ -0,0 +1,94 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 미리보기용 저해상도 스켈레톤. level 이 클수록 프레임이 적다 (0 은 원본이라 저장하지 않음).
+@Entity
+@Table(
+    name = "frame_preview",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "frame_id", "level" })
+)
+public class FramePreview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "frame_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Frame frame;
+
+    private int level;
+    private int frameCount;
+
+    // 원본 기준 프레임 번호 (SkeletonCodec.encodeIndices)
+    @Lob
+    private byte[] frameIndices;
+
+    @Lob
+    private byte[] data;
+
+    public FramePreview() {}
+
+    public FramePreview(
+        Frame frame,
+        int level,
+        int frameCount,
+        byte[] frameIndices,
+        byte[] data
+    ) {
+        this.frame = frame;
+        this.level = level;
+        this.frameCount = frameCount;
+        this.frameIndices = frameIndices;
+        this.data = data;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Frame getFrame() {
+        return frame;
+    }
+
+    public void setFrame(Frame frame) {
+        this.frame = frame;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public byte[] getFrameIndices() {
+        return frameIndices;
+    }
+
+    public void setFrameIndices(byte[] frameIndices) {
+        this.frameIndices = frameIndices;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,28 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+// 이름별 값. 지금은 한 번만 돌리는 데이터 이전(VideoCountBackfill)의 완료 표시로 쓴다.
+@Entity
+@Table(name = "id_sequence")
+public class IdSequence {
+
+    @Id
+    private String name;
+
+    private long nextValue;
+
+    public IdSequence() {}
+
+    public IdSequence(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+}
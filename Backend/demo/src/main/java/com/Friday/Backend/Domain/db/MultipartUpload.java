@@ -0,0 +1,89 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 진행 중인 영상 파일 멀티파트 업로드. 영상당 하나이며 완료/취소되면 지운다.
+// 오래 남은 것은 MultipartUploadService 의 정리 작업이 S3 쪽 업로드와 함께 지운다.
+@Entity
+@Table(name = "multipart_upload", indexes = @Index(name = "idx_multipart_upload_created_at", columnList = "createdAt"))
+public class MultipartUpload {
+
+    @Id
+    private String videoId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(nullable = false, length = 1024)
+    private String objectName;
+
+    @Column(nullable = false, length = 1024)
+    private String uploadId;
+
+    private long partSize;
+    private int partCount;
+
+    private LocalDateTime createdAt;
+
+    public MultipartUpload() {}
+
+    public MultipartUpload(
+        String videoId,
+        String userId,
+        String bucket,
+        String objectName,
+        String uploadId,
+        long partSize,
+        int partCount
+    ) {
+        this.videoId = videoId;
+        this.userId = userId;
+        this.bucket = bucket;
+        this.objectName = objectName;
+        this.uploadId = uploadId;
+        this.partSize = partSize;
+        this.partCount = partCount;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public String getObjectName() {
+        return objectName;
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    public int getPartCount() {
+        return partCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
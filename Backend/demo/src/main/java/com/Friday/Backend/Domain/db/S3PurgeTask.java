@@ -0,0 +1,82 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+// 지울 S3 객체 하나(트랜잭션 아웃박스). 영상/사용자 삭제와 같은 트랜잭션에서 쌓이고 S3PurgeService 가 비운다.
+// dead 가 true 면 재시도를 다 써서 더 이상 시도하지 않는 것(수동 확인용으로 남겨 둔다).
+@Entity
+@Table(name = "s3_purge_outbox", indexes = @Index(name = "idx_s3_purge_due", columnList = "dead, nextAttemptAt"))
+public class S3PurgeTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    private int attempts;
+
+    // epoch 밀리초. 이 시각 이후에 시도한다.
+    private long nextAttemptAt;
+
+    private boolean dead;
+
+    @Column(length = 1024)
+    private String lastError;
+
+    public S3PurgeTask() {}
+
+    public S3PurgeTask(String bucket, String objectKey, long nextAttemptAt) {
+        this.bucket = bucket;
+        this.objectKey = objectKey;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public String getObjectKey() {
+        return objectKey;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public boolean isDead() {
+        return dead;
+    }
+
+    public void setDead(boolean dead) {
+        this.dead = dead;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
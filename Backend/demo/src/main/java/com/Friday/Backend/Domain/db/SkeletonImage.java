@@ -0,0 +1,126 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 스켈레톤으로 그린 목록용 이미지 (PNG). contentHash 는 그린 입력의 해시라 ETag 와 재사용 키로 쓴다.
+@Entity
+@Table(
+    name = "skeleton_image",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "frame_id", "kind" }),
+    indexes = @Index(name = "idx_skeleton_image_content_hash", columnList = "contentHash")
+)
+public class SkeletonImage {
+
+    public enum Kind { THUMBNAIL, SPRITE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "frame_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Frame frame;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    @Column(nullable = false, length = 32)
+    private String contentHash;
+
+    // 스프라이트의 칸 배치. 썸네일은 1칸
+    private int cellSize;
+    private int columns;
+
+    // 원본 기준 프레임 번호 (SkeletonCodec.encodeIndices)
+    @Lob
+    private byte[] frameIndices;
+
+    // 조회 경로는 SkeletonImageRepository 의 프로젝션으로 읽어 메타데이터만 볼 때 이 컬럼을 건드리지 않는다.
+    @Lob
+    private byte[] png;
+
+    public SkeletonImage() {}
+
+    public SkeletonImage(
+        Frame frame,
+        Kind kind,
+        String contentHash,
+        int cellSize,
+        int columns,
+        byte[] frameIndices,
+        byte[] png
+    ) {
+        this.frame = frame;
+        this.kind = kind;
+        this.contentHash = contentHash;
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.frameIndices = frameIndices;
+        this.png = png;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Frame getFrame() {
+        return frame;
+    }
+
+    public void setFrame(Frame frame) {
+        this.frame = frame;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    public void setCellSize(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public void setColumns(int columns) {
+        this.columns = columns;
+    }
+
+    public byte[] getFrameIndices() {
+        return frameIndices;
+    }
+
+    public void setFrameIndices(byte[] frameIndices) {
+        this.frameIndices = frameIndices;
+    }
+
+    public byte[] getPng() {
+        return png;
+    }
+
+    public void setPng(byte[] png) {
+        this.png = png;
+    }
+}
@@ -0,0 +1,38 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+// revokedAt 이전에 발급된 userId 의 토큰은 모두 무효. jwt.expiration 이 지나면 의미가 없으므로 지운다.
+@Entity
+@Table(name = "token_revocation", indexes = @Index(name = "idx_token_revocation_revoked_at", columnList = "revokedAt"))
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    // epoch 밀리초
+    private long revokedAt;
+
+    public TokenRevocation() {}
+
+    public TokenRevocation(String userId, long revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getRevokedAt() {
+        return revokedAt;
+    }
+}
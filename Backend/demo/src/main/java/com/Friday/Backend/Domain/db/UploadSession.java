@@ -0,0 +1,133 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 이어 올리기 세션. 영상(Video)은 commit 때 만들므로 그 전에는 목록과 영상 수에 잡히지 않는다.
+// updatedAt 이 ttl 보다 오래된 OPEN 세션은 UploadSessionService 의 정리 작업이 프레임과 함께 지운다.
+@Entity
+@Table(name = "upload_session", indexes = @Index(name = "idx_upload_session_status_updated_at", columnList = "status, updatedAt"))
+public class UploadSession {
+
+    public enum Status {
+        OPEN,
+        COMMITTED
+    }
+
+    @Id
+    private String sessionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "frame_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Frame frame;
+
+    @Column(nullable = false)
+    private String userId;
+
+    private String videoName;
+    private String fileExtension;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // 다음에 받아야 할 청크 번호 (0부터 시작). 이보다 작은 번호는 이미 저장된 청크다.
+    private int nextSequence;
+    private int frameCount;
+
+    // 첫 청크에서 정해진 관절 구조. 0프레임 FSK 헤더로 저장한다.
+    @Lob
+    private byte[] shapeHeader;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Version
+    private long version;
+
+    public UploadSession() {}
+
+    public UploadSession(String sessionId, Frame frame, String userId, String videoName, String fileExtension) {
+        this.sessionId = sessionId;
+        this.frame = frame;
+        this.userId = userId;
+        this.videoName = videoName;
+        this.fileExtension = fileExtension;
+        this.status = Status.OPEN;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Frame getFrame() {
+        return frame;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getVideoName() {
+        return videoName;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getNextSequence() {
+        return nextSequence;
+    }
+
+    public void setNextSequence(int nextSequence) {
+        this.nextSequence = nextSequence;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public byte[] getShapeHeader() {
+        return shapeHeader;
+    }
+
+    public void setShapeHeader(byte[] shapeHeader) {
+        this.shapeHeader = shapeHeader;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -9,7 +9,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "app_user")
+@Table(name = "app_user", indexes = @Index(name = "idx_app_user_user_id", columnList = "userId"))
 public class User {
     
     @Id
@@ -20,6 +20,12 @@ public class User {
     private String password;
     private String email;
 
+    // 영상 목록이 바뀔 때마다(업로드, 삭제, 점수 변경) 올린다. 목록 ETag 에 쓴다.
+    private long videoListVersion;
+
+    // 지금까지 올린 영상 수(삭제 포함). 다음 영상의 표시 번호를 정한다.
+    private int videoCount;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     @JsonManagedReference
     private List<Video> videos;
@@ -81,6 +87,22 @@ public class User {
         this.email = email;
     }
 
+    public long getVideoListVersion() {
+        return videoListVersion;
+    }
+
+    public void setVideoListVersion(long videoListVersion) {
+        this.videoListVersion = videoListVersion;
+    }
+
+    public int getVideoCount() {
+        return videoCount;
+    }
+
+    public void setVideoCount(int videoCount) {
+        this.videoCount = videoCount;
+    }
+
     public List<Video> getVideos(){
         return videos;
     }
@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
+// 목록 조회(사용자별 uploadTime 역순 keyset)용
+@Table(indexes = @Index(name = "idx_video_user_upload_time", columnList = "user_id, uploadTime, videoId"))
 public class Video {
     
     @Id
@@ -15,6 +17,9 @@ public class Video {
     private String Score;
     private String objectName;
 
+    // 사용자에게 보여 주는 번호(1, 2, 3 ...). videoId 와 달리 사용자별로 매긴다.
+    private Integer displayNumber;
+
     private LocalDateTime uploadTime;
     
     @ManyToOne
@@ -95,6 +100,14 @@ public class Video {
         this.frame = frame;
     }
 
+    public Integer getDisplayNumber() {
+        return displayNumber;
+    }
+
+    public void setDisplayNumber(Integer displayNumber) {
+        this.displayNumber = displayNumber;
+    }
+
     public String getObjectName() {
         return objectName;
     }
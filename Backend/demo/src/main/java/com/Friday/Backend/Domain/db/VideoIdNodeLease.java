@@ -0,0 +1,33 @@
+package com.Friday.Backend.Domain.db;
+
+import jakarta.persistence.*;
+
+// 영상 ID 노드 번호 임대. 노드를 가진 인스턴스가 떠 있는 동안 expiresAt 을 주기적으로 늘린다.
+// expiresAt 이 지난 노드만 다른 인스턴스가 가져갈 수 있다. 행은 지우지 않으므로 노드 번호는 0부터 빈틈없이 쌓인다.
+@Entity
+@Table(name = "video_id_node_lease")
+public class VideoIdNodeLease {
+
+    @Id
+    private int node;
+
+    @Column(nullable = false)
+    private String owner;
+
+    // epoch 밀리초
+    private long expiresAt;
+
+    public VideoIdNodeLease() {}
+
+    public int getNode() {
+        return node;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.FrameChunk;
+
+import java.util.List;
+
+public interface FrameChunkRepository extends JpaRepository<FrameChunk, Long> {
+
+    @Query("SELECT c.id FROM FrameChunk c WHERE c.frame = :frame ORDER BY c.chunkIndex")
+    List<Long> findIdsByFrameOrderByChunkIndex(Frame frame);
+
+    // [fromFrame, toFrame) 와 겹치는 청크
+    @Query("SELECT c.id FROM FrameChunk c WHERE c.frame = :frame AND c.startFrame < :toFrame "
+        + "AND c.startFrame + c.frameCount > :fromFrame ORDER BY c.chunkIndex")
+    List<Long> findIdsByFrameInRange(Frame frame, int fromFrame, int toFrame);
+
+    boolean existsByFrame(Frame frame);
+}
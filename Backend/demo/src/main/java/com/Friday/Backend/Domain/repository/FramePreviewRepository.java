@@ -0,0 +1,15 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.FramePreview;
+
+import java.util.Optional;
+
+public interface FramePreviewRepository extends JpaRepository<FramePreview, Long> {
+
+    Optional<FramePreview> findByFrameAndLevel(Frame frame, int level);
+
+    boolean existsByFrame(Frame frame);
+}
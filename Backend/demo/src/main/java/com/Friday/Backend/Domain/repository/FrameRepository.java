@@ -1,6 +1,7 @@
 package com.Friday.Backend.Domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.Friday.Backend.Domain.db.Frame;
 import com.Friday.Backend.Domain.db.Video;
@@ -9,4 +10,14 @@ import java.util.Optional;
 
 public interface FrameRepository extends JpaRepository<Frame, Long> {
     Optional<Frame> findByVideo(Video video);
+
+    @Query("SELECT f.id FROM Frame f WHERE f.video.videoId = :videoId AND f.video.user.userId = :userId")
+    Optional<Long> findIdByVideoIdAndUserId(String videoId, String userId);
+
+    // 업로드가 끝난 스켈레톤은 바뀌지 않으므로 "프레임PK.프레임수" 가 내용의 버전이다. LOB 컬럼은 읽지 않는다.
+    @Query(
+        "SELECT CONCAT(CAST(f.id AS String), '.', COALESCE(CAST(f.frameCount AS String), 'x')) FROM Frame f " +
+        "WHERE f.video.videoId = :videoId AND f.video.user.userId = :userId"
+    )
+    Optional<String> findVersionByVideoIdAndUserId(String videoId, String userId);
 }
\ No newline at end of file
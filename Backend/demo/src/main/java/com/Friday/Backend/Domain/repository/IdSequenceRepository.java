@@ -0,0 +1,8 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.Friday.Backend.Domain.db.IdSequence;
+
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+}
@@ -0,0 +1,16 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.Friday.Backend.Domain.db.MultipartUpload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MultipartUploadRepository extends JpaRepository<MultipartUpload, String> {
+    Optional<MultipartUpload> findByVideoIdAndUserId(String videoId, String userId);
+
+    List<MultipartUpload> findByCreatedAtBeforeOrderByCreatedAt(LocalDateTime cutoff, Limit limit);
+}
@@ -0,0 +1,16 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.Friday.Backend.Domain.db.S3PurgeTask;
+
+import java.util.List;
+
+public interface S3PurgeTaskRepository extends JpaRepository<S3PurgeTask, Long> {
+    List<S3PurgeTask> findByDeadFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(long now, Limit limit);
+
+    long countByDeadFalse();
+
+    long countByDeadTrue();
+}
@@ -0,0 +1,34 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.SkeletonImage;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SkeletonImageRepository extends JpaRepository<SkeletonImage, Long> {
+
+    boolean existsByFrameAndKind(Frame frame, SkeletonImage.Kind kind);
+
+    // ETag 확인용. PNG 컬럼은 읽지 않는다.
+    @Query(
+        "SELECT i.contentHash AS contentHash, i.cellSize AS cellSize, i.columns AS columns, i.frameIndices AS frameIndices " +
+        "FROM SkeletonImage i WHERE i.frame.video.videoId = :videoId AND i.frame.video.user.userId = :userId AND i.kind = :kind"
+    )
+    Optional<ImageView> findView(String videoId, String userId, SkeletonImage.Kind kind);
+
+    // 같은 내용이면 어느 영상의 이미지든 같다.
+    @Query("SELECT i.png FROM SkeletonImage i WHERE i.contentHash = :contentHash")
+    List<byte[]> findPngByContentHash(String contentHash, Limit limit);
+
+    interface ImageView {
+        String getContentHash();
+        int getCellSize();
+        int getColumns();
+        byte[] getFrameIndices();
+    }
+}
@@ -0,0 +1,21 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.Friday.Backend.Domain.db.UploadSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    // commit 전에는 영상이 없으므로 소유자는 세션의 userId 로 확인한다.
+    @Query("SELECT s FROM UploadSession s JOIN FETCH s.frame f LEFT JOIN FETCH f.video WHERE s.sessionId = :sessionId AND s.userId = :userId")
+    Optional<UploadSession> findBySessionIdAndUserId(String sessionId, String userId);
+
+    @Query("SELECT s.sessionId FROM UploadSession s WHERE s.status = :status AND s.updatedAt < :cutoff ORDER BY s.updatedAt")
+    List<String> findIdsByStatusUpdatedBefore(UploadSession.Status status, LocalDateTime cutoff, Limit limit);
+}
@@ -3,9 +3,36 @@ package com.Friday.Backend.Domain.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.Friday.Backend.Domain.db.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
+
+    // "사용자PK.목록버전". 탈퇴 후 같은 아이디로 가입해도 PK 가 달라 이전 ETag 와 겹치지 않는다.
+    @Query("SELECT CONCAT(CAST(u.id AS String), '.', CAST(u.videoListVersion AS String)) FROM User u WHERE u.userId = :userId")
+    Optional<String> findVideoListVersion(String userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.videoListVersion = u.videoListVersion + 1 WHERE u.userId = :userId")
+    int incrementVideoListVersion(String userId);
+
+    // 새 영상의 표시 번호를 잡는다 (VideoNumberService.reserve). 목록 버전은 영상을 저장하는 트랜잭션에서 따로 올린다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.videoCount = u.videoCount + 1 WHERE u.userId = :userId")
+    int incrementVideoCount(String userId);
+
+    // videoCount 칸이 생기기 전에 영상을 올린 사용자에게 지금까지의 영상 수를 채운다 (VideoCountBackfill).
+    @Modifying
+    @Query("UPDATE User u SET u.videoCount = (SELECT COUNT(v) FROM Video v WHERE v.user = u) " +
+        "WHERE u.videoCount = 0 AND EXISTS (SELECT v FROM Video v WHERE v.user = u)")
+    int backfillVideoCount();
+
+    @Query("SELECT u.videoCount FROM User u WHERE u.userId = :userId")
+    Optional<Integer> findVideoCount(String userId);
 }
\ No newline at end of file
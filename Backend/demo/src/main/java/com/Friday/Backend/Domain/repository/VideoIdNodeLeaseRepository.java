@@ -0,0 +1,29 @@
+package com.Friday.Backend.Domain.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.Friday.Backend.Domain.db.VideoIdNodeLease;
+
+import java.util.List;
+
+public interface VideoIdNodeLeaseRepository extends JpaRepository<VideoIdNodeLease, Integer> {
+
+    // save 는 이미 있는 노드를 덮어쓸 수 있으므로 INSERT 로만 만든다. 같은 노드를 동시에 만들면 키 중복으로 실패한다.
+    @Modifying
+    @Query("INSERT INTO VideoIdNodeLease (node, owner, expiresAt) VALUES (:node, :owner, :expiresAt)")
+    int create(int node, String owner, long expiresAt);
+
+    @Query("SELECT l.node FROM VideoIdNodeLease l WHERE l.expiresAt < :now ORDER BY l.expiresAt")
+    List<Integer> findExpiredNodes(long now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE VideoIdNodeLease l SET l.owner = :owner, l.expiresAt = :expiresAt WHERE l.node = :node AND l.expiresAt < :now")
+    int claimExpired(int node, String owner, long expiresAt, long now);
+
+    @Modifying
+    @Query("UPDATE VideoIdNodeLease l SET l.expiresAt = :expiresAt WHERE l.node = :node AND l.owner = :owner")
+    int renew(int node, String owner, long expiresAt);
+}
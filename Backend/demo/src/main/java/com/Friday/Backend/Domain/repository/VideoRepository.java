@@ -1,11 +1,15 @@
 package com.Friday.Backend.Domain.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import com.Friday.Backend.Domain.db.User;
 import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Dto.VideoListDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +18,33 @@ public interface VideoRepository extends JpaRepository<Video, String> {
 
     List<Video> findByUser(User user);
 
-    long countByUser(User user);
-
     List<Video> findAllByUser_UserId(String userId);
 
+    // 목록 컬럼만 DTO 로 읽는다. Video 엔티티를 만들지 않으므로 Frame(LOB)이나 User 를 따로 읽지 않는다.
+    @Query("SELECT new com.Friday.Backend.Dto.VideoListDto(v.videoId, v.displayNumber, v.videoName, v.uploadTime) FROM Video v " +
+        "WHERE v.user.userId = :userId ORDER BY v.uploadTime DESC, v.videoId DESC")
+    List<VideoListDto> findListByUserId(String userId, Limit limit);
+
+    // keyset: (uploadTime, videoId) 가 커서보다 앞선 것. OFFSET 과 달리 뒤쪽 페이지도 인덱스에서 바로 시작한다.
+    @Query("SELECT new com.Friday.Backend.Dto.VideoListDto(v.videoId, v.displayNumber, v.videoName, v.uploadTime) FROM Video v " +
+        "WHERE v.user.userId = :userId " +
+        "AND (v.uploadTime < :uploadTime OR (v.uploadTime = :uploadTime AND v.videoId < :videoId)) " +
+        "ORDER BY v.uploadTime DESC, v.videoId DESC")
+    List<VideoListDto> findListByUserIdBefore(String userId, LocalDateTime uploadTime, String videoId, Limit limit);
+
     @Query("SELECT v FROM Video v WHERE v.user.userId = :userId AND v.videoId = :videoId")
     Optional<Video> findByVideoIdAndUserId(String videoId, String userId);
 
     @Query("SELECT v.objectName FROM Video v WHERE v.user.userId = :userId AND v.videoId = :videoId")
     Optional<String> findObjectNameByUserIdAndVideoId(String userId, String videoId);
+
+    @Query("SELECT v.videoId AS videoId, v.objectName AS objectName FROM Video v " +
+        "WHERE v.user.userId = :userId AND v.videoId IN :videoIds AND v.objectName IS NOT NULL")
+    List<ObjectNameView> findObjectNamesByUserIdAndVideoIdIn(String userId, Collection<String> videoIds);
+
+    interface ObjectNameView {
+        String getVideoId();
+
+        String getObjectName();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.Friday.Backend.Dto;
+
+import com.Friday.Backend.Skeleton.SkeletonTemplateLibrary;
+
+public class ClassificationResultDto {
+    private String videoId;
+    private String poomsae;
+    private double distance;
+    private int candidates;
+    private int pruned;
+    private int abandoned;
+    private long elapsedMicros;
+
+    public ClassificationResultDto(String videoId, SkeletonTemplateLibrary.Classification classification, long elapsedMicros) {
+        this.videoId = videoId;
+        this.poomsae = classification.name();
+        this.distance = classification.distance();
+        this.candidates = classification.candidates();
+        this.pruned = classification.pruned();
+        this.abandoned = classification.abandoned();
+        this.elapsedMicros = elapsedMicros;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getPoomsae() {
+        return poomsae;
+    }
+
+    public void setPoomsae(String poomsae) {
+        this.poomsae = poomsae;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    public void setDistance(double distance) {
+        this.distance = distance;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    public int getPruned() {
+        return pruned;
+    }
+
+    public void setPruned(int pruned) {
+        this.pruned = pruned;
+    }
+
+    public int getAbandoned() {
+        return abandoned;
+    }
+
+    public void setAbandoned(int abandoned) {
+        this.abandoned = abandoned;
+    }
+
+    public long getElapsedMicros() {
+        return elapsedMicros;
+    }
+
+    public void setElapsedMicros(long elapsedMicros) {
+        this.elapsedMicros = elapsedMicros;
+    }
+}
@@ -1,6 +1,7 @@
 package com.Friday.Backend.Dto;
 
 public class DownloadUrlDto {
+    private String videoId;
     private String bucket;
     private String videoName;
     private String downloadUrl;
@@ -15,6 +16,25 @@ public class DownloadUrlDto {
         this.downloadUrl = downloadUrl;
     }
 
+    // 일괄 조회 응답에서 어느 영상의 URL 인지 알 수 있도록 videoId 를 함께 준다.
+    public DownloadUrlDto(
+        String videoId,
+        String bucket,
+        String videoName,
+        String downloadUrl
+    ) {
+        this(bucket, videoName, downloadUrl);
+        this.videoId = videoId;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
     public String getBucket() {
         return bucket;
     }
@@ -5,6 +5,10 @@ import com.Friday.Backend.Domain.db.Frame;
 public class FrameDto {
     private String videoId;
     private String joints;
+    private Integer startFrame;
+    private Integer totalFrames;
+    // lod 미리보기일 때 각 프레임의 원본 프레임 번호
+    private int[] frameIndices;
 
     public FrameDto(Frame frame) {
         if (frame != null) {
@@ -17,6 +21,13 @@ public class FrameDto {
         this.joints = joints;
     }
 
+    public FrameDto(String videoId, String joints, Integer startFrame, Integer totalFrames) {
+        this.videoId = videoId;
+        this.joints = joints;
+        this.startFrame = startFrame;
+        this.totalFrames = totalFrames;
+    }
+
     public String getVideoId() {
         return videoId;
     }
@@ -32,4 +43,28 @@ public class FrameDto {
     public void setJoints(String joints) {
         this.joints = joints;
     }
-}
\ No newline at end of file
+
+    public Integer getStartFrame() {
+        return startFrame;
+    }
+
+    public void setStartFrame(Integer startFrame) {
+        this.startFrame = startFrame;
+    }
+
+    public Integer getTotalFrames() {
+        return totalFrames;
+    }
+
+    public void setTotalFrames(Integer totalFrames) {
+        this.totalFrames = totalFrames;
+    }
+
+    public int[] getFrameIndices() {
+        return frameIndices;
+    }
+
+    public void setFrameIndices(int[] frameIndices) {
+        this.frameIndices = frameIndices;
+    }
+}
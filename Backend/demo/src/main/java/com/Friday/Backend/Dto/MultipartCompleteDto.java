@@ -0,0 +1,56 @@
+package com.Friday.Backend.Dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+// 파트마다 PUT 응답의 ETag 헤더 값
+public class MultipartCompleteDto {
+
+    @NotEmpty(message = "parts 는 필수 항목입니다.")
+    @Valid
+    private List<Part> parts;
+
+    public List<Part> getParts() {
+        return parts;
+    }
+
+    public void setParts(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    public static class Part {
+
+        @Min(value = 1, message = "partNumber 는 1 이상이어야 합니다.")
+        private int partNumber;
+
+        @NotBlank(message = "etag 는 필수 항목입니다.")
+        private String etag;
+
+        public Part() {}
+
+        public Part(int partNumber, String etag) {
+            this.partNumber = partNumber;
+            this.etag = etag;
+        }
+
+        public int getPartNumber() {
+            return partNumber;
+        }
+
+        public void setPartNumber(int partNumber) {
+            this.partNumber = partNumber;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public void setEtag(String etag) {
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.Friday.Backend.Dto;
+
+import java.util.List;
+
+// 파트 i(1부터)는 파일의 [(i-1)×partSize, i×partSize) 구간이고 마지막 파트만 짧을 수 있다.
+// parts 에는 앞쪽 일부 파트의 URL 만 담긴다. 나머지는 GET /api/upload/videos/{videoId}/multipart/parts 로 받는다.
+public class MultipartUploadDto {
+    private String uploadId;
+    private long partSize;
+    private int partCount;
+    private List<UploadPartUrlDto> parts;
+
+    public MultipartUploadDto(String uploadId, long partSize, int partCount, List<UploadPartUrlDto> parts) {
+        this.uploadId = uploadId;
+        this.partSize = partSize;
+        this.partCount = partCount;
+        this.parts = parts;
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(long partSize) {
+        this.partSize = partSize;
+    }
+
+    public int getPartCount() {
+        return partCount;
+    }
+
+    public void setPartCount(int partCount) {
+        this.partCount = partCount;
+    }
+
+    public List<UploadPartUrlDto> getParts() {
+        return parts;
+    }
+
+    public void setParts(List<UploadPartUrlDto> parts) {
+        this.parts = parts;
+    }
+}
@@ -0,0 +1,85 @@
+package com.Friday.Backend.Dto;
+
+public class ScoreResultDto {
+    private String videoId;
+    private String reference;
+    private String score;
+    private double distance;
+    private int frames;
+    private int referenceFrames;
+    private long elapsedMillis;
+
+    public ScoreResultDto(
+        String videoId,
+        String reference,
+        String score,
+        double distance,
+        int frames,
+        int referenceFrames,
+        long elapsedMillis
+    ) {
+        this.videoId = videoId;
+        this.reference = reference;
+        this.score = score;
+        this.distance = distance;
+        this.frames = frames;
+        this.referenceFrames = referenceFrames;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public String getScore() {
+        return score;
+    }
+
+    public void setScore(String score) {
+        this.score = score;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    public void setDistance(double distance) {
+        this.distance = distance;
+    }
+
+    public int getFrames() {
+        return frames;
+    }
+
+    public void setFrames(int frames) {
+        this.frames = frames;
+    }
+
+    public int getReferenceFrames() {
+        return referenceFrames;
+    }
+
+    public void setReferenceFrames(int referenceFrames) {
+        this.referenceFrames = referenceFrames;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
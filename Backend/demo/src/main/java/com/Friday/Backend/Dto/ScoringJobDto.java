@@ -0,0 +1,74 @@
+package com.Friday.Backend.Dto;
+
+public class ScoringJobDto {
+    private String videoId;
+    private String status;
+    private Long waitMillis;
+    private Long processingMillis;
+    private ScoreResultDto result;
+    private String message;
+
+    public ScoringJobDto(
+        String videoId,
+        String status,
+        Long waitMillis,
+        Long processingMillis,
+        ScoreResultDto result,
+        String message
+    ) {
+        this.videoId = videoId;
+        this.status = status;
+        this.waitMillis = waitMillis;
+        this.processingMillis = processingMillis;
+        this.result = result;
+        this.message = message;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getWaitMillis() {
+        return waitMillis;
+    }
+
+    public void setWaitMillis(Long waitMillis) {
+        this.waitMillis = waitMillis;
+    }
+
+    public Long getProcessingMillis() {
+        return processingMillis;
+    }
+
+    public void setProcessingMillis(Long processingMillis) {
+        this.processingMillis = processingMillis;
+    }
+
+    public ScoreResultDto getResult() {
+        return result;
+    }
+
+    public void setResult(ScoreResultDto result) {
+        this.result = result;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
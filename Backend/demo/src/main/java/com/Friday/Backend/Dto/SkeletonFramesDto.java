@@ -0,0 +1,129 @@
+package com.Friday.Backend.Dto;
+
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+import com.Friday.Backend.Skeleton.SkeletonView;
+
+import java.util.Arrays;
+
+// Smile / CBOR 응답용 스켈레톤. values 는 frame-major [frame][joint][dim] float 배열
+public class SkeletonFramesDto {
+    private String videoId;
+    private String layout;
+    private int frameCount;
+    private int jointCount;
+    private int dims;
+    private String[] jointNames;
+    private String[] dimNames;
+    private int startFrame;
+    private Integer totalFrames;
+    private int[] frameIndices;
+    private float[] values;
+
+    public SkeletonFramesDto(String videoId, SkeletonView view) {
+        SkeletonData data = view.getData();
+        SkeletonShape shape = data.getShape();
+
+        this.videoId = videoId;
+        this.layout = shape.getLayout().name();
+        this.frameCount = data.getFrameCount();
+        this.jointCount = shape.getJointCount();
+        this.dims = shape.getDims();
+        this.jointNames = shape.getJointNames();
+        this.dimNames = shape.getDimNames();
+        this.startFrame = view.getStartFrame();
+        this.totalFrames = view.getTotalFrames();
+        this.frameIndices = view.getFrameIndices();
+        this.values = data.getValues().length == data.getFrameCount() * shape.getFrameSize()
+            ? data.getValues()
+            : Arrays.copyOf(data.getValues(), data.getFrameCount() * shape.getFrameSize());
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getLayout() {
+        return layout;
+    }
+
+    public void setLayout(String layout) {
+        this.layout = layout;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    public int getJointCount() {
+        return jointCount;
+    }
+
+    public void setJointCount(int jointCount) {
+        this.jointCount = jointCount;
+    }
+
+    public int getDims() {
+        return dims;
+    }
+
+    public void setDims(int dims) {
+        this.dims = dims;
+    }
+
+    public String[] getJointNames() {
+        return jointNames;
+    }
+
+    public void setJointNames(String[] jointNames) {
+        this.jointNames = jointNames;
+    }
+
+    public String[] getDimNames() {
+        return dimNames;
+    }
+
+    public void setDimNames(String[] dimNames) {
+        this.dimNames = dimNames;
+    }
+
+    public int getStartFrame() {
+        return startFrame;
+    }
+
+    public void setStartFrame(int startFrame) {
+        this.startFrame = startFrame;
+    }
+
+    public Integer getTotalFrames() {
+        return totalFrames;
+    }
+
+    public void setTotalFrames(Integer totalFrames) {
+        this.totalFrames = totalFrames;
+    }
+
+    public int[] getFrameIndices() {
+        return frameIndices;
+    }
+
+    public void setFrameIndices(int[] frameIndices) {
+        this.frameIndices = frameIndices;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    public void setValues(float[] values) {
+        this.values = values;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 public class SkeletonUploadDto {
     
@@ -16,6 +17,10 @@ public class SkeletonUploadDto {
     @NotBlank(message = "fileExtension은 필수 항목입니다.")
     private String fileExtension;
 
+    // 영상 파일 크기(바이트). 알려 주면 큰 파일은 멀티파트 업로드로 받는다.
+    @Positive(message = "fileSize 는 0보다 커야 합니다.")
+    private Long fileSize;
+
     public String getVideoName() {
         return videoName;
     }
@@ -39,4 +44,12 @@ public class SkeletonUploadDto {
     public void setFileExtionsion(String fileExtension) {
         this.fileExtension = fileExtension;
     }
-}
\ No newline at end of file
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+}
@@ -0,0 +1,77 @@
+package com.Friday.Backend.Dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TemplateLibraryStatusDto {
+    private List<String> templates;
+    private LocalDateTime loadedAt;
+    private long classifications;
+    private double pruningRate;
+    private double abandonRate;
+    private double averageClassifyMillis;
+
+    public TemplateLibraryStatusDto(
+        List<String> templates,
+        LocalDateTime loadedAt,
+        long classifications,
+        double pruningRate,
+        double abandonRate,
+        double averageClassifyMillis
+    ) {
+        this.templates = templates;
+        this.loadedAt = loadedAt;
+        this.classifications = classifications;
+        this.pruningRate = pruningRate;
+        this.abandonRate = abandonRate;
+        this.averageClassifyMillis = averageClassifyMillis;
+    }
+
+    public List<String> getTemplates() {
+        return templates;
+    }
+
+    public void setTemplates(List<String> templates) {
+        this.templates = templates;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public void setLoadedAt(LocalDateTime loadedAt) {
+        this.loadedAt = loadedAt;
+    }
+
+    public long getClassifications() {
+        return classifications;
+    }
+
+    public void setClassifications(long classifications) {
+        this.classifications = classifications;
+    }
+
+    public double getPruningRate() {
+        return pruningRate;
+    }
+
+    public void setPruningRate(double pruningRate) {
+        this.pruningRate = pruningRate;
+    }
+
+    public double getAbandonRate() {
+        return abandonRate;
+    }
+
+    public void setAbandonRate(double abandonRate) {
+        this.abandonRate = abandonRate;
+    }
+
+    public double getAverageClassifyMillis() {
+        return averageClassifyMillis;
+    }
+
+    public void setAverageClassifyMillis(double averageClassifyMillis) {
+        this.averageClassifyMillis = averageClassifyMillis;
+    }
+}
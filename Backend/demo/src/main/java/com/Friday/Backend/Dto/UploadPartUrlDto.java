@@ -0,0 +1,27 @@
+package com.Friday.Backend.Dto;
+
+public class UploadPartUrlDto {
+    private int partNumber;
+    private String uploadUrl;
+
+    public UploadPartUrlDto(int partNumber, String uploadUrl) {
+        this.partNumber = partNumber;
+        this.uploadUrl = uploadUrl;
+    }
+
+    public int getPartNumber() {
+        return partNumber;
+    }
+
+    public void setPartNumber(int partNumber) {
+        this.partNumber = partNumber;
+    }
+
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+
+    public void setUploadUrl(String uploadUrl) {
+        this.uploadUrl = uploadUrl;
+    }
+}
@@ -0,0 +1,28 @@
+package com.Friday.Backend.Dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class UploadSessionDto {
+
+    @NotBlank(message = "videoName은 필수 항목입니다.")
+    private String videoName;
+
+    @NotBlank(message = "fileExtension은 필수 항목입니다.")
+    private String fileExtension;
+
+    public String getVideoName() {
+        return videoName;
+    }
+
+    public void setVideoName(String videoName) {
+        this.videoName = videoName;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public void setFileExtension(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+}
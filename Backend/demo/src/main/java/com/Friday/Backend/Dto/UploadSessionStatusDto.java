@@ -0,0 +1,60 @@
+package com.Friday.Backend.Dto;
+
+import com.Friday.Backend.Domain.db.UploadSession;
+
+public class UploadSessionStatusDto {
+    private String sessionId;
+    private String videoId;
+    private String status;
+    private int nextSequence;
+    private int frameCount;
+
+    public UploadSessionStatusDto(UploadSession session) {
+        this.sessionId = session.getSessionId();
+        // 영상은 commit 때 만들어지므로 그 전에는 null
+        this.videoId = session.getFrame().getVideo() == null ? null : session.getFrame().getVideo().getVideoId();
+        this.status = session.getStatus().name();
+        this.nextSequence = session.getNextSequence();
+        this.frameCount = session.getFrameCount();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getNextSequence() {
+        return nextSequence;
+    }
+
+    public void setNextSequence(int nextSequence) {
+        this.nextSequence = nextSequence;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+}
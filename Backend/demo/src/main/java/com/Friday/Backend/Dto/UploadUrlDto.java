@@ -5,12 +5,21 @@ public class UploadUrlDto {
     private String objectName;
     private String uploadUrl;
 
+    // 큰 파일이면 uploadUrl 대신 멀티파트 업로드 정보
+    private MultipartUploadDto multipart;
+
     public UploadUrlDto(String bucket, String objectName, String uploadUrl) {
         this.bucket = bucket;
         this.objectName = objectName;
         this.uploadUrl = uploadUrl;
     }
 
+    public UploadUrlDto(String bucket, String objectName, MultipartUploadDto multipart) {
+        this.bucket = bucket;
+        this.objectName = objectName;
+        this.multipart = multipart;
+    }
+
     public String getBucket() {
         return bucket;
     }
@@ -34,4 +43,12 @@ public class UploadUrlDto {
     public void setUploadUrl(String uploadUrl) {
         this.uploadUrl = uploadUrl;
     }
-}
\ No newline at end of file
+
+    public MultipartUploadDto getMultipart() {
+        return multipart;
+    }
+
+    public void setMultipart(MultipartUploadDto multipart) {
+        this.multipart = multipart;
+    }
+}
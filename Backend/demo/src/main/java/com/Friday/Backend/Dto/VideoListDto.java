@@ -4,11 +4,13 @@ import java.time.LocalDateTime;
 
 public class VideoListDto {
     private String videoId;
+    private Integer displayNumber;
     private String videoName;
     private LocalDateTime uploadTime;
 
-    public VideoListDto(String videoId, String videoName, LocalDateTime uploadTime) {
+    public VideoListDto(String videoId, Integer displayNumber, String videoName, LocalDateTime uploadTime) {
         this.videoId = videoId;
+        this.displayNumber = displayNumber;
         this.videoName = videoName;
         this.uploadTime = uploadTime;
     }
@@ -21,6 +23,14 @@ public class VideoListDto {
         this.videoId = videoId;
     }
 
+    public Integer getDisplayNumber() {
+        return displayNumber;
+    }
+
+    public void setDisplayNumber(Integer displayNumber) {
+        this.displayNumber = displayNumber;
+    }
+
     public String getVideoName() {
         return videoName;
     }
@@ -0,0 +1,30 @@
+package com.Friday.Backend.Dto;
+
+import java.util.List;
+
+public class VideoPageDto {
+    private List<VideoListDto> videos;
+    private String nextCursor;
+
+    public VideoPageDto(List<VideoListDto> videos, String nextCursor) {
+        this.videos = videos;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<VideoListDto> getVideos() {
+        return videos;
+    }
+
+    public void setVideos(List<VideoListDto> videos) {
+        this.videos = videos;
+    }
+
+    // 마지막 페이지면 null
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -10,19 +10,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.Friday.Backend.Service.CustomUserDetailsService;
-
 import java.io.IOException;
 
+// 토큰 검증 한 번으로 인증을 끝낸다. 사용자 정보는 토큰의 subject 로만 만들고 DB 는 보지 않는다.
+// 탈퇴 등으로 무효가 된 토큰은 TokenRevocationService 가 걸러 낸다.
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider provider, CustomUserDetailsService service) {
+    public JwtAuthenticationFilter(JwtTokenProvider provider) {
         this.jwtTokenProvider = provider;
-        this.userDetailsService = service;
     }
 
     @Override
@@ -34,18 +32,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            try {
-                String userId = jwtTokenProvider.getUserId(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+        VerifiedToken verified = token == null ? null : jwtTokenProvider.verify(token);
+
+        if (verified != null) {
+            UserDetails userDetails = new CustomUserDetails(verified.userId(), null);
 
-                UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (Exception e) {
-                System.out.println("JWT authentication failed: " + e.getMessage());
-            }
+            SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
         chain.doFilter(request, response);
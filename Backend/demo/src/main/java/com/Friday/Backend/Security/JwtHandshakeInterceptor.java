@@ -0,0 +1,68 @@
+package com.Friday.Backend.Security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+// 브라우저 WebSocket은 Authorization 헤더를 붙일 수 없으므로 서브프로토콜 목록에 토큰을 싣는다.
+//   new WebSocket(url, ["skeleton.v1", "bearer." + token])
+// 서버는 skeleton.v1 만 골라 돌려주므로 토큰은 응답에 실리지 않는다. 쿼리 문자열은 접근 로그에 남으므로 받지 않는다.
+@Component
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String SUBPROTOCOL = "skeleton.v1";
+    public static final String TOKEN_SUBPROTOCOL_PREFIX = "bearer.";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public JwtHandshakeInterceptor(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @Override
+    public boolean beforeHandshake(
+        ServerHttpRequest request,
+        ServerHttpResponse response,
+        WebSocketHandler wsHandler,
+        Map<String, Object> attributes
+    ) {
+        String token = resolveToken(request);
+        VerifiedToken verified = token == null ? null : jwtTokenProvider.verify(token);
+
+        if (verified == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        attributes.put(USER_ID_ATTRIBUTE, verified.userId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(
+        ServerHttpRequest request,
+        ServerHttpResponse response,
+        WebSocketHandler wsHandler,
+        Exception exception
+    ) {}
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearer = request.getHeaders().getFirst("Authorization");
+        if (bearer != null && bearer.startsWith("Bearer ")) {
+            return bearer.substring(7);
+        }
+        for (String protocol : new WebSocketHttpHeaders(request.getHeaders()).getSecWebSocketProtocol()) {
+            if (protocol.startsWith(TOKEN_SUBPROTOCOL_PREFIX)) {
+                return protocol.substring(TOKEN_SUBPROTOCOL_PREFIX.length());
+            }
+        }
+        return null;
+    }
+}
@@ -1,33 +1,90 @@
 package com.Friday.Backend.Security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import com.Friday.Backend.Service.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import jakarta.annotation.PostConstruct;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.time.Instant;
 
 @Component
 public class JwtTokenProvider {
 
+    // iat 는 초 단위라 같은 초 안의 로그아웃/재로그인을 구분하지 못한다. 취소 비교에는 이 밀리초 값을 쓴다.
+    public static final String ISSUED_AT_MILLIS = "iat_ms";
+
     @Value("${jwt.key}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.cache.max-entries:10000}")
+    private long cacheMaxEntries;
+
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+
     private SecretKey secretKey;
 
+    // 파서는 스레드 안전하므로 하나를 공유한다.
+    private JwtParser parser;
+
+    // 토큰 SHA-256 → 검증 결과. 토큰이 만료되는 시각에 같이 빠진다. 실패한 토큰은 넣지 않는다.
+    private Cache<ByteBuffer, VerifiedToken> verified;
+
+    public JwtTokenProvider(TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.meterRegistry = meterRegistry;
+    }
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(cacheMaxEntries)
+            .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt");
     }
 
     public String createToken(String userId) {
@@ -38,33 +95,59 @@ public class JwtTokenProvider {
         .claim(Claims.SUBJECT, userId)
         .claim(Claims.ISSUED_AT, Date.from(now))
         .claim(Claims.EXPIRATION, Date.from(expiry)) 
+        .claim(ISSUED_AT_MILLIS, now.toEpochMilli())
         .issuedAt(Date.from(now))
         .signWith(secretKey)
         .compact();
     }
 
-    public String getUserId(String token) {
-        JwtParser parser = Jwts.parser()
-        .verifyWith(secretKey)
-        .build();
-                
-        Claims claims = parser.parseSignedClaims(token).getPayload();
-        
-        return claims.getSubject();
+    // 서명/만료 확인은 토큰마다 한 번만 한다. 취소 여부는 캐시에 있어도 매번 확인한다.
+    // 유효하지 않거나 취소된 토큰이면 null
+    public VerifiedToken verify(String token) {
+        ByteBuffer key = ByteBuffer.wrap(sha256(token));
+
+        VerifiedToken result = verified.getIfPresent(key);
+        if (result == null || result.expiresAtMillis() <= System.currentTimeMillis()) {
+            result = parse(token);
+            if (result == null) {
+                return null;
+            }
+            verified.put(key, result);
+        }
+
+        if (tokenRevocationService.isRevoked(result.userId(), result.issuedAtMillis())) {
+            return null;
+        }
+        return result;
     }
 
-    public boolean validateToken(String token) {
+    private VerifiedToken parse(String token) {
         try {
-            JwtParser parser = Jwts.parser()
-            .verifyWith(secretKey)
-            .build();
-                    
-            parser.parseSignedClaims(token);
-            
-            return true;
-        } catch (Exception e) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+
+            // 밀리초 값이 없는 이전 토큰은 iat 로 판단한다.
+            Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Number.class);
+            return new VerifiedToken(
+                claims.getSubject(),
+                issuedAtMillis != null ? issuedAtMillis.longValue()
+                    : claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime(),
+                claims.getExpiration().getTime()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
             System.out.println("Invalid JWT: " + e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+package com.Friday.Backend.Security;
+
+// 서명과 만료를 확인한 토큰에서 인증에 필요한 값만 남긴 것
+public record VerifiedToken(String userId, long issuedAtMillis, long expiresAtMillis) {
+}
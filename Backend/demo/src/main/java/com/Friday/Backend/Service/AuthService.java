@@ -20,17 +20,20 @@ public class AuthService {
     private final VideoService videoService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthService(
         UserRepository userRepository,
         VideoService videoService,
         PasswordEncoder passwordEncoder,
-        JwtTokenProvider jwtTokenProvider
+        JwtTokenProvider jwtTokenProvider,
+        TokenRevocationService tokenRevocationService
     ) {
         this.userRepository = userRepository;
         this.videoService = videoService;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Transactional
@@ -65,5 +68,13 @@ public class AuthService {
         if (!isDeleted) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "삭제할 사용자를 찾을 수 없습니다.");
         }
+
+        // 인증 필터가 사용자 테이블을 보지 않으므로, 탈퇴한 사용자의 토큰은 여기서 무효로 한다.
+        tokenRevocationService.revoke(userId);
+    }
+
+    // 모든 기기에서 로그아웃: 지금까지 발급된 토큰을 모두 무효로 한다.
+    public void logout(String userId) {
+        tokenRevocationService.revoke(userId);
     }
 }
\ No newline at end of file
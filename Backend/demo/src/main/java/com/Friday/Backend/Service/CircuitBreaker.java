@@ -0,0 +1,142 @@
+package com.Friday.Backend.Service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 최근 windowSize 번 호출 중 실패 비율이 failureRate 이상이면 openMillis 동안 호출을 막는다(OPEN).
+// 시간이 지나면 한 번만 시험 호출을 보내(HALF_OPEN) 성공하면 다시 열고, 실패하면 다시 막는다.
+// 모든 S3 호출이 거치므로 synchronized 대신 ReentrantLock 을 쓴다. Java 21 의 가상 스레드는 모니터를 기다리는 동안
+// 캐리어 스레드를 붙잡지만 ReentrantLock 에서는 내려놓는다.
+public class CircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int next;
+    private int calls;
+    private int failures;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRate, long openMillis) {
+        this(windowSize, minCalls, failureRate, openMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minCalls, double failureRate, long openMillis, LongSupplier nanoClock) {
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRate = failureRate;
+        this.openNanos = openMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[windowSize];
+    }
+
+    // false 면 호출하지 말아야 한다. true 를 받았으면 onSuccess/onFailure 중 하나를 반드시 부른다.
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                probing = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+            }
+            return state != State.OPEN;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    // 막히기 전에 나간 호출의 결과는 OPEN 상태에 영향을 주지 않는다.
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                close();
+                return;
+            }
+            record(false);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            record(true);
+            if (calls >= minCalls && failures >= failureRate * calls) {
+                open();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed) {
+        if (calls == windowSize) {
+            if (window[next]) {
+                failures--;
+            }
+        }
+        else {
+            calls++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
@@ -1,23 +1,72 @@
 package com.Friday.Backend.Service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.Friday.Backend.Domain.db.Frame;
 import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Domain.repository.FrameRepository;
+import com.Friday.Backend.Domain.repository.UserRepository;
 import com.Friday.Backend.Domain.repository.VideoRepository;
+import com.Friday.Backend.Dto.ClassificationResultDto;
+import com.Friday.Backend.Dto.ScoreResultDto;
+import com.Friday.Backend.Dto.TemplateLibraryStatusDto;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonDtw;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonReference;
+import com.Friday.Backend.Skeleton.SkeletonTemplateLibrary;
 
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 @Service
 public class EstimateService {
 
+    private static final ThreadLocal<SkeletonDtw> DTW = ThreadLocal.withInitial(SkeletonDtw::new);
+
     private final VideoRepository videoRepository;
+    private final UserRepository userRepository;
+    private final FrameRepository frameRepository;
+    private final SkeletonStorageService skeletonStorageService;
+    private final ReferenceSkeletonService referenceSkeletonService;
+    private final double bandRatio;
+    private final double tolerance;
+    private final ForkJoinPool scoringPool;
 
     public EstimateService(
-        VideoRepository videoRepository
+        VideoRepository videoRepository,
+        UserRepository userRepository,
+        FrameRepository frameRepository,
+        SkeletonStorageService skeletonStorageService,
+        ReferenceSkeletonService referenceSkeletonService,
+        @Value("${scoring.dtw.band-ratio:0.1}") double bandRatio,
+        @Value("${scoring.tolerance:0.25}") double tolerance,
+        @Value("${scoring.parallelism:0}") int parallelism
         ) {
             this.videoRepository = videoRepository;
+            this.userRepository = userRepository;
+            this.frameRepository = frameRepository;
+            this.skeletonStorageService = skeletonStorageService;
+            this.referenceSkeletonService = referenceSkeletonService;
+            this.bandRatio = bandRatio;
+            this.tolerance = tolerance;
+            this.scoringPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors()
+            );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scoringPool.shutdownNow();
     }
 
     public String saveScore(String userId, String videoId, String score) {
@@ -26,6 +75,7 @@ public class EstimateService {
         .map(video -> {
             video.setScore(score);
             videoRepository.save(video);
+            userRepository.incrementVideoListVersion(userId);
             
             return "점수를 등록했습니다.";
         })
@@ -50,4 +100,210 @@ public class EstimateService {
         
         return video.getScore();
     }
-}
\ No newline at end of file
+
+    public void checkVideoOwner(String userId, String videoId) {
+        if (videoRepository.findByVideoIdAndUserId(videoId, userId).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "영상이 없거나, 권한이 없습니다.");
+        }
+    }
+
+    // 클라이언트가 보낸 점수 대신 저장된 스켈레톤을 기준 동작과 DTW 로 정렬해 서버가 점수를 매긴다.
+    // reference 가 없으면 영상 이름과 같은 기준 동작을, 그것도 없으면 분류 결과를 쓴다.
+    public ScoreResultDto evaluateScore(String userId, String videoId, String referenceName) {
+        Video video = videoRepository.findByVideoIdAndUserId(videoId, userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "영상이 없거나, 권한이 없습니다."));
+
+        SkeletonReference attempt = loadAttempt(video);
+        if (attempt == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "스켈레톤 데이터가 없습니다.");
+        }
+        SkeletonReference reference = referenceName != null
+            ? findReference(referenceName)
+            : resolveReference(video, attempt);
+        if (reference == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "기준 동작을 찾을 수 없습니다.");
+        }
+
+        ScoreResultDto result = score(videoId, attempt, reference);
+        video.setScore(result.getScore());
+        videoRepository.save(video);
+        userRepository.incrementVideoListVersion(userId);
+
+        return result;
+    }
+
+    // 사용자의 모든 영상을 다시 채점한다. DB 읽기는 순차로, DTW 는 전용 풀에서 코어 수만큼 병렬로 돈다.
+    // 디코딩된 스켈레톤을 한꺼번에 들고 있지 않도록 풀 크기의 두 배씩 끊어서 처리한다.
+    public List<ScoreResultDto> rescoreVideos(String userId, String referenceName) {
+        SkeletonReference fixedReference = referenceName == null ? null : findReference(referenceName);
+        List<Video> videos = videoRepository.findAllByUser_UserId(userId);
+        List<ScoreResultDto> results = new ArrayList<>();
+        int batchSize = scoringPool.getParallelism() * 2;
+
+        for (int from = 0; from < videos.size(); from += batchSize) {
+            List<Video> batch = videos.subList(from, Math.min(videos.size(), from + batchSize));
+            List<ScoringTask> tasks = new ArrayList<>();
+
+            for (Video video : batch) {
+                try {
+                    SkeletonReference attempt = loadAttempt(video);
+                    if (attempt == null) {
+                        continue;
+                    }
+                    SkeletonReference reference = fixedReference != null
+                        ? fixedReference
+                        : resolveReference(video, attempt);
+                    if (reference == null) {
+                        continue;
+                    }
+                    // 병렬 채점 안에서 던지면 배치 전체가 실패하므로 관절 구성은 미리 확인해 해당 영상만 뺀다.
+                    checkFrameSize(attempt, reference);
+                    tasks.add(new ScoringTask(video, attempt, reference));
+                }
+                catch (ResponseStatusException e) {
+                    System.err.println("재채점 제외: " + video.getVideoId() + " - " + e.getReason());
+                }
+            }
+
+            List<ScoreResultDto> scored = runParallel(tasks);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).video().setScore(scored.get(i).getScore());
+            }
+            videoRepository.saveAll(tasks.stream().map(ScoringTask::video).toList());
+            results.addAll(scored);
+        }
+
+        if (!results.isEmpty()) {
+            userRepository.incrementVideoListVersion(userId);
+        }
+
+        return results;
+    }
+
+    // 어떤 품새인지 모든 기준 동작과 비교해 가장 가까운 것을 고른다.
+    public ClassificationResultDto classify(String userId, String videoId) {
+        Video video = videoRepository.findByVideoIdAndUserId(videoId, userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "영상이 없거나, 권한이 없습니다."));
+
+        SkeletonReference attempt = loadAttempt(video);
+        if (attempt == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "스켈레톤 데이터가 없습니다.");
+        }
+
+        long started = System.nanoTime();
+        SkeletonTemplateLibrary.Classification classification = classifyAttempt(attempt);
+        if (classification == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "등록된 기준 동작이 없습니다.");
+        }
+
+        return new ClassificationResultDto(videoId, classification, (System.nanoTime() - started) / 1_000);
+    }
+
+    public TemplateLibraryStatusDto getTemplateStatus() {
+        return new TemplateLibraryStatusDto(
+            referenceSkeletonService.getAll().stream().map(SkeletonReference::getName).toList(),
+            referenceSkeletonService.getLoadedAt(),
+            referenceSkeletonService.getClassifications(),
+            referenceSkeletonService.getPruningRate(),
+            referenceSkeletonService.getAbandonRate(),
+            referenceSkeletonService.getAverageClassifyMillis()
+        );
+    }
+
+    private SkeletonReference resolveReference(Video video, SkeletonReference attempt) {
+        SkeletonReference byName = referenceSkeletonService.get(video.getVideoName());
+        if (byName != null) {
+            return byName;
+        }
+        SkeletonTemplateLibrary.Classification classification = classifyAttempt(attempt);
+        return classification == null ? null : referenceSkeletonService.get(classification.name());
+    }
+
+    private SkeletonTemplateLibrary.Classification classifyAttempt(SkeletonReference attempt) {
+        try {
+            return referenceSkeletonService.classify(attempt);
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "기준 동작과 관절 구성이 다릅니다.", e);
+        }
+    }
+
+    private List<ScoreResultDto> runParallel(List<ScoringTask> tasks) {
+        try {
+            return scoringPool.submit(() -> tasks.parallelStream()
+                .map(task -> score(task.video().getVideoId(), task.attempt(), task.reference()))
+                .toList()
+            ).get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "채점이 중단되었습니다.", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof ResponseStatusException status) {
+                throw status;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "채점 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private void checkFrameSize(SkeletonReference attempt, SkeletonReference reference) {
+        if (attempt.getFrameSize() != reference.getFrameSize()) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "기준 동작과 관절 구성이 다릅니다.");
+        }
+    }
+
+    private ScoreResultDto score(String videoId, SkeletonReference attempt, SkeletonReference reference) {
+        checkFrameSize(attempt, reference);
+
+        long started = System.nanoTime();
+        double cost = DTW.get().distance(
+            attempt.getValues(), attempt.getFrameCount(),
+            reference.getValues(), reference.getFrameCount(),
+            reference.getFrameSize(),
+            bandRatio,
+            Double.POSITIVE_INFINITY
+        );
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // 경로 길이(≈ 긴 쪽 프레임 수)로 나눈 프레임당 비용 → 관절당 RMS 오차(어깨 너비 단위) → 0~100 점
+        double perFrame = cost / Math.max(attempt.getFrameCount(), reference.getFrameCount());
+        double jointError = Math.sqrt(perFrame / reference.getJointCount());
+        double score = 100.0 * Math.exp(-jointError / tolerance);
+
+        return new ScoreResultDto(
+            videoId,
+            reference.getName(),
+            String.format(Locale.ROOT, "%.1f", score),
+            jointError,
+            attempt.getFrameCount(),
+            reference.getFrameCount(),
+            elapsedMillis
+        );
+    }
+
+    private SkeletonReference findReference(String name) {
+        SkeletonReference reference = referenceSkeletonService.get(name);
+        if (reference == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "기준 동작을 찾을 수 없습니다: " + name);
+        }
+        return reference;
+    }
+
+    private SkeletonReference loadAttempt(Video video) {
+        Frame frame = frameRepository.findByVideo(video).orElse(null);
+        if (frame == null) {
+            return null;
+        }
+
+        try {
+            SkeletonData data = skeletonStorageService.readData(frame);
+            return data == null ? null : referenceSkeletonService.prepare(video.getVideoId(), data);
+        }
+        catch (SkeletonFormatException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "스켈레톤 형식을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private record ScoringTask(Video video, SkeletonReference attempt, SkeletonReference reference) {}
+}
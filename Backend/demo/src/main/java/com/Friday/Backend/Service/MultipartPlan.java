@@ -0,0 +1,32 @@
+package com.Friday.Backend.Service;
+
+// 멀티파트 업로드 파트 나누기. S3 제한: 파트 최소 5 MiB(마지막 제외), 최대 5 GiB, 최대 10000 개, 객체 최대 5 TiB.
+// 기본 파트 크기로 10000 개를 넘으면 10000 개에 맞도록 1 MiB 단위로 키운다.
+public record MultipartPlan(long partSize, int partCount) {
+
+    public static final long MIN_PART_SIZE = 5L << 20;
+    public static final long MAX_PART_SIZE = 5L << 30;
+    public static final int MAX_PARTS = 10_000;
+    public static final long MAX_OBJECT_SIZE = 5L << 40;
+
+    private static final long MIB = 1L << 20;
+
+    public static MultipartPlan of(long fileSize, long preferredPartSize) {
+        if (fileSize <= 0 || fileSize > MAX_OBJECT_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 1 바이트 이상 5 TiB 이하여야 합니다.");
+        }
+
+        long partSize = Math.max(preferredPartSize, MIN_PART_SIZE);
+        long needed = ceilDiv(fileSize, MAX_PARTS);
+        if (needed > partSize) {
+            partSize = ceilDiv(needed, MIB) * MIB;
+        }
+        partSize = Math.min(partSize, MAX_PART_SIZE);
+
+        return new MultipartPlan(partSize, (int) ceilDiv(fileSize, partSize));
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return (x + y - 1) / y;
+    }
+}
@@ -0,0 +1,212 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.MultipartUpload;
+import com.Friday.Backend.Domain.repository.MultipartUploadRepository;
+import com.Friday.Backend.Dto.MultipartCompleteDto;
+import com.Friday.Backend.Dto.MultipartUploadDto;
+import com.Friday.Backend.Dto.UploadPartUrlDto;
+
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 큰 영상 파일의 멀티파트 업로드. 서버는 파트 크기를 정하고 파트별 PUT URL 을 묶어서 내주며,
+// 클라이언트는 파트를 병렬로 올린 뒤 각 응답의 ETag 로 완료를 요청한다. 실패한 파트만 다시 올리면 된다.
+// 영상의 objectName 은 완료된 뒤에야 저장하므로 그 전에는 다운로드 URL 이 나가지 않는다.
+// 완료/취소되지 않은 업로드는 S3 에 파트 요금이 계속 나오므로 정리 작업이 max-age 가 지난 것을 취소한다.
+// 정리 작업은 이 서비스가 기록한 업로드만 취소한다. 기록하기 전에 서버가 죽어 남은 업로드는
+// 버킷의 수명 주기 규칙(AbortIncompleteMultipartUpload)으로 정리한다.
+@Service
+public class MultipartUploadService {
+
+    private static final int REAP_BATCH = 100;
+
+    private final MultipartUploadRepository multipartUploadRepository;
+    private final S3Gateway s3Gateway;
+    private final S3Service s3Service;
+    private final VideoService videoService;
+    private final long threshold;
+    private final long partSize;
+    private final int urlBatch;
+    private final Duration maxAge;
+    private final boolean reaperEnabled;
+
+    public MultipartUploadService(
+        MultipartUploadRepository multipartUploadRepository,
+        S3Gateway s3Gateway,
+        S3Service s3Service,
+        VideoService videoService,
+        @Value("${aws.s3.multipart.threshold:67108864}") long threshold,
+        @Value("${aws.s3.multipart.part-size:16777216}") long partSize,
+        @Value("${aws.s3.multipart.url-batch:50}") int urlBatch,
+        @Value("${aws.s3.multipart.max-age:24h}") Duration maxAge,
+        @Value("${aws.s3.multipart.reaper.enabled:true}") boolean reaperEnabled
+    ) {
+        this.multipartUploadRepository = multipartUploadRepository;
+        this.s3Gateway = s3Gateway;
+        this.s3Service = s3Service;
+        this.videoService = videoService;
+        this.threshold = threshold;
+        this.partSize = partSize;
+        this.urlBatch = urlBatch;
+        this.maxAge = maxAge;
+        this.reaperEnabled = reaperEnabled;
+    }
+
+    // 크기를 모르거나 threshold 보다 작으면 한 번의 PUT 으로 충분하다.
+    public boolean shouldUseMultipart(Long fileSize) {
+        return fileSize != null && fileSize >= threshold;
+    }
+
+    // S3 에 업로드를 만든 뒤 업로드 ID 만 저장한다. S3 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 부른다.
+    // start/complete/abort 는 호출한 (요청) 스레드에서 S3 응답을 기다린다.
+    public MultipartUploadDto start(String userId, String videoId, String bucket, String objectName, long fileSize) {
+        MultipartPlan plan;
+        try {
+            plan = MultipartPlan.of(fileSize, partSize);
+        }
+        catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        String uploadId = join(s3Gateway.createMultipartUpload(bucket, objectName));
+        multipartUploadRepository.save(new MultipartUpload(
+            videoId, userId, bucket, objectName, uploadId, plan.partSize(), plan.partCount()
+        ));
+
+        return new MultipartUploadDto(
+            uploadId,
+            plan.partSize(),
+            plan.partCount(),
+            s3Service.getUploadPartUrls(bucket, objectName, uploadId, 1, Math.min(plan.partCount(), urlBatch))
+        );
+    }
+
+    // 파트 [fromPart, fromPart + count) 의 URL. 한 번에 url-batch 개까지
+    public List<UploadPartUrlDto> getPartUrls(String userId, String videoId, int fromPart, int count) {
+        MultipartUpload upload = find(userId, videoId);
+        if (fromPart < 1 || fromPart > upload.getPartCount() || count < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파트 범위가 올바르지 않습니다.");
+        }
+
+        int toPart = Math.min(upload.getPartCount(), fromPart + Math.min(count, urlBatch) - 1);
+        return s3Service.getUploadPartUrls(upload.getBucket(), upload.getObjectName(), upload.getUploadId(), fromPart, toPart);
+    }
+
+    public void complete(String userId, String videoId, List<MultipartCompleteDto.Part> parts) {
+        MultipartUpload upload = find(userId, videoId);
+
+        List<MultipartCompleteDto.Part> sorted = new ArrayList<>(parts);
+        sorted.sort(Comparator.comparingInt(MultipartCompleteDto.Part::getPartNumber));
+        for (int i = 0; i < sorted.size(); i++) {
+            if (sorted.get(i).getPartNumber() != i + 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, (i + 1) + "번 파트가 없거나 중복되었습니다.");
+            }
+        }
+        if (sorted.size() != upload.getPartCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "파트 " + upload.getPartCount() + "개가 모두 필요합니다. (받은 수: " + sorted.size() + ")");
+        }
+
+        join(s3Gateway.completeMultipartUpload(
+            upload.getBucket(),
+            upload.getObjectName(),
+            upload.getUploadId(),
+            sorted.stream()
+                .map(part -> CompletedPart.builder().partNumber(part.getPartNumber()).eTag(part.getEtag()).build())
+                .toList()
+        ));
+
+        videoService.saveVideoMetadata(userId, videoId, upload.getObjectName());
+        multipartUploadRepository.delete(upload);
+    }
+
+    public void abort(String userId, String videoId) {
+        MultipartUpload upload = find(userId, videoId);
+
+        join(s3Gateway.abortMultipartUpload(upload.getBucket(), upload.getObjectName(), upload.getUploadId()));
+        multipartUploadRepository.delete(upload);
+    }
+
+    // max-age 보다 오래된 멀티파트 업로드를 취소한다. 취소한 수
+    public int reap() {
+        return reap(LocalDateTime.now().minus(maxAge));
+    }
+
+    // 기록된 업로드만 취소하고 버킷의 다른 업로드는 건드리지 않는다. 취소에 실패한 것은 기록을 남겨 다음에 다시 시도한다.
+    int reap(LocalDateTime cutoff) {
+        int aborted = 0;
+        while (true) {
+            List<MultipartUpload> stale = multipartUploadRepository.findByCreatedAtBeforeOrderByCreatedAt(cutoff, Limit.of(REAP_BATCH));
+            List<CompletableFuture<Void>> aborts = stale.stream()
+                .map(upload -> s3Gateway.abortMultipartUpload(upload.getBucket(), upload.getObjectName(), upload.getUploadId()))
+                .toList();
+
+            int before = aborted;
+            for (int i = 0; i < stale.size(); i++) {
+                try {
+                    aborts.get(i).join();
+                    multipartUploadRepository.delete(stale.get(i));
+                    aborted++;
+                }
+                catch (CompletionException e) {
+                    System.err.println("멀티파트 업로드 취소 실패: " + stale.get(i).getUploadId() + " - " + e.getCause().getMessage());
+                }
+            }
+
+            if (stale.size() < REAP_BATCH || aborted == before) {
+                return aborted;
+            }
+        }
+    }
+
+    // aws.s3.multipart.reaper.enabled=false 면 돌지 않는다. 테스트는 reap 을 직접 부른다.
+    @Scheduled(initialDelayString = "${aws.s3.multipart.reap-interval:1h}", fixedDelayString = "${aws.s3.multipart.reap-interval:1h}")
+    public void reapOnSchedule() {
+        if (!reaperEnabled) {
+            return;
+        }
+        try {
+            reap();
+        }
+        catch (RuntimeException e) {
+            System.err.println("멀티파트 업로드 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private MultipartUpload find(String userId, String videoId) {
+        return multipartUploadRepository.findByVideoIdAndUserId(videoId, userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "진행 중인 멀티파트 업로드가 없습니다."));
+    }
+
+    // 게이트웨이 오류를 HTTP 응답으로 바꾼다. S3 가 요청을 거절한 경우(잘못된 ETag 등)는 400
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof ResponseStatusException status) {
+                throw status;
+            }
+            if (e.getCause() instanceof S3Exception s3Exception && s3Exception.statusCode() < 500) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "S3 가 요청을 거절했습니다: " + s3Exception.awsErrorDetails().errorCode(), s3Exception);
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "S3 요청에 실패했습니다.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonDtw;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonReference;
+import com.Friday.Backend.Skeleton.SkeletonTemplateLibrary;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// 기준 품새 동작 라이브러리. scoring.reference-dir 의 <이름>.json (업로드와 같은 joints JSON) 을 읽는다.
+// 디렉터리가 바뀌면 새 스냅샷을 만들어 한 번에 교체하므로 채점/분류 중인 요청은 이전 스냅샷을 그대로 쓴다.
+@Service
+public class ReferenceSkeletonService {
+
+    private static final ThreadLocal<SkeletonDtw> DTW = ThreadLocal.withInitial(SkeletonDtw::new);
+
+    private final SkeletonNormalizationService normalizationService;
+    private final Path referenceDir;
+    private final int stride;
+    private final int classifyFrames;
+    private final double bandRatio;
+    private final AtomicReference<SkeletonTemplateLibrary> library = new AtomicReference<>(SkeletonTemplateLibrary.empty());
+    private volatile LocalDateTime loadedAt;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private final AtomicLong classifications = new AtomicLong();
+    private final AtomicLong candidates = new AtomicLong();
+    private final AtomicLong pruned = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private final AtomicLong classifyNanos = new AtomicLong();
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    public ReferenceSkeletonService(
+        SkeletonNormalizationService normalizationService,
+        @Value("${scoring.reference-dir:references}") String referenceDir,
+        @Value("${scoring.dtw.stride:3}") int stride,
+        @Value("${scoring.dtw.band-ratio:0.1}") double bandRatio,
+        @Value("${scoring.classify.frames:128}") int classifyFrames,
+        @Value("${scoring.reference-watch:true}") boolean watch
+    ) {
+        this.normalizationService = normalizationService;
+        this.referenceDir = Paths.get(referenceDir);
+        this.stride = Math.max(1, stride);
+        this.bandRatio = bandRatio;
+        this.classifyFrames = Math.max(2, classifyFrames);
+
+        reload();
+        if (watch) {
+            startWatcher();
+        }
+    }
+
+    public SkeletonReference get(String name) {
+        return library.get().get(name);
+    }
+
+    public Collection<SkeletonReference> getAll() {
+        return library.get().getAll();
+    }
+
+    public SkeletonTemplateLibrary getLibrary() {
+        return library.get();
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    // 채점 대상도 기준과 같은 정규화/다운샘플을 거쳐야 거리가 비교 가능하다.
+    public SkeletonReference prepare(String name, SkeletonData data) {
+        SkeletonData normalized = normalizationService.normalize(data);
+        int frameSize = normalized.getShape().getFrameSize();
+        int frames = (normalized.getFrameCount() + stride - 1) / stride;
+        float[] values = SkeletonDtw.downsample(normalized.getValues(), normalized.getFrameCount(), frameSize, stride);
+
+        return new SkeletonReference(name, normalized.getShape().getJointCount(), frameSize, frames, values);
+    }
+
+    // 템플릿이 없으면 null
+    public SkeletonTemplateLibrary.Classification classify(SkeletonReference attempt) {
+        long started = System.nanoTime();
+        SkeletonTemplateLibrary.Classification result = library.get()
+            .classify(attempt.getValues(), attempt.getFrameCount(), DTW.get());
+
+        if (result != null) {
+            classifications.incrementAndGet();
+            candidates.addAndGet(result.candidates());
+            pruned.addAndGet(result.pruned());
+            abandoned.addAndGet(result.abandoned());
+            classifyNanos.addAndGet(System.nanoTime() - started);
+        }
+        return result;
+    }
+
+    public long getClassifications() {
+        return classifications.get();
+    }
+
+    // LB_Keogh 하한만으로 DTW 를 건너뛴 비율
+    public double getPruningRate() {
+        long total = candidates.get();
+        return total == 0 ? 0 : (double) pruned.get() / total;
+    }
+
+    // DTW 를 시작했지만 도중에 포기한 비율
+    public double getAbandonRate() {
+        long total = candidates.get();
+        return total == 0 ? 0 : (double) abandoned.get() / total;
+    }
+
+    public double getAverageClassifyMillis() {
+        long count = classifications.get();
+        return count == 0 ? 0 : classifyNanos.get() / 1_000_000.0 / count;
+    }
+
+    // 읽기에 실패한 파일은 건너뛰고, 나머지로 새 라이브러리를 만들어 교체한다.
+    // 파일을 읽는 동안 잠그므로 synchronized 가 아닌 ReentrantLock 이다 (가상 스레드가 캐리어를 붙잡지 않도록).
+    public int reload() {
+        reloadLock.lock();
+        try {
+            Map<String, SkeletonReference> loaded = new TreeMap<>();
+            if (Files.isDirectory(referenceDir)) {
+                try (Stream<Path> files = Files.list(referenceDir)) {
+                    files
+                        .filter(path -> path.getFileName().toString().endsWith(".json"))
+                        .forEach(path -> {
+                            String fileName = path.getFileName().toString();
+                            String name = fileName.substring(0, fileName.length() - ".json".length());
+                            try {
+                                SkeletonData data = SkeletonJson.parse(Files.readString(path));
+                                loaded.put(name, prepare(name, data));
+                            }
+                            catch (Exception e) {
+                                System.err.println("기준 동작 로드 실패: " + path + " - " + e.getMessage());
+                            }
+                        });
+                }
+                catch (IOException e) {
+                    System.err.println("기준 동작 디렉터리를 읽을 수 없습니다: " + referenceDir + " - " + e.getMessage());
+                    return library.get().size();
+                }
+            }
+
+            try {
+                library.set(new SkeletonTemplateLibrary(loaded, classifyFrames, bandRatio));
+            }
+            catch (RuntimeException e) {
+                System.err.println("기준 동작 라이브러리를 만들 수 없어 이전 것을 유지합니다: " + e.getMessage());
+                return library.get().size();
+            }
+            loadedAt = LocalDateTime.now();
+            return loaded.size();
+        }
+        finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            }
+            catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void startWatcher() {
+        if (!Files.isDirectory(referenceDir)) {
+            return;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            referenceDir.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+        }
+        catch (IOException e) {
+            System.err.println("기준 동작 디렉터리 감시를 시작할 수 없습니다: " + e.getMessage());
+            return;
+        }
+
+        watcher = new Thread(this::watchLoop, "reference-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                // 파일 복사가 끝날 때까지 이벤트를 모았다가 한 번만 다시 읽는다.
+                do {
+                    key.pollEvents();
+                    key.reset();
+                    key = watchService.poll(500, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                reload();
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.Friday.Backend.Service;
+
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// DeleteObjects 한 번에 최대 1000 개씩 지운다. 객체마다 DeleteObject 를 부르면 왕복이 키 수만큼 든다.
+// 묶음들은 동시에 보내고 모두 끝날 때까지 기다린다.
+// 없는 키는 S3 가 성공으로 돌려주므로 같은 키를 다시 지워도 된다.
+public class S3BatchDeleter {
+
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final S3Gateway s3Gateway;
+    private final int batchSize;
+
+    public S3BatchDeleter(S3Gateway s3Gateway, int batchSize) {
+        if (batchSize < 1 || batchSize > MAX_KEYS_PER_REQUEST) {
+            throw new IllegalArgumentException("batchSize 는 1 이상 " + MAX_KEYS_PER_REQUEST + " 이하여야 합니다.");
+        }
+        this.s3Gateway = s3Gateway;
+        this.batchSize = batchSize;
+    }
+
+    // 실패한 키 → 이유. 비어 있으면 모두 지워진 것
+    public Map<String, String> delete(String bucket, List<String> keys) {
+        List<List<String>> batches = new ArrayList<>();
+        List<CompletableFuture<DeleteObjectsResponse>> responses = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<String> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            batches.add(batch);
+            responses.add(s3Gateway.deleteObjects(bucket, batch));
+        }
+
+        Map<String, String> failed = new HashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            try {
+                for (S3Error error : responses.get(i).join().errors()) {
+                    failed.put(error.key(), error.code() + ": " + error.message());
+                }
+            }
+            catch (CompletionException e) {
+                String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
+                for (String key : batches.get(i)) {
+                    failed.put(key, reason);
+                }
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,349 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// S3 네트워크 호출은 모두 여기를 거친다. 비동기 클라이언트라 게이트웨이 자체는 스레드를 잡지 않지만,
+// future 를 join 하는 호출자(MultipartUploadService 의 시작/완료/취소)는 응답이 올 때까지 요청 스레드에서 기다린다.
+//  - 작업마다 기한(aws.s3.deadline.*)이 지나면 요청을 취소하고 504 로 끝낸다.
+//  - 5xx/연결 오류/기한 초과가 잦으면 회로 차단기가 잠시 요청을 막고 바로 503 으로 끝낸다.
+//  - 멱등인 조회/삭제는 aws.s3.hedge.delay 안에 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 응답을 쓴다.
+//    차단기가 닫혀 있을 때만 보내므로 S3 가 느려진 상황에서 부하를 두 배로 만들지 않는다.
+// 작업별 지연은 s3.requests 타이머(p50/p99)로 남는다.
+@Service
+public class S3Gateway {
+
+    public enum Operation {
+        HEAD(true),
+        DELETE(true),
+        CREATE_MULTIPART(false),
+        // 같은 파트 목록으로 다시 완료해도 결과는 같지만, 큰 업로드는 오래 걸리므로 두 번 보내지 않는다.
+        COMPLETE_MULTIPART(false),
+        ABORT_MULTIPART(true);
+
+        private final boolean idempotent;
+
+        Operation(boolean idempotent) {
+            this.idempotent = idempotent;
+        }
+
+        public boolean isIdempotent() {
+            return idempotent;
+        }
+    }
+
+    private final S3AsyncClient s3;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<Operation, Duration> deadlines = new EnumMap<>(Operation.class);
+    private final boolean hedging;
+    private final Executor hedgeExecutor;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Operation, Counter> hedgeCounters = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> hedgeWinCounters = new EnumMap<>(Operation.class);
+
+    @Autowired
+    public S3Gateway(
+        S3AsyncClient s3,
+        MeterRegistry meterRegistry,
+        @Value("${aws.s3.deadline.head:2s}") Duration headDeadline,
+        @Value("${aws.s3.deadline.delete:10s}") Duration deleteDeadline,
+        @Value("${aws.s3.deadline.multipart:10s}") Duration multipartDeadline,
+        @Value("${aws.s3.deadline.complete-multipart:60s}") Duration completeDeadline,
+        @Value("${aws.s3.hedge.enabled:true}") boolean hedging,
+        @Value("${aws.s3.hedge.delay:200ms}") Duration hedgeDelay,
+        @Value("${aws.s3.circuit.window:50}") int circuitWindow,
+        @Value("${aws.s3.circuit.min-calls:20}") int circuitMinCalls,
+        @Value("${aws.s3.circuit.failure-rate:0.5}") double circuitFailureRate,
+        @Value("${aws.s3.circuit.open-ms:10000}") long circuitOpenMillis
+    ) {
+        this(s3, meterRegistry,
+            Map.of(
+                Operation.HEAD, headDeadline,
+                Operation.DELETE, deleteDeadline,
+                Operation.CREATE_MULTIPART, multipartDeadline,
+                Operation.COMPLETE_MULTIPART, completeDeadline,
+                Operation.ABORT_MULTIPART, multipartDeadline
+            ),
+            hedging, hedgeDelay, new CircuitBreaker(circuitWindow, circuitMinCalls, circuitFailureRate, circuitOpenMillis));
+    }
+
+    // 모든 작업에 같은 기한
+    S3Gateway(
+        S3AsyncClient s3,
+        MeterRegistry meterRegistry,
+        Duration deadline,
+        boolean hedging,
+        Duration hedgeDelay,
+        CircuitBreaker circuitBreaker
+    ) {
+        this(s3, meterRegistry, sameDeadline(deadline), hedging, hedgeDelay, circuitBreaker);
+    }
+
+    private S3Gateway(
+        S3AsyncClient s3,
+        MeterRegistry meterRegistry,
+        Map<Operation, Duration> deadlines,
+        boolean hedging,
+        Duration hedgeDelay,
+        CircuitBreaker circuitBreaker
+    ) {
+        this.s3 = s3;
+        this.meterRegistry = meterRegistry;
+        this.deadlines.putAll(deadlines);
+        this.hedging = hedging;
+        this.hedgeExecutor = CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+        this.circuitBreaker = circuitBreaker;
+
+        for (Operation operation : Operation.values()) {
+            hedgeCounters.put(operation, Counter.builder("s3.hedges")
+                .description("응답이 늦어 한 번 더 보낸 요청 수")
+                .tag("operation", operation.name())
+                .register(meterRegistry));
+            hedgeWinCounters.put(operation, Counter.builder("s3.hedges.won")
+                .description("다시 보낸 요청이 먼저 응답한 수")
+                .tag("operation", operation.name())
+                .register(meterRegistry));
+        }
+        Gauge.builder("s3.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+            .description("0: 정상, 1: 시험 호출 중, 2: 차단")
+            .register(meterRegistry);
+    }
+
+    // 객체가 없으면 empty. 404 는 차단기에 실패로 세지 않는다.
+    // 취소가 SDK 요청까지 전달되도록 변환은 execute 바깥에서 한다.
+    public CompletableFuture<Optional<HeadObjectResponse>> headObject(String bucket, String key) {
+        return execute(Operation.HEAD, () -> s3.headObject(request -> request.bucket(bucket).key(key)))
+            .thenApply(Optional::of)
+            .exceptionally(e -> {
+                if (unwrap(e) instanceof NoSuchKeyException || isStatus(unwrap(e), 404)) {
+                    return Optional.empty();
+                }
+                throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+            });
+    }
+
+    // 최대 1000 개. quiet 모드라 응답에는 실패한 키만 담긴다.
+    public CompletableFuture<DeleteObjectsResponse> deleteObjects(String bucket, List<String> keys) {
+        Delete delete = Delete.builder()
+            .quiet(true)
+            .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+            .build();
+        return execute(Operation.DELETE, () -> s3.deleteObjects(request -> request.bucket(bucket).delete(delete)));
+    }
+
+    public CompletableFuture<String> createMultipartUpload(String bucket, String key) {
+        return execute(Operation.CREATE_MULTIPART, () -> s3.createMultipartUpload(request -> request.bucket(bucket).key(key)))
+            .thenApply(CreateMultipartUploadResponse::uploadId);
+    }
+
+    // parts 는 partNumber 오름차순이어야 한다.
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+        String bucket,
+        String key,
+        String uploadId,
+        List<CompletedPart> parts
+    ) {
+        return execute(Operation.COMPLETE_MULTIPART, () -> s3.completeMultipartUpload(request -> request
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(upload -> upload.parts(parts))));
+    }
+
+    // 이미 완료/취소되어 없는 업로드(NoSuchUpload)는 성공으로 본다.
+    public CompletableFuture<Void> abortMultipartUpload(String bucket, String key, String uploadId) {
+        return execute(Operation.ABORT_MULTIPART, () -> s3.abortMultipartUpload(request -> request
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)))
+            .<Void>thenApply(response -> null)
+            .exceptionally(e -> {
+                if (isStatus(unwrap(e), 404)) {
+                    return null;
+                }
+                throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+            });
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> CompletableFuture<T> execute(Operation operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (!circuitBreaker.tryAcquire()) {
+            sample.stop(timer(operation, "rejected"));
+            return CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "S3 응답이 불안정해 잠시 요청을 막았습니다."));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        // 먼저 성공한 요청이 다시 보낸 요청인지. result 를 완료하기 전에 정해 둬야 handle 에서 볼 수 있다.
+        AtomicReference<Boolean> hedgeWon = new AtomicReference<>();
+        launch(operation, call, result, attempts, outstanding, hedgeWon, false);
+
+        if (hedging && operation.isIdempotent()) {
+            hedgeExecutor.execute(() -> {
+                if (result.isDone() || circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+                    return;
+                }
+                outstanding.incrementAndGet();
+                hedgeCounters.get(operation).increment();
+                launch(operation, call, result, attempts, outstanding, hedgeWon, true);
+            });
+        }
+
+        result.orTimeout(deadlines.get(operation).toMillis(), TimeUnit.MILLISECONDS);
+
+        return result.handle((value, error) -> {
+            // 이긴 요청 외에는 취소한다. 기한 초과면 모두 취소된다.
+            attempts.forEach(attempt -> attempt.cancel(true));
+
+            Throwable cause = error == null ? null : unwrap(error);
+            if (cause == null || !isTransient(cause)) {
+                circuitBreaker.onSuccess();
+            }
+            else {
+                circuitBreaker.onFailure();
+            }
+            sample.stop(timer(operation, outcome(cause)));
+
+            if (cause == null) {
+                if (Boolean.TRUE.equals(hedgeWon.get())) {
+                    hedgeWinCounters.get(operation).increment();
+                }
+                return value;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new CompletionException(
+                    new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "S3 응답이 기한 안에 오지 않았습니다."));
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    private <T> void launch(
+        Operation operation,
+        Supplier<CompletableFuture<T>> call,
+        CompletableFuture<T> result,
+        List<CompletableFuture<T>> attempts,
+        AtomicInteger outstanding,
+        AtomicReference<Boolean> hedgeWon,
+        boolean hedge
+    ) {
+        CompletableFuture<T> attempt;
+        try {
+            attempt = call.get();
+        }
+        catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        attempts.add(attempt);
+        if (result.isDone()) {
+            attempt.cancel(true);
+            return;
+        }
+
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                if (hedgeWon.compareAndSet(null, hedge)) {
+                    result.complete(value);
+                }
+                return;
+            }
+            // 404/403 같은 응답은 다시 보내도 같으므로 바로 끝낸다. 일시적인 오류는 다른 요청이 남아 있으면 기다린다.
+            if (outstanding.decrementAndGet() == 0 || !isTransient(unwrap(error))) {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+    }
+
+    private Timer timer(Operation operation, String outcome) {
+        return Timer.builder("s3.requests")
+            .description("S3 요청 시간 (다시 보낸 요청 포함, 먼저 온 응답 기준)")
+            .tag("operation", operation.name())
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    private static Map<Operation, Duration> sameDeadline(Duration deadline) {
+        Map<Operation, Duration> deadlines = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            deadlines.put(operation, deadline);
+        }
+        return deadlines;
+    }
+
+    private static String outcome(Throwable cause) {
+        if (cause == null) {
+            return "success";
+        }
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return isTransient(cause) ? "error" : "client-error";
+    }
+
+    // 차단기에 실패로 세는 오류: 기한 초과, 연결 오류, 5xx, 요청 과다(429)
+    static boolean isTransient(Throwable cause) {
+        if (cause instanceof TimeoutException || cause instanceof SdkClientException) {
+            return true;
+        }
+        if (cause instanceof S3Exception s3Exception) {
+            int status = s3Exception.statusCode();
+            return status >= 500 || status == 429;
+        }
+        return !(cause instanceof CancellationException);
+    }
+
+    private static boolean isStatus(Throwable cause, int status) {
+        return cause instanceof S3Exception s3Exception && s3Exception.statusCode() == status;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+}
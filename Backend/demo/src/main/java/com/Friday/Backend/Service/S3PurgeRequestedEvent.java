@@ -0,0 +1,4 @@
+package com.Friday.Backend.Service;
+
+// 아웃박스에 지울 객체가 들어갔을 때 발행. 커밋 이후에 정리 작업자를 깨운다.
+public record S3PurgeRequestedEvent(int count) {}
@@ -0,0 +1,215 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.Friday.Backend.Domain.db.S3PurgeTask;
+import com.Friday.Backend.Domain.repository.S3PurgeTaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 삭제된 영상의 S3 객체 정리. 삭제 트랜잭션에는 아웃박스 행만 넣고, 커밋 뒤 작업자 하나가
+// 기한이 된 행을 모아 DeleteObjects 로 지운다. S3 를 부르는 동안에는 트랜잭션을 잡지 않는다.
+// 실패한 키는 지수 백오프로 다시 시도하고 s3.purge.max-attempts 번을 넘기면 dead 로 남긴다.
+// 여러 인스턴스가 같은 행을 동시에 집을 수 있지만 S3 삭제는 멱등이라 결과는 같다.
+@Service
+public class S3PurgeService {
+
+    private final S3PurgeTaskRepository s3PurgeTaskRepository;
+    private final S3BatchDeleter deleter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+    // 주기 작업과 깨우기가 겹치면 도는 쪽이 한 번 더 돈다. 가상 스레드 모드에서는 둘이 다른 스레드에서 돌 수 있다.
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainAgain = new AtomicBoolean();
+
+    private final Timer batchTimer;
+    private final Counter deletedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public S3PurgeService(
+        S3PurgeTaskRepository s3PurgeTaskRepository,
+        S3Gateway s3Gateway,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        TaskScheduler taskScheduler,
+        @Value("${s3.purge.batch-size:1000}") int batchSize,
+        @Value("${s3.purge.max-attempts:8}") int maxAttempts,
+        @Value("${s3.purge.backoff-ms:1000}") long backoffMillis,
+        @Value("${s3.purge.max-backoff-ms:3600000}") long maxBackoffMillis,
+        @Value("${s3.purge.enabled:true}") boolean enabled
+    ) {
+        this.s3PurgeTaskRepository = s3PurgeTaskRepository;
+        this.deleter = new S3BatchDeleter(s3Gateway, batchSize);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+
+        Gauge.builder("s3.purge.pending", s3PurgeTaskRepository, S3PurgeTaskRepository::countByDeadFalse)
+            .description("지우지 못한 S3 객체 수")
+            .register(meterRegistry);
+        Gauge.builder("s3.purge.dead", s3PurgeTaskRepository, S3PurgeTaskRepository::countByDeadTrue)
+            .description("재시도를 다 써서 남겨 둔 S3 객체 수")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("s3.purge.batch")
+            .description("아웃박스 한 묶음을 지우는 데 걸린 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.deletedCounter = Counter.builder("s3.purge.deleted").register(meterRegistry);
+        this.retriedCounter = Counter.builder("s3.purge.retried").register(meterRegistry);
+        this.deadCounter = Counter.builder("s3.purge.dead.total").register(meterRegistry);
+    }
+
+    // 호출한 트랜잭션에 아웃박스 행을 넣는다. 롤백되면 함께 사라지고, 커밋되면 작업자를 깨운다.
+    public void enqueue(String bucket, Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<S3PurgeTask> tasks = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            tasks.add(new S3PurgeTask(bucket, objectKey, now));
+        }
+        s3PurgeTaskRepository.saveAll(tasks);
+        eventPublisher.publishEvent(new S3PurgeRequestedEvent(tasks.size()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPurgeRequested(S3PurgeRequestedEvent event) {
+        // 이미 깨우기가 대기 중이면 그 drain 이 이번 행도 가져간다.
+        if (!enabled || !wakeQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(() -> {
+                wakeQueued.set(false);
+                drainQuietly();
+            }, Instant.now());
+        }
+        catch (RejectedExecutionException e) {
+            wakeQueued.set(false);
+        }
+    }
+
+    // 기한이 된 행이 없을 때까지 묶음 단위로 지운다. 처리한 행 수
+    public int drain() {
+        int processed = 0;
+        while (true) {
+            List<S3PurgeTask> tasks = s3PurgeTaskRepository.findByDeadFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                System.currentTimeMillis(), Limit.of(batchSize));
+            if (tasks.isEmpty()) {
+                return processed;
+            }
+
+            batchTimer.record(() -> purge(tasks));
+            processed += tasks.size();
+            if (tasks.size() < batchSize) {
+                return processed;
+            }
+        }
+    }
+
+    // 깨우기 신호를 놓쳤거나 재시도 기한이 된 것을 주기적으로 줍는다. s3.purge.enabled=false 면 돌지 않는다.
+    @Scheduled(initialDelayString = "${s3.purge.poll-ms:30000}", fixedDelayString = "${s3.purge.poll-ms:30000}")
+    public void drainOnSchedule() {
+        if (enabled) {
+            drainQuietly();
+        }
+    }
+
+    private void drainQuietly() {
+        drainAgain.set(true);
+        while (drainAgain.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainAgain.set(false);
+                drain();
+            }
+            catch (RuntimeException e) {
+                System.err.println("S3 정리 실패: " + e.getMessage());
+            }
+            finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void purge(List<S3PurgeTask> tasks) {
+        Map<String, List<S3PurgeTask>> byBucket = new LinkedHashMap<>();
+        for (S3PurgeTask task : tasks) {
+            byBucket.computeIfAbsent(task.getBucket(), bucket -> new ArrayList<>()).add(task);
+        }
+
+        List<S3PurgeTask> done = new ArrayList<>();
+        List<S3PurgeTask> failed = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, List<S3PurgeTask>> entry : byBucket.entrySet()) {
+            Map<String, String> errors = deleter.delete(
+                entry.getKey(),
+                entry.getValue().stream().map(S3PurgeTask::getObjectKey).distinct().toList()
+            );
+
+            for (S3PurgeTask task : entry.getValue()) {
+                String error = errors.get(task.getObjectKey());
+                if (error == null) {
+                    done.add(task);
+                    continue;
+                }
+
+                int attempts = task.getAttempts() + 1;
+                task.setAttempts(attempts);
+                task.setLastError(error.length() > 1024 ? error.substring(0, 1024) : error);
+                if (attempts >= maxAttempts) {
+                    task.setDead(true);
+                    deadCounter.increment();
+                    System.err.println("S3 객체 삭제 포기 (" + task.getBucket() + "/" + task.getObjectKey() + "): " + error);
+                }
+                else {
+                    task.setNextAttemptAt(now + backoff(attempts));
+                    retriedCounter.increment();
+                }
+                failed.add(task);
+            }
+        }
+
+        s3PurgeTaskRepository.deleteAllInBatch(done);
+        s3PurgeTaskRepository.saveAll(failed);
+        deletedCounter.increment(done.size());
+    }
+
+    // backoff, 2×backoff, 4×backoff ... 최대 maxBackoff
+    private long backoff(int attempts) {
+        return Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 30));
+    }
+}
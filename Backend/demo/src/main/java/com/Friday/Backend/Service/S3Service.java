@@ -2,24 +2,100 @@ package com.Friday.Backend.Service;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import com.Friday.Backend.Dto.UploadPartUrlDto;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class S3Service {
 
     private final S3Presigner presigner;
+    private final AwsCredentialsProvider credentialsProvider;
+    private final Duration signatureDuration;
+    private final Duration minRemaining;
+
+    // (버킷, 객체 키, 자격 증명 세대) → 다운로드 URL.
+    // 남은 유효 시간이 minRemaining 보다 짧아지면 버리고, refreshAfter 가 지난 뒤 조회되면 기존 URL 을 주면서 뒤에서 다시 서명한다.
+    private final LoadingCache<PresignKey, PresignedUrl> downloadUrls;
 
     @Value("${aws.kms.key-arn}")
     private String kmsKeyArn;
 
-    public S3Service(S3Presigner presigner) {
+    public S3Service(
+        S3Presigner presigner,
+        AwsCredentialsProvider credentialsProvider,
+        MeterRegistry meterRegistry,
+        @Value("${aws.s3.presign.duration:10m}") Duration signatureDuration,
+        @Value("${aws.s3.presign.min-remaining:2m}") Duration minRemaining,
+        @Value("${aws.s3.presign.refresh-after:5m}") Duration refreshAfter,
+        @Value("${aws.s3.presign.cache-size:10000}") long cacheSize
+    ) {
         this.presigner = presigner;
+        this.credentialsProvider = credentialsProvider;
+        this.signatureDuration = signatureDuration;
+        this.minRemaining = minRemaining;
+        this.downloadUrls = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfter(new Expiry<PresignKey, PresignedUrl>() {
+                @Override
+                public long expireAfterCreate(PresignKey key, PresignedUrl url, long currentTime) {
+                    return usableNanos(url);
+                }
+
+                @Override
+                public long expireAfterUpdate(PresignKey key, PresignedUrl url, long currentTime, long currentDuration) {
+                    return usableNanos(url);
+                }
+
+                @Override
+                public long expireAfterRead(PresignKey key, PresignedUrl url, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .refreshAfterWrite(refreshAfter)
+            .recordStats()
+            .build(new CacheLoader<PresignKey, PresignedUrl>() {
+                @Override
+                public PresignedUrl load(PresignKey key) {
+                    return presignDownload(key);
+                }
+
+                // 캐시에 없는 것만 들어온다. 서명은 CPU 작업이므로 여러 개면 코어에 나눠서 한다.
+                @Override
+                public Map<PresignKey, PresignedUrl> loadAll(Set<? extends PresignKey> keys) {
+                    return keys.parallelStream()
+                        .collect(Collectors.toMap(Function.identity(), S3Service.this::presignDownload));
+                }
+            });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, downloadUrls, "presigned-urls");
     }
 
     public String getUploadUrl(String bucket, String objectName) {
@@ -29,24 +105,80 @@ public class S3Service {
                 .build();
 
         PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10))
+                .signatureDuration(signatureDuration)
                 .putObjectRequest(putObjectRequest)
                 .build();
 
         return presigner.presignPutObject(presignRequest).url().toString();
     }
 
+    // 멀티파트 업로드의 파트 [fromPart, toPart] 에 쓸 PUT URL. 파트가 많으면 코어에 나눠서 서명한다.
+    public List<UploadPartUrlDto> getUploadPartUrls(String bucket, String objectName, String uploadId, int fromPart, int toPart) {
+        return IntStream.rangeClosed(fromPart, toPart)
+            .parallel()
+            .mapToObj(partNumber -> new UploadPartUrlDto(partNumber, presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .uploadPartRequest(request -> request
+                    .bucket(bucket)
+                    .key(objectName)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber))
+                .build()).url().toString()))
+            .toList();
+    }
+
     public String getDownloadUrl(String bucket, String objectName) {
+        PresignKey key = new PresignKey(bucket, objectName, credentialsGeneration(credentialsProvider.resolveCredentials()));
+
+        return downloadUrls.get(key).url();
+    }
+
+    // objectName → 다운로드 URL. 캐시에 없는 것만 한꺼번에 서명한다.
+    public Map<String, String> getDownloadUrls(String bucket, Collection<String> objectNames) {
+        String generation = credentialsGeneration(credentialsProvider.resolveCredentials());
+        Map<PresignKey, PresignedUrl> urls = downloadUrls.getAll(
+            objectNames.stream().map(objectName -> new PresignKey(bucket, objectName, generation)).toList()
+        );
+
+        Map<String, String> result = new LinkedHashMap<>();
+        urls.forEach((key, url) -> result.put(key.objectName(), url.url()));
+        return result;
+    }
+
+    private PresignedUrl presignDownload(PresignKey key) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(objectName)
+                .bucket(key.bucket())
+                .key(key.objectName())
                 .build();
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10))
+                .signatureDuration(signatureDuration)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
-        return presigner.presignGetObject(presignRequest).url().toString();
+        PresignedGetObjectRequest presigned = presigner.presignGetObject(presignRequest);
+
+        // 임시 자격 증명이 서명보다 먼저 만료되면 URL 도 그때 쓸 수 없다.
+        Instant expiresAt = presigned.expiration();
+        Instant credentialsExpiry = credentialsProvider.resolveCredentials().expirationTime().orElse(null);
+        if (credentialsExpiry != null && credentialsExpiry.isBefore(expiresAt)) {
+            expiresAt = credentialsExpiry;
+        }
+
+        return new PresignedUrl(presigned.url().toString(), expiresAt);
     }
-}
\ No newline at end of file
+
+    private long usableNanos(PresignedUrl url) {
+        Duration usable = Duration.between(Instant.now(), url.expiresAt()).minus(minRemaining);
+        return usable.isNegative() ? 0 : usable.toNanos();
+    }
+
+    // 자격 증명이 바뀌면(키 교체, 임시 자격 증명 갱신) 이전 URL 과 섞이지 않도록 키에 넣는다.
+    private static String credentialsGeneration(AwsCredentials credentials) {
+        return credentials.accessKeyId() + "/" + credentials.expirationTime().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    private record PresignKey(String bucket, String objectName, String credentialsGeneration) {}
+
+    private record PresignedUrl(String url, Instant expiresAt) {}
+}
@@ -0,0 +1,253 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.Friday.Backend.Dto.ScoreResultDto;
+import com.Friday.Backend.Dto.ScoringJobDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 업로드 트랜잭션 밖에서 채점을 돌리는 작업 큐.
+// 작업자는 가상 스레드지만 개수와 대기열 길이는 고정이라 DB 커넥션/CPU 를 넘치게 쓰지 않는다.
+// 진행 상황은 SSE 로 밀어 준다.
+@Service
+public class ScoringJobService {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final EstimateService estimateService;
+    private final ThreadPoolExecutor executor;
+    private final long sseTimeoutMillis;
+    private final long retentionMillis;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    private final Timer waitTimer;
+    private final Timer processingTimer;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public ScoringJobService(
+        EstimateService estimateService,
+        MeterRegistry meterRegistry,
+        @Value("${scoring.jobs.workers:4}") int workers,
+        @Value("${scoring.jobs.queue-capacity:256}") int queueCapacity,
+        @Value("${scoring.jobs.sse-timeout-ms:300000}") long sseTimeoutMillis,
+        @Value("${scoring.jobs.retention-ms:600000}") long retentionMillis
+    ) {
+        this.estimateService = estimateService;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+        this.retentionMillis = retentionMillis;
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofVirtual().name("scoring-", 0).factory()
+        );
+
+        Gauge.builder("scoring.jobs.queue.depth", executor, e -> e.getQueue().size())
+            .description("대기 중인 채점 작업 수")
+            .register(meterRegistry);
+        Gauge.builder("scoring.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 채점 작업 수")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("scoring.jobs.wait")
+            .description("큐에 들어가서 실행되기까지 걸린 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.processingTimer = Timer.builder("scoring.jobs.processing")
+            .description("채점 처리 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("scoring.jobs.failed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("scoring.jobs.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 커밋이 끝난 뒤에만 큐에 넣어야 작업자가 아직 보이지 않는 행을 읽지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkeletonUploaded(SkeletonUploadedEvent event) {
+        try {
+            submit(event.userId(), event.videoId());
+        }
+        catch (ResponseStatusException e) {
+            // 업로드 자체는 성공했으므로 여기서는 기록만 하고, 클라이언트가 나중에 다시 요청할 수 있다.
+            System.err.println("채점 작업 등록 실패: " + event.videoId() + " - " + e.getReason());
+        }
+    }
+
+    public ScoringJobDto submit(String userId, String videoId) {
+        evictFinished();
+
+        String key = key(userId, videoId);
+        Job job = new Job(userId, videoId);
+        Job current = jobs.compute(key, (k, previous) ->
+            previous != null && !previous.isFinished() ? previous : job
+        );
+        if (current != job) {
+            // 같은 영상의 작업이 이미 대기/실행 중
+            return current.toDto();
+        }
+
+        try {
+            executor.execute(() -> run(job));
+        }
+        catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            jobs.remove(key, job);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return job.toDto();
+    }
+
+    public ScoringJobDto getJob(String userId, String videoId) {
+        Job job = jobs.get(key(userId, videoId));
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "채점 작업이 없습니다.");
+        }
+        return job.toDto();
+    }
+
+    // 현재 상태를 바로 한 번 보내고, 끝날 때까지 상태가 바뀔 때마다 "status" 이벤트를 보낸다.
+    public SseEmitter subscribe(String userId, String videoId) {
+        Job job = jobs.get(key(userId, videoId));
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "채점 작업이 없습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        job.emitters.add(emitter);
+
+        // 등록과 상태 변경이 엇갈려도 마지막 상태는 반드시 한 번 전달된다.
+        send(emitter, job.toDto(), job.isFinished());
+        return emitter;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private void run(Job job) {
+        job.startedAt = System.nanoTime();
+        job.status = Status.RUNNING;
+        waitTimer.record(job.startedAt - job.queuedAt, TimeUnit.NANOSECONDS);
+        publish(job);
+
+        ScoreResultDto result = null;
+        String message = null;
+        try {
+            result = estimateService.evaluateScore(job.userId, job.videoId, null);
+        }
+        catch (ResponseStatusException e) {
+            message = e.getReason();
+        }
+        catch (Exception e) {
+            System.err.println("채점 실패: " + job.videoId + " - " + e.getMessage());
+            message = "채점 중 오류가 발생했습니다.";
+        }
+
+        job.finishedAt = System.nanoTime();
+        processingTimer.record(job.finishedAt - job.startedAt, TimeUnit.NANOSECONDS);
+        job.result = result;
+        job.message = message;
+        if (result == null) {
+            failedCounter.increment();
+        }
+        job.status = result != null ? Status.DONE : Status.FAILED;
+
+        publish(job);
+    }
+
+    private void publish(Job job) {
+        ScoringJobDto dto = job.toDto();
+        boolean finished = job.isFinished();
+        for (SseEmitter emitter : job.emitters) {
+            send(emitter, dto, finished);
+        }
+    }
+
+    private void send(SseEmitter emitter, ScoringJobDto dto, boolean complete) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(dto));
+            if (complete) {
+                emitter.complete();
+            }
+        }
+        catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void evictFinished() {
+        long now = System.nanoTime();
+        long retention = TimeUnit.MILLISECONDS.toNanos(retentionMillis);
+        jobs.values().removeIf(job -> job.isFinished() && now - job.finishedAt > retention);
+    }
+
+    private static String key(String userId, String videoId) {
+        return userId + "/" + videoId;
+    }
+
+    private static final class Job {
+        private final String userId;
+        private final String videoId;
+        private final long queuedAt = System.nanoTime();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile ScoreResultDto result;
+        private volatile String message;
+
+        private Job(String userId, String videoId) {
+            this.userId = userId;
+            this.videoId = videoId;
+        }
+
+        private boolean isFinished() {
+            return status == Status.DONE || status == Status.FAILED;
+        }
+
+        private ScoringJobDto toDto() {
+            Status current = status;
+            Long waitMillis = current == Status.QUEUED ? null : TimeUnit.NANOSECONDS.toMillis(startedAt - queuedAt);
+            Long processingMillis = current == Status.DONE || current == Status.FAILED
+                ? TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt)
+                : null;
+            return new ScoringJobDto(videoId, current.name(), waitMillis, processingMillis, result, message);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.function.Supplier;
+
+// 프레임 PK → 디코딩된 전체 스켈레톤. 업로드가 끝난 스켈레톤은 바뀌지 않으므로 삭제할 때만 무효화한다.
+// 항목 수가 아니라 float 버퍼 크기로 용량을 잰다. Caffeine 의 W-TinyLFU 는 자주 보는 항목을 밀어내는
+// 새 항목을 들이지 않으므로, 긴 녹화 하나를 한 번 봤다고 작업 집합이 통째로 밀려나지 않는다.
+// 호출하는 쪽은 돌려받은 버퍼를 수정하면 안 된다.
+@Service
+public class SkeletonCacheService {
+
+    // 버퍼 외 객체 헤더, 관절 이름 등 대략적인 고정 비용
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<Long, SkeletonData> cache;
+
+    public SkeletonCacheService(
+        MeterRegistry meterRegistry,
+        @Value("${skeleton.cache.max-bytes:134217728}") long maxBytes
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Long frameId, SkeletonData data) -> weigh(data))
+            .recordStats()
+            .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.eviction.weight, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "skeletons");
+        Gauge.builder("skeleton.cache.resident.bytes", cache, c -> c.policy().eviction().orElseThrow().weightedSize().orElse(0))
+            .description("캐시에 올라와 있는 디코딩된 스켈레톤 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("skeleton.cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .register(meterRegistry);
+    }
+
+    // loader 가 null 을 돌려주면 (아직 업로드 중인 세션 등) 캐시하지 않는다.
+    // loader 는 DB 를 읽으므로 cache.get(key, mapping) 안에서 부르지 않는다. 그 안은 ConcurrentHashMap 의 synchronized
+    // 구간이라 가상 스레드면 조회가 끝날 때까지 캐리어 스레드를 붙잡는다. 동시에 놓친 요청은 각자 읽고 나중 값이 남는다.
+    public SkeletonData get(long frameId, Supplier<SkeletonData> loader) {
+        SkeletonData cached = cache.getIfPresent(frameId);
+        if (cached != null) {
+            return cached;
+        }
+
+        SkeletonData loaded = loader.get();
+        if (loaded != null) {
+            cache.put(frameId, loaded);
+        }
+        return loaded;
+    }
+
+    public SkeletonData getIfPresent(long frameId) {
+        return cache.getIfPresent(frameId);
+    }
+
+    public void invalidate(long frameId) {
+        cache.invalidate(frameId);
+    }
+
+    public void invalidateAll(Iterable<Long> frameIds) {
+        cache.invalidateAll(frameIds);
+    }
+
+    // 만료/축출은 비동기로 처리되므로 테스트에서 바로 확인할 때 쓴다.
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public long getResidentBytes() {
+        return cache.policy().eviction().orElseThrow().weightedSize().orElse(0);
+    }
+
+    private static int weigh(SkeletonData data) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) data.getValues().length * Float.BYTES + ENTRY_OVERHEAD_BYTES);
+    }
+}
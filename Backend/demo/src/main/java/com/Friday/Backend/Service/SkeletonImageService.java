@@ -0,0 +1,229 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.SkeletonImage;
+import com.Friday.Backend.Domain.repository.FrameRepository;
+import com.Friday.Backend.Domain.repository.SkeletonImageRepository;
+import com.Friday.Backend.Domain.repository.VideoRepository;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonDecimator;
+import com.Friday.Backend.Skeleton.SkeletonImageRenderer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 목록 화면용 썸네일(한 프레임)과 스프라이트 시트(키프레임 몇 장). 클라이언트가 스켈레톤 전체를 받아
+// Three.js 로 그리지 않아도 되도록 서버에서 PNG 로 그려 둔다.
+// 업로드가 커밋되면 작업자가 그리고, 아직 없으면 (이전에 올라온 영상, 대기열 초과) 조회할 때 그린다.
+// 이미지는 그린 입력의 해시(contentHash)로 찾으므로 같은 내용은 한 번만 그리고, ETag 로도 쓴다.
+@Service
+public class SkeletonImageService {
+
+    public record ImageInfo(String contentHash, int cellSize, int columns, int[] frameIndices) {}
+
+    private final SkeletonImageRepository skeletonImageRepository;
+    private final VideoRepository videoRepository;
+    private final FrameRepository frameRepository;
+    private final SkeletonStorageService skeletonStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int thumbnailSize;
+    private final int spriteCellSize;
+    private final int spriteFrames;
+    private final int spriteColumns;
+
+    private final ThreadPoolExecutor executor;
+
+    // contentHash → PNG. 목록 한 페이지의 썸네일이 LOB 조회 없이 나가도록 한다.
+    private final Cache<String, byte[]> pngs;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public SkeletonImageService(
+        SkeletonImageRepository skeletonImageRepository,
+        VideoRepository videoRepository,
+        FrameRepository frameRepository,
+        SkeletonStorageService skeletonStorageService,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${skeleton.image.thumbnail-size:160}") int thumbnailSize,
+        @Value("${skeleton.image.sprite.cell-size:96}") int spriteCellSize,
+        @Value("${skeleton.image.sprite.frames:16}") int spriteFrames,
+        @Value("${skeleton.image.sprite.columns:4}") int spriteColumns,
+        @Value("${skeleton.image.workers:2}") int workers,
+        @Value("${skeleton.image.queue-capacity:256}") int queueCapacity,
+        @Value("${skeleton.image.cache.max-bytes:33554432}") long cacheBytes
+    ) {
+        this.skeletonImageRepository = skeletonImageRepository;
+        this.videoRepository = videoRepository;
+        this.frameRepository = frameRepository;
+        this.skeletonStorageService = skeletonStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.thumbnailSize = thumbnailSize;
+        this.spriteCellSize = spriteCellSize;
+        this.spriteFrames = spriteFrames;
+        this.spriteColumns = spriteColumns;
+        this.meterRegistry = meterRegistry;
+
+        // 그리기는 CPU 작업이라 작업자 수를 작게 고정한다.
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofVirtual().name("skeleton-image-", 0).factory()
+        );
+        this.pngs = Caffeine.newBuilder()
+            .maximumWeight(cacheBytes)
+            .weigher((String hash, byte[] png) -> png.length)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, pngs, "skeleton-images");
+        Gauge.builder("skeleton.image.queue.depth", executor, e -> e.getQueue().size())
+            .description("대기 중인 이미지 생성 작업 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("skeleton.image.rejected")
+            .description("대기열이 가득 차 조회 시점으로 미룬 이미지 생성")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkeletonUploaded(SkeletonUploadedEvent event) {
+        try {
+            executor.execute(() -> {
+                try {
+                    render(event.userId(), event.videoId());
+                }
+                catch (RuntimeException e) {
+                    // 조회할 때 다시 그리므로 업로드는 실패시키지 않는다.
+                    System.err.println("스켈레톤 이미지 생성 실패: " + event.videoId() + " - " + e.getMessage());
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+        }
+    }
+
+    // 없는 종류만 그린다. 작업자와 조회가 동시에 그리면 한쪽은 유니크 제약에 걸리며 결과는 같다.
+    public void render(String userId, String videoId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                videoRepository.findByVideoIdAndUserId(videoId, userId)
+                    .flatMap(frameRepository::findByVideo)
+                    .ifPresent(this::build)
+            );
+        }
+        catch (DataIntegrityViolationException e) {
+            // 다른 쪽이 먼저 저장했다.
+        }
+    }
+
+    // 영상이 없거나 권한이 없거나 스켈레톤이 비어 있으면 null
+    public ImageInfo getImage(String userId, String videoId, SkeletonImage.Kind kind) {
+        SkeletonImageRepository.ImageView view = skeletonImageRepository.findView(videoId, userId, kind).orElse(null);
+        if (view == null) {
+            render(userId, videoId);
+            view = skeletonImageRepository.findView(videoId, userId, kind).orElse(null);
+            if (view == null) {
+                return null;
+            }
+        }
+
+        return new ImageInfo(
+            view.getContentHash(),
+            view.getCellSize(),
+            view.getColumns(),
+            SkeletonCodec.decodeIndices(view.getFrameIndices())
+        );
+    }
+
+    // DB 조회는 캐시의 매핑 함수 밖에서 한다 (SkeletonCacheService.get 참고).
+    public byte[] readPng(String contentHash) {
+        byte[] cached = pngs.getIfPresent(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] png = skeletonImageRepository.findPngByContentHash(contentHash, Limit.of(1)).stream().findFirst().orElse(null);
+        if (png != null) {
+            pngs.put(contentHash, png);
+        }
+        return png;
+    }
+
+    private void build(Frame frame) {
+        boolean thumbnail = !skeletonImageRepository.existsByFrameAndKind(frame, SkeletonImage.Kind.THUMBNAIL);
+        boolean sprite = !skeletonImageRepository.existsByFrameAndKind(frame, SkeletonImage.Kind.SPRITE);
+        if (!thumbnail && !sprite) {
+            return;
+        }
+
+        SkeletonData data = skeletonStorageService.readData(frame);
+        if (data == null || data.getFrameCount() == 0) {
+            return;
+        }
+
+        if (thumbnail) {
+            save(frame, SkeletonImage.Kind.THUMBNAIL, data, new int[] { data.getFrameCount() / 2 }, thumbnailSize, 1);
+        }
+        if (sprite) {
+            save(frame, SkeletonImage.Kind.SPRITE, data, SkeletonDecimator.motionAware(data, spriteFrames), spriteCellSize, spriteColumns);
+        }
+    }
+
+    private void save(Frame frame, SkeletonImage.Kind kind, SkeletonData data, int[] frames, int cellSize, int columns) {
+        String contentHash = SkeletonImageRenderer.contentHash(data, frames, cellSize, columns);
+
+        byte[] png = readPng(contentHash);
+        if (png == null) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            png = SkeletonImageRenderer.toPng(SkeletonImageRenderer.render(data, frames, cellSize, columns));
+            sample.stop(Timer.builder("skeleton.image.render")
+                .description("스켈레톤 이미지 그리기 + PNG 인코딩 시간")
+                .tag("kind", kind.name())
+                .register(meterRegistry));
+            pngs.put(contentHash, png);
+        }
+
+        skeletonImageRepository.save(new SkeletonImage(
+            frame,
+            kind,
+            contentHash,
+            cellSize,
+            Math.min(columns, frames.length),
+            SkeletonCodec.encodeIndices(frames),
+            png
+        ));
+    }
+}
@@ -0,0 +1,72 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.stereotype.Service;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonLayout;
+import com.Friday.Backend.Skeleton.SkeletonNormalizer;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+
+import java.util.Arrays;
+
+// 모델 입력(프레임당 33관절 x, y)과 같은 정규화 좌표를 만든다.
+@Service
+public class SkeletonNormalizationService {
+
+    public static final int MODEL_DIMS = 2;
+
+    private final SkeletonNormalizer normalizer;
+    private final SkeletonStorageService skeletonStorageService;
+
+    public SkeletonNormalizationService(SkeletonStorageService skeletonStorageService) {
+        this.normalizer = SkeletonNormalizer.create();
+        this.skeletonStorageService = skeletonStorageService;
+    }
+
+    // 호출자가 넘긴 버퍼에 바로 쓰므로 할당이 없다. 수집 경로는 원본 좌표를 저장하고
+    // 정규화는 채점할 때(ReferenceSkeletonService.prepare) 하므로 지금 수집 중에 부르는 곳은 없다.
+    public void normalize(
+        float[] src,
+        int srcOffset,
+        int srcDims,
+        float[] dst,
+        int dstOffset,
+        int jointCount,
+        int frames
+    ) {
+        normalizer.normalize(src, srcOffset, srcDims, dst, dstOffset, MODEL_DIMS, jointCount, frames);
+    }
+
+    public SkeletonData normalize(SkeletonData data) {
+        SkeletonShape shape = data.getShape();
+        int outDims = Math.min(MODEL_DIMS, shape.getDims());
+        float[] values = new float[data.getFrameCount() * shape.getJointCount() * outDims];
+
+        normalizer.normalize(
+            data.getValues(), 0, shape.getDims(),
+            values, 0, outDims,
+            shape.getJointCount(),
+            data.getFrameCount()
+        );
+
+        SkeletonShape normalizedShape = new SkeletonShape(
+            shape.getLayout(),
+            shape.getJointCount(),
+            outDims,
+            shape.getJointNames(),
+            shape.getLayout() == SkeletonLayout.COORDINATE_OBJECTS ? Arrays.copyOf(shape.getDimNames(), outDims) : null
+        );
+        return new SkeletonData(normalizedShape, data.getFrameCount(), values);
+    }
+
+    // 배치 작업용: 저장된 스켈레톤 전체를 읽어 정규화한다.
+    public SkeletonData normalizeStored(Frame frame) {
+        SkeletonData data = skeletonStorageService.readData(frame);
+        return data == null ? null : normalize(data);
+    }
+
+    public String getImplementation() {
+        return normalizer.name();
+    }
+}
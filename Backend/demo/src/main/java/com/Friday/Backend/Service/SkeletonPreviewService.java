@@ -0,0 +1,209 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.FramePreview;
+import com.Friday.Backend.Domain.repository.FramePreviewRepository;
+import com.Friday.Backend.Domain.repository.FrameRepository;
+import com.Friday.Backend.Domain.repository.VideoRepository;
+import com.Friday.Backend.Dto.FrameDto;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonDecimator;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonSelection;
+import com.Friday.Backend.Skeleton.SkeletonView;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 목록/미리보기용 저해상도 스켈레톤(LOD). 업로드가 커밋되면 레벨별로 키프레임을 골라 미리 저장해 둔다.
+// lod=n 은 원본의 약 1/ratios[n-1] 프레임.
+// 만드는 일은 작업자가 한다. 커밋 직후 요청 스레드에서 새 트랜잭션을 열면 요청이 이미 잡은 커넥션
+// (open-in-view) 위에 하나를 더 잡게 되어, 동시 업로드가 풀 크기를 넘으면 서로를 기다리며 멈춘다.
+@Service
+public class SkeletonPreviewService {
+
+    private final FramePreviewRepository framePreviewRepository;
+    private final FrameRepository frameRepository;
+    private final VideoRepository videoRepository;
+    private final SkeletonStorageService skeletonStorageService;
+    private final SkeletonCodec skeletonCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final int[] ratios;
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public SkeletonPreviewService(
+        FramePreviewRepository framePreviewRepository,
+        FrameRepository frameRepository,
+        VideoRepository videoRepository,
+        SkeletonStorageService skeletonStorageService,
+        SkeletonCodec skeletonCodec,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${skeleton.lod.ratios:4,10,30}") int[] ratios,
+        @Value("${skeleton.lod.workers:2}") int workers,
+        @Value("${skeleton.lod.queue-capacity:256}") int queueCapacity
+    ) {
+        this.framePreviewRepository = framePreviewRepository;
+        this.frameRepository = frameRepository;
+        this.videoRepository = videoRepository;
+        this.skeletonStorageService = skeletonStorageService;
+        this.skeletonCodec = skeletonCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ratios = ratios;
+
+        this.executor = new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofVirtual().name("skeleton-lod-", 0).factory()
+        );
+        Gauge.builder("skeleton.lod.queue.depth", executor, e -> e.getQueue().size())
+            .description("대기 중인 미리보기 생성 작업 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("skeleton.lod.rejected")
+            .description("대기열이 가득 차 조회 시 즉석 생성으로 미룬 미리보기")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getLevels() {
+        return ratios.length;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkeletonUploaded(SkeletonUploadedEvent event) {
+        try {
+            executor.execute(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                        videoRepository.findByVideoIdAndUserId(event.videoId(), event.userId())
+                            .flatMap(frameRepository::findByVideo)
+                            .ifPresent(this::buildPreviews)
+                    );
+                }
+                catch (RuntimeException e) {
+                    // 미리보기가 없어도 조회 시 즉석에서 만들 수 있으므로 업로드는 실패시키지 않는다.
+                    System.err.println("미리보기 생성 실패: " + event.videoId() + " - " + e.getMessage());
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+        }
+    }
+
+    @Transactional
+    public void buildPreviews(Frame frame) {
+        SkeletonData data = skeletonStorageService.readData(frame);
+        if (data == null || framePreviewRepository.existsByFrame(frame)) {
+            return;
+        }
+
+        for (int level = 1; level <= ratios.length; level++) {
+            int[] indices = select(data, level);
+            framePreviewRepository.save(new FramePreview(
+                frame,
+                level,
+                indices.length,
+                SkeletonCodec.encodeIndices(indices),
+                skeletonCodec.encode(SkeletonDecimator.pick(data, indices))
+            ));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public FrameDto readPreview(String videoId, Frame frame, int lod, SkeletonSelection selection) {
+        SkeletonView view = readPreviewView(frame, lod, selection);
+        if (view == null) {
+            return null;
+        }
+
+        FrameDto frameDto = new FrameDto(
+            videoId,
+            SkeletonJson.toJson(view.getData()),
+            view.getStartFrame(),
+            view.getTotalFrames()
+        );
+        frameDto.setFrameIndices(view.getFrameIndices());
+        return frameDto;
+    }
+
+    // 저장된 미리보기가 없으면 (이전에 올라온 영상) 원본에서 즉석으로 만든다.
+    @Transactional(readOnly = true)
+    public SkeletonView readPreviewView(Frame frame, int lod, SkeletonSelection selection) {
+        if (lod < 1 || lod > ratios.length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lod 는 0 ~ " + ratios.length + " 이어야 합니다.");
+        }
+
+        int[] indices;
+        SkeletonData data;
+        FramePreview preview = framePreviewRepository.findByFrameAndLevel(frame, lod).orElse(null);
+        if (preview != null) {
+            indices = SkeletonCodec.decodeIndices(preview.getFrameIndices());
+            data = skeletonCodec.decode(preview.getData());
+        }
+        else {
+            SkeletonData full = skeletonStorageService.readData(frame);
+            if (full == null) {
+                return null;
+            }
+            indices = select(full, lod);
+            data = SkeletonDecimator.pick(full, indices);
+        }
+
+        // 범위 안의 키프레임만
+        int from = lowerBound(indices, selection.getFromFrame());
+        int to = lowerBound(indices, selection.getToFrame());
+        int[] positions = new int[to - from];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = from + i;
+        }
+        SkeletonData window = SkeletonDecimator.pick(data, positions);
+
+        return new SkeletonView(
+            SkeletonSelection.project(window, selection.jointIndices(window.getShape())),
+            selection.getFromFrame(),
+            skeletonStorageService.countFrames(frame),
+            Arrays.copyOfRange(indices, from, to)
+        );
+    }
+
+    private int[] select(SkeletonData data, int level) {
+        int ratio = Math.max(1, ratios[level - 1]);
+        int target = (data.getFrameCount() + ratio - 1) / ratio;
+        return SkeletonDecimator.motionAware(data, Math.max(2, target));
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return index >= 0 ? index : -index - 1;
+    }
+}
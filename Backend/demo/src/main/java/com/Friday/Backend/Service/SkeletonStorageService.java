@@ -0,0 +1,429 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.FrameChunk;
+import com.Friday.Backend.Domain.repository.FrameChunkRepository;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonJsonReader;
+import com.Friday.Backend.Skeleton.SkeletonSelection;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+import com.Friday.Backend.Skeleton.SkeletonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import jakarta.persistence.EntityManager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class SkeletonStorageService {
+
+    private final FrameChunkRepository frameChunkRepository;
+    private final SkeletonCodec skeletonCodec;
+    private final SkeletonCacheService skeletonCacheService;
+    private final EntityManager entityManager;
+    private final int chunkFrames;
+
+    public SkeletonStorageService(
+        FrameChunkRepository frameChunkRepository,
+        SkeletonCodec skeletonCodec,
+        SkeletonCacheService skeletonCacheService,
+        EntityManager entityManager,
+        @Value("${skeleton.chunk-frames:256}") int chunkFrames
+    ) {
+        this.frameChunkRepository = frameChunkRepository;
+        this.skeletonCodec = skeletonCodec;
+        this.skeletonCacheService = skeletonCacheService;
+        this.entityManager = entityManager;
+        this.chunkFrames = chunkFrames;
+    }
+
+    // frame 은 이미 저장된 상태여야 한다 (청크가 frame 을 참조).
+    @Transactional
+    public void writeJson(Frame frame, String jointsJson) {
+        SkeletonData data;
+        try {
+            data = SkeletonJson.parse(jointsJson);
+        }
+        catch (SkeletonFormatException e) {
+            // 바이너리 형식으로 표현할 수 없는 구조는 기존처럼 JSON 그대로 저장
+            frame.setJoints(jointsJson);
+            return;
+        }
+        writeData(frame, data);
+    }
+
+    @Transactional
+    public int writeData(Frame frame, SkeletonData data) {
+        int total = data.getFrameCount();
+        int chunkIndex = 0;
+        for (int start = 0; start < total; start += chunkFrames) {
+            int count = Math.min(chunkFrames, total - start);
+            saveChunk(frame, chunkIndex++, start, data.getShape(), data.getValues(), start, count);
+        }
+
+        frame.setFrameCount(total);
+        return total;
+    }
+
+    // 프레임을 chunkFrames 단위로 인코딩만 하고 저장은 writeChunks 로 한다. DB 를 보지 않으므로
+    // 클라이언트가 본문을 보내는 동안 트랜잭션이나 커넥션을 잡지 않는다.
+    // 인코딩된 청크는 저장할 때까지 모두 힙에 있으므로 녹화 길이만큼 늘어난다. maxFrames 를 넘으면 413 으로 거부해 상한을 둔다.
+    public List<FrameChunk> encodeFrames(SkeletonJsonReader reader, int maxFrames) throws IOException {
+        SkeletonShape shape = reader.readShape();
+        if (shape == null) {
+            throw new SkeletonFormatException("프레임이 없습니다.");
+        }
+
+        int frameSize = shape.getFrameSize();
+        float[] buffer = new float[chunkFrames * frameSize];
+
+        List<FrameChunk> chunks = new ArrayList<>();
+        int encoded = 0;
+        int buffered = 0;
+
+        while (reader.nextFrame(buffer, buffered * frameSize)) {
+            if (encoded + buffered == maxFrames) {
+                throw new ResponseStatusException(
+                    HttpStatus.PAYLOAD_TOO_LARGE,
+                    "한 번에 최대 " + maxFrames + "프레임까지 올릴 수 있습니다. 긴 녹화는 업로드 세션으로 나눠 올려 주세요."
+                );
+            }
+            buffered++;
+            if (buffered == chunkFrames) {
+                chunks.add(new FrameChunk(null, chunks.size(), encoded, buffered, skeletonCodec.encode(shape, buffer, 0, buffered)));
+                encoded += buffered;
+                buffered = 0;
+            }
+        }
+
+        if (buffered > 0) {
+            chunks.add(new FrameChunk(null, chunks.size(), encoded, buffered, skeletonCodec.encode(shape, buffer, 0, buffered)));
+        }
+        return chunks;
+    }
+
+    // encodeFrames 결과를 frame 에 붙여 저장한다. frame 은 이미 저장된 상태여야 한다.
+    @Transactional
+    public int writeChunks(Frame frame, List<FrameChunk> chunks) {
+        int total = 0;
+        for (FrameChunk chunk : chunks) {
+            chunk.setFrame(frame);
+            persist(chunk);
+            total += chunk.getFrameCount();
+        }
+
+        frame.setFrameCount(total);
+        return total;
+    }
+
+    // 업로드 세션의 배치 하나를 청크 하나로 인코딩만 한다. maxFrames를 넘는 배치는 거부한다.
+    // DB 를 보지 않으므로 본문을 읽는 동안 커넥션을 잡지 않는다. 저장은 writeChunk 로 한다.
+    public FrameChunk encodeChunk(
+        int chunkIndex,
+        int startFrame,
+        SkeletonJsonReader reader,
+        int maxFrames
+    ) throws IOException {
+        SkeletonShape shape = reader.readShape();
+        if (shape == null) {
+            throw new SkeletonFormatException("프레임이 없습니다.");
+        }
+
+        int frameSize = shape.getFrameSize();
+        float[] buffer = new float[Math.min(maxFrames, 64) * frameSize];
+        int count = 0;
+
+        while (true) {
+            if (count == maxFrames) {
+                if (reader.nextFrame(new float[frameSize], 0)) {
+                    throw new SkeletonFormatException("청크 하나에는 최대 " + maxFrames + "프레임까지 보낼 수 있습니다.");
+                }
+                break;
+            }
+            if (buffer.length < (count + 1) * frameSize) {
+                buffer = Arrays.copyOf(buffer, Math.min(maxFrames, count * 2) * frameSize);
+            }
+            if (!reader.nextFrame(buffer, count * frameSize)) {
+                break;
+            }
+            count++;
+        }
+
+        return new FrameChunk(null, chunkIndex, startFrame, count, skeletonCodec.encode(shape, buffer, 0, count));
+    }
+
+    // encodeChunk 결과를 frame 에 붙여 저장한다.
+    @Transactional
+    public void writeChunk(Frame frame, FrameChunk chunk) {
+        chunk.setFrame(frame);
+        persist(chunk);
+    }
+
+    @Transactional
+    public void appendFrames(
+        Frame frame,
+        int chunkIndex,
+        int startFrame,
+        SkeletonShape shape,
+        float[] values,
+        int frameCount
+    ) {
+        saveChunk(frame, chunkIndex, startFrame, shape, values, 0, frameCount);
+    }
+
+    // 저장 형식과 관계없이 전체 프레임을 float 버퍼로 읽는다. 디코딩 결과는 캐시에 남으므로 수정하면 안 된다.
+    @Transactional(readOnly = true)
+    public SkeletonData readData(Frame frame) {
+        return skeletonCacheService.get(frame.getId(), () -> decode(frame));
+    }
+
+    // 캐시에 있을 때만 선택 구간/관절을 잘라 돌려준다. 없으면 null 이고 DB 는 읽지 않는다.
+    public SkeletonView readCached(long frameId, SkeletonSelection selection) {
+        SkeletonData full = skeletonCacheService.getIfPresent(frameId);
+        return full == null ? null : new SkeletonView(select(full, selection), selection.getFromFrame(), full.getFrameCount(), null);
+    }
+
+    private SkeletonData decode(Frame frame) {
+        if (frame.getFrameCount() == null) {
+            if (frame.getEncodedJoints() != null) {
+                return skeletonCodec.decode(frame.getEncodedJoints());
+            }
+            return frame.getJoints() == null ? null : SkeletonJson.parse(frame.getJoints());
+        }
+
+        SkeletonShape shape = null;
+        float[] values = null;
+
+        for (Long chunkId : frameChunkRepository.findIdsByFrameOrderByChunkIndex(frame)) {
+            FrameChunk chunk = frameChunkRepository.findById(chunkId)
+                .orElseThrow(() -> new IllegalStateException("스켈레톤 청크가 사라졌습니다: " + chunkId));
+
+            SkeletonData data = skeletonCodec.decode(chunk.getData());
+            if (shape == null) {
+                shape = data.getShape();
+                values = new float[frame.getFrameCount() * shape.getFrameSize()];
+            }
+            System.arraycopy(
+                data.getValues(), 0,
+                values, chunk.getStartFrame() * shape.getFrameSize(),
+                data.getFrameCount() * shape.getFrameSize()
+            );
+
+            entityManager.detach(chunk);
+        }
+
+        return shape == null ? null : new SkeletonData(shape, frame.getFrameCount(), values);
+    }
+
+    // 선택 구간/관절만 float 버퍼로 읽는다. 청크형 저장은 겹치는 청크만 디코딩한다.
+    @Transactional(readOnly = true)
+    public SkeletonData readData(Frame frame, SkeletonSelection selection) {
+        if (selection.isAll()) {
+            return readData(frame);
+        }
+
+        SkeletonData cached = frame.getFrameCount() == null ? readData(frame) : skeletonCacheService.getIfPresent(frame.getId());
+        if (cached != null) {
+            return select(cached, selection);
+        }
+        if (frame.getFrameCount() == null) {
+            return null;
+        }
+
+        int from = Math.min(selection.getFromFrame(), frame.getFrameCount());
+        int to = Math.min(selection.getToFrame(), frame.getFrameCount());
+        SkeletonShape shape = null;
+        float[] values = null;
+
+        for (Long chunkId : frameChunkRepository.findIdsByFrameInRange(frame, from, to)) {
+            FrameChunk chunk = frameChunkRepository.findById(chunkId)
+                .orElseThrow(() -> new IllegalStateException("스켈레톤 청크가 사라졌습니다: " + chunkId));
+
+            SkeletonData data = skeletonCodec.decode(chunk.getData());
+            if (shape == null) {
+                shape = data.getShape();
+                values = new float[(to - from) * shape.getFrameSize()];
+            }
+            int first = Math.max(from, chunk.getStartFrame());
+            int last = Math.min(to, chunk.getStartFrame() + data.getFrameCount());
+            System.arraycopy(
+                data.getValues(), (first - chunk.getStartFrame()) * shape.getFrameSize(),
+                values, (first - from) * shape.getFrameSize(),
+                (last - first) * shape.getFrameSize()
+            );
+
+            entityManager.detach(chunk);
+        }
+
+        if (shape == null) {
+            // 범위가 비어 있으면 첫 청크의 헤더로 구조만 알려 준다.
+            SkeletonShape first = readFirstShape(frame);
+            return first == null ? null : SkeletonSelection.project(
+                new SkeletonData(first, 0, new float[0]),
+                selection.jointIndices(first)
+            );
+        }
+        return SkeletonSelection.project(new SkeletonData(shape, to - from, values), selection.jointIndices(shape));
+    }
+
+    @Transactional(readOnly = true)
+    public String readJson(Frame frame) {
+        return readJson(frame, SkeletonSelection.all());
+    }
+
+    @Transactional(readOnly = true)
+    public String readJson(Frame frame, SkeletonSelection selection) {
+        if (selection.isAll() && frame.getFrameCount() == null && frame.getEncodedJoints() == null) {
+            return frame.getJoints();
+        }
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = SkeletonJson.factory().createGenerator(writer)) {
+            writeJson(frame, generator, selection);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeJson(Frame frame, JsonGenerator generator) throws IOException {
+        writeJson(frame, generator, SkeletonSelection.all());
+    }
+
+    // 청크형 저장은 범위와 겹치는 청크만 읽어 디코딩하므로 비용이 녹화 길이가 아니라 구간 길이에 비례한다.
+    // 전체 구간은 한 번 디코딩해 캐시에 올리고, 부분 구간은 캐시에 있을 때만 캐시에서 자른다.
+    @Transactional(readOnly = true)
+    public void writeJson(Frame frame, JsonGenerator generator, SkeletonSelection selection) throws IOException {
+        SkeletonData cached = frame.getFrameCount() == null || selection.isFullRange()
+            ? readData(frame)
+            : skeletonCacheService.getIfPresent(frame.getId());
+        if (cached != null || frame.getFrameCount() == null) {
+            generator.writeStartArray();
+            if (cached != null) {
+                writeSelected(generator, cached, 0, selection);
+            }
+            generator.writeEndArray();
+            return;
+        }
+
+        generator.writeStartArray();
+
+        List<Long> chunkIds = selection.isFullRange()
+            ? frameChunkRepository.findIdsByFrameOrderByChunkIndex(frame)
+            : frameChunkRepository.findIdsByFrameInRange(frame, selection.getFromFrame(), selection.getToFrame());
+        for (Long chunkId : chunkIds) {
+            FrameChunk chunk = frameChunkRepository.findById(chunkId)
+                .orElseThrow(() -> new IllegalStateException("스켈레톤 청크가 사라졌습니다: " + chunkId));
+
+            writeSelected(generator, skeletonCodec.decode(chunk.getData()), chunk.getStartFrame(), selection);
+
+            entityManager.detach(chunk);
+        }
+
+        generator.writeEndArray();
+    }
+
+    // 기존 JSON 문자열 저장은 전체를 파싱해야 알 수 있으므로 null
+    public Integer countFrames(Frame frame) {
+        if (frame.getFrameCount() != null) {
+            return frame.getFrameCount();
+        }
+        if (frame.getEncodedJoints() != null) {
+            return skeletonCodec.readFrameCount(frame.getEncodedJoints());
+        }
+        return null;
+    }
+
+    private static SkeletonData select(SkeletonData data, SkeletonSelection selection) {
+        if (selection.isAll()) {
+            return data;
+        }
+        int from = Math.min(selection.getFromFrame(), data.getFrameCount());
+        int to = Math.min(selection.getToFrame(), data.getFrameCount());
+        int frameSize = data.getShape().getFrameSize();
+        SkeletonData window = new SkeletonData(
+            data.getShape(),
+            to - from,
+            Arrays.copyOfRange(data.getValues(), from * frameSize, to * frameSize)
+        );
+        return SkeletonSelection.project(window, selection.jointIndices(data.getShape()));
+    }
+
+    // data 는 startFrame 부터 시작하는 연속 구간. 선택 범위와 겹치는 프레임의 선택 관절만 쓴다.
+    private void writeSelected(JsonGenerator generator, SkeletonData data, int startFrame, SkeletonSelection selection) throws IOException {
+        SkeletonShape shape = data.getShape();
+        int frameSize = shape.getFrameSize();
+        int from = Math.max(0, selection.getFromFrame() - startFrame);
+        int to = (int) Math.min(data.getFrameCount(), (long) selection.getToFrame() - startFrame);
+
+        int[] joints = selection.jointIndices(shape);
+        if (joints == null) {
+            for (int i = from; i < to; i++) {
+                SkeletonJson.writeFrame(generator, shape, data.getValues(), i * frameSize);
+            }
+            return;
+        }
+
+        SkeletonShape projected = SkeletonSelection.project(shape, joints);
+        float[] scratch = new float[projected.getFrameSize()];
+        for (int i = from; i < to; i++) {
+            SkeletonSelection.copyJoints(data.getValues(), i * frameSize, shape, joints, scratch);
+            SkeletonJson.writeFrame(generator, projected, scratch, 0);
+        }
+    }
+
+    private SkeletonShape readFirstShape(Frame frame) {
+        List<Long> chunkIds = frameChunkRepository.findIdsByFrameOrderByChunkIndex(frame);
+        if (chunkIds.isEmpty()) {
+            return null;
+        }
+        FrameChunk chunk = frameChunkRepository.findById(chunkIds.get(0)).orElse(null);
+        if (chunk == null) {
+            return null;
+        }
+        SkeletonShape shape = skeletonCodec.readShape(chunk.getData());
+        entityManager.detach(chunk);
+        return shape;
+    }
+
+    private void saveChunk(
+        Frame frame,
+        int chunkIndex,
+        int startFrame,
+        SkeletonShape shape,
+        float[] buffer,
+        int bufferFrame,
+        int frameCount
+    ) {
+        persist(new FrameChunk(
+            frame,
+            chunkIndex,
+            startFrame,
+            frameCount,
+            skeletonCodec.encode(shape, buffer, bufferFrame, frameCount)
+        ));
+    }
+
+    private void persist(FrameChunk chunk) {
+        entityManager.persist(chunk);
+        entityManager.flush();
+        // 영속성 컨텍스트에 청크 바이트가 쌓이지 않도록 바로 분리
+        entityManager.detach(chunk);
+    }
+}
@@ -0,0 +1,372 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.Friday.Backend.Domain.db.UploadSession;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonLayout;
+import com.Friday.Backend.Skeleton.SkeletonRingBuffer;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// WebSocket으로 들어오는 프레임을 세션별 링 버퍼에 모았다가 flushFrames 단위로 업로드 세션에 저장한다.
+// 버퍼가 highWatermark를 넘으면 pause, lowWatermark 아래로 비워지면 resume 메시지를 보낸다.
+@Service
+public class SkeletonStreamService {
+
+    private final UploadSessionService uploadSessionService;
+    private final ObjectMapper objectMapper;
+    private final int bufferFrames;
+    private final int flushFrames;
+    private final int highWatermark;
+    private final int lowWatermark;
+    private final int maxJoints;
+    private final ThreadPoolExecutor flushExecutor;
+
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+
+    public SkeletonStreamService(
+        UploadSessionService uploadSessionService,
+        ObjectMapper objectMapper,
+        @Value("${skeleton.ws.buffer-frames:2048}") int bufferFrames,
+        @Value("${skeleton.ws.flush-frames:256}") int flushFrames,
+        @Value("${skeleton.ws.high-watermark:0.75}") double highWatermark,
+        @Value("${skeleton.ws.low-watermark:0.25}") double lowWatermark,
+        @Value("${skeleton.ws.flush-threads:4}") int flushThreads,
+        @Value("${skeleton.ws.max-joints:64}") int maxJoints
+    ) {
+        this.uploadSessionService = uploadSessionService;
+        this.objectMapper = objectMapper;
+        this.bufferFrames = bufferFrames;
+        this.flushFrames = Math.min(flushFrames, bufferFrames);
+        this.highWatermark = (int) (bufferFrames * highWatermark);
+        this.lowWatermark = (int) (bufferFrames * lowWatermark);
+        this.maxJoints = maxJoints;
+        this.flushExecutor = new ThreadPoolExecutor(
+            flushThreads,
+            flushThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1024),
+            Thread.ofPlatform().name("skeleton-flush-", 0).daemon().factory()
+        );
+    }
+
+    public void open(WebSocketSession webSocketSession, String userId, String uploadSessionId) throws IOException {
+        WebSocketSession session = new ConcurrentWebSocketSessionDecorator(webSocketSession, 5000, 512 * 1024);
+        StreamState state = new StreamState(session, userId, uploadSessionId);
+        streams.put(webSocketSession.getId(), state);
+
+        try {
+            UploadSession uploadSession = uploadSessionService.getSession(userId, uploadSessionId);
+            if (uploadSession.getStatus() != UploadSession.Status.OPEN) {
+                fail(state, "이미 완료된 업로드 세션입니다.", CloseStatus.POLICY_VIOLATION);
+                return;
+            }
+
+            SkeletonShape shape = uploadSessionService.getShape(uploadSession);
+            if (shape != null) {
+                checkLimits(shape);
+                state.init(shape, bufferFrames, flushFrames);
+                sendReady(state, uploadSession);
+            }
+        }
+        catch (RuntimeException e) {
+            fail(state, e.getMessage(), CloseStatus.POLICY_VIOLATION);
+        }
+    }
+
+    // {"type":"shape","jointNames":[...],"dims":3} 또는 {"type":"shape","jointCount":33,"dims":3}
+    public void onShape(WebSocketSession webSocketSession, JsonNode message) throws IOException {
+        StreamState state = streams.get(webSocketSession.getId());
+        if (state == null) {
+            return;
+        }
+
+        try {
+            SkeletonShape shape = parseShape(message);
+            if (state.shape != null) {
+                if (!state.shape.equals(shape)) {
+                    throw new SkeletonFormatException("관절 구조가 이전 프레임과 다릅니다.");
+                }
+                return;
+            }
+
+            UploadSession uploadSession = uploadSessionService.registerShape(state.userId, state.uploadSessionId, shape);
+            state.init(shape, bufferFrames, flushFrames);
+            sendReady(state, uploadSession);
+        }
+        catch (RuntimeException e) {
+            fail(state, e.getMessage(), CloseStatus.BAD_DATA);
+        }
+    }
+
+    // 바이너리 메시지: 프레임 N개를 float32 little-endian으로 이어 붙인 것
+    public void onFrames(WebSocketSession webSocketSession, ByteBuffer payload) throws IOException {
+        StreamState state = streams.get(webSocketSession.getId());
+        if (state == null || state.closed) {
+            return;
+        }
+        if (state.shape == null) {
+            fail(state, "shape 메시지를 먼저 보내야 합니다.", CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        int frameBytes = state.ring.frameSize() * Float.BYTES;
+        if (payload.remaining() % frameBytes != 0) {
+            fail(state, "프레임 크기(" + frameBytes + " bytes)의 배수가 아닙니다.", CloseStatus.BAD_DATA);
+            return;
+        }
+
+        int frames = payload.remaining() / frameBytes;
+        if (!state.ring.offer(payload.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer(), frames)) {
+            // pause를 무시하고 계속 보낸 클라이언트: 무한정 쌓지 않고 끊는다.
+            fail(state, "수신 버퍼가 가득 찼습니다.", CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+
+        int buffered = state.ring.size();
+        if (buffered >= highWatermark && !state.paused) {
+            state.paused = true;
+            send(state, "pause", Map.of("buffered", buffered, "capacity", bufferFrames));
+        }
+        if (buffered >= flushFrames) {
+            scheduleFlush(state);
+        }
+    }
+
+    public void onCommit(WebSocketSession webSocketSession) {
+        StreamState state = streams.get(webSocketSession.getId());
+        if (state == null) {
+            return;
+        }
+        state.finalFlush = true;
+        state.commitRequested = true;
+        scheduleFlush(state);
+    }
+
+    public void close(WebSocketSession webSocketSession) {
+        StreamState state = streams.get(webSocketSession.getId());
+        if (state == null) {
+            return;
+        }
+        state.closed = true;
+        state.finalFlush = true;
+
+        if (state.shape == null || !needsFlush(state)) {
+            streams.remove(webSocketSession.getId());
+            return;
+        }
+        scheduleFlush(state);
+    }
+
+    public int getOpenStreams() {
+        return streams.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    private void scheduleFlush(StreamState state) {
+        if (!state.flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> runFlush(state));
+        }
+        catch (RejectedExecutionException e) {
+            state.flushing.set(false);
+            fail(state, "서버가 바빠 프레임을 저장할 수 없습니다.", CloseStatus.SERVICE_OVERLOAD);
+        }
+    }
+
+    private void runFlush(StreamState state) {
+        do {
+            try {
+                flushPending(state);
+            }
+            catch (RuntimeException e) {
+                System.err.println("스켈레톤 스트림 저장 실패 (세션: " + state.uploadSessionId + "): " + e.getMessage());
+                state.flushing.set(false);
+                fail(state, e.getMessage(), CloseStatus.SERVER_ERROR);
+                streams.remove(state.session.getId());
+                return;
+            }
+            state.flushing.set(false);
+        } while (needsFlush(state) && state.flushing.compareAndSet(false, true));
+
+        if (state.closed && state.ring.size() == 0) {
+            streams.remove(state.session.getId());
+        }
+    }
+
+    private void flushPending(StreamState state) {
+        SkeletonRingBuffer ring = state.ring;
+
+        while (ring.size() >= flushFrames || (state.finalFlush && ring.size() > 0)) {
+            int frames = ring.drain(state.scratch, flushFrames);
+            UploadSession uploadSession = uploadSessionService.appendFrames(
+                state.userId,
+                state.uploadSessionId,
+                state.shape,
+                state.scratch,
+                frames
+            );
+
+            send(state, "ack", Map.of(
+                "nextSequence", uploadSession.getNextSequence(),
+                "frameCount", uploadSession.getFrameCount(),
+                "buffered", ring.size()
+            ));
+
+            if (state.paused && ring.size() <= lowWatermark) {
+                state.paused = false;
+                send(state, "resume", Map.of("buffered", ring.size(), "capacity", bufferFrames));
+            }
+        }
+
+        if (state.commitRequested && !state.committed) {
+            UploadSession uploadSession = uploadSessionService.commit(state.userId, state.uploadSessionId);
+            state.committed = true;
+            send(state, "committed", Map.of(
+                "videoId", uploadSession.getFrame().getVideo().getVideoId(),
+                "frameCount", uploadSession.getFrameCount()
+            ));
+        }
+    }
+
+    private boolean needsFlush(StreamState state) {
+        if (state.ring == null) {
+            return false;
+        }
+        int buffered = state.ring.size();
+        return buffered >= flushFrames
+            || (state.finalFlush && (buffered > 0 || (state.commitRequested && !state.committed)));
+    }
+
+    // 버퍼 크기를 클라이언트가 정하므로 세션에 등록하거나 버퍼를 잡기 전에 범위를 확인한다.
+    private SkeletonShape parseShape(JsonNode message) {
+        int dims = message.path("dims").asInt(0);
+        JsonNode jointNames = message.get("jointNames");
+
+        if (jointNames != null && jointNames.isArray()) {
+            if (jointNames.size() > maxJoints) {
+                throw new SkeletonFormatException("관절 수는 " + maxJoints + "개 이하여야 합니다.");
+            }
+            String[] names = new String[jointNames.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = jointNames.get(i).asText();
+            }
+            return checkLimits(new SkeletonShape(SkeletonLayout.POSITION_OBJECTS, names.length, dims, names, null));
+        }
+
+        JsonNode jointCount = message.path("jointCount");
+        if (jointCount.isNumber() && !jointCount.canConvertToInt()) {
+            throw new SkeletonFormatException("관절 수는 " + maxJoints + "개 이하여야 합니다.");
+        }
+        return checkLimits(new SkeletonShape(SkeletonLayout.ARRAYS, jointCount.asInt(0), dims, null, null));
+    }
+
+    private SkeletonShape checkLimits(SkeletonShape shape) {
+        if (shape.getJointCount() > maxJoints) {
+            throw new SkeletonFormatException("관절 수는 " + maxJoints + "개 이하여야 합니다.");
+        }
+        if (shape.getDims() < 2 || shape.getDims() > 4) {
+            throw new SkeletonFormatException("좌표 차원은 2~4 여야 합니다.");
+        }
+        try {
+            Math.multiplyExact(bufferFrames, Math.multiplyExact(shape.getJointCount(), shape.getDims()));
+        }
+        catch (ArithmeticException e) {
+            throw new SkeletonFormatException("수신 버퍼가 너무 큽니다.");
+        }
+        return shape;
+    }
+
+    private void sendReady(StreamState state, UploadSession uploadSession) {
+        send(state, "ready", Map.of(
+            "nextSequence", uploadSession.getNextSequence(),
+            "frameCount", uploadSession.getFrameCount(),
+            "capacity", bufferFrames,
+            "frameBytes", state.shape.getFrameSize() * Float.BYTES
+        ));
+    }
+
+    private void fail(StreamState state, String message, CloseStatus status) {
+        state.closed = true;
+        send(state, "error", Map.of("message", message == null ? "알 수 없는 오류" : message));
+        try {
+            state.session.close(status);
+        }
+        catch (IOException e) {
+            System.err.println("WebSocket 종료 실패: " + e.getMessage());
+        }
+    }
+
+    private void send(StreamState state, String type, Map<String, Object> fields) {
+        if (!state.session.isOpen()) {
+            return;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("type", type);
+        body.putAll(fields);
+
+        try {
+            state.session.sendMessage(new TextMessage(objectMapper.writeValueAsString(body)));
+        }
+        catch (IOException e) {
+            System.err.println("WebSocket 메시지 전송 실패: " + e.getMessage());
+        }
+    }
+
+    private static final class StreamState {
+        private final WebSocketSession session;
+        private final String userId;
+        private final String uploadSessionId;
+        private final AtomicBoolean flushing = new AtomicBoolean();
+
+        private volatile SkeletonShape shape;
+        private volatile SkeletonRingBuffer ring;
+        private float[] scratch;
+
+        private volatile boolean paused;
+        private volatile boolean closed;
+        private volatile boolean finalFlush;
+        private volatile boolean commitRequested;
+        private volatile boolean committed;
+
+        StreamState(WebSocketSession session, String userId, String uploadSessionId) {
+            this.session = session;
+            this.userId = userId;
+            this.uploadSessionId = uploadSessionId;
+        }
+
+        void init(SkeletonShape shape, int bufferFrames, int flushFrames) {
+            this.scratch = new float[flushFrames * shape.getFrameSize()];
+            this.ring = new SkeletonRingBuffer(bufferFrames, shape.getFrameSize());
+            this.shape = shape;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.Friday.Backend.Service;
+
+// 스켈레톤 저장이 끝났을 때 발행. 커밋 이후에 채점 작업이 큐에 들어간다.
+public record SkeletonUploadedEvent(String userId, String videoId) {}
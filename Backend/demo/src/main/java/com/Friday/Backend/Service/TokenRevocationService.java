@@ -0,0 +1,62 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.Friday.Backend.Domain.db.TokenRevocation;
+import com.Friday.Backend.Domain.repository.TokenRevocationRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 토큰 강제 취소. 요청마다 DB 를 보지 않도록 사용자별 "이 시각 이전 발급분은 무효" 를 메모리에 들고 있고,
+// 다른 인스턴스에서 취소한 것은 jwt.revocation.refresh-ms 마다 스케줄러 스레드에서 DB 를 다시 읽어 반영한다.
+// 발급 시각은 밀리초 단위(JwtTokenProvider.ISSUED_AT_MILLIS)로 비교하므로 로그아웃 직후 다시 로그인한 토큰은 유효하다.
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final long tokenLifetimeMillis;
+
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(
+        TokenRevocationRepository tokenRevocationRepository,
+        @Value("${jwt.expiration}") long tokenLifetimeMillis
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+
+    // userId 에게 지금까지 발급된 토큰을 모두 무효로 한다.
+    public void revoke(String userId) {
+        long now = System.currentTimeMillis();
+        tokenRevocationRepository.save(new TokenRevocation(userId, now));
+        revokedBefore.merge(userId, now, Math::max);
+    }
+
+    // 인증 필터에서 요청마다 불리므로 메모리만 본다.
+    public boolean isRevoked(String userId, long issuedAtMillis) {
+        Long revokedAt = revokedBefore.get(userId);
+        return revokedAt != null && issuedAtMillis <= revokedAt;
+    }
+
+    // 시작할 때 한 번 읽고, 이후 refresh-ms 간격으로 다시 읽는다.
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        long cutoff = now - tokenLifetimeMillis;
+        try {
+            for (TokenRevocation revocation : tokenRevocationRepository.findByRevokedAtGreaterThanEqual(cutoff)) {
+                revokedBefore.merge(revocation.getUserId(), revocation.getRevokedAt(), Math::max);
+            }
+            // 이보다 먼저 취소된 토큰은 이미 만료되었다.
+            revokedBefore.values().removeIf(revokedAt -> revokedAt < cutoff);
+            tokenRevocationRepository.deleteExpired(cutoff);
+        }
+        catch (RuntimeException e) {
+            System.err.println("토큰 취소 목록 갱신 실패: " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.Friday.Backend.Service;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.Friday.Backend.Domain.db.Frame;
-import com.Friday.Backend.Domain.db.User;
+import com.Friday.Backend.Domain.db.FrameChunk;
 import com.Friday.Backend.Domain.db.Video;
 import com.Friday.Backend.Domain.repository.FrameRepository;
 import com.Friday.Backend.Domain.repository.UserRepository;
@@ -12,8 +17,21 @@ import com.Friday.Backend.Domain.repository.VideoRepository;
 import com.Friday.Backend.Dto.DownloadUrlDto;
 import com.Friday.Backend.Dto.FrameDto;
 import com.Friday.Backend.Dto.UploadUrlDto;
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonJsonReader;
+import com.Friday.Backend.Skeleton.SkeletonSelection;
+import com.Friday.Backend.Skeleton.SkeletonView;
+import com.fasterxml.jackson.core.JsonParser;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -26,73 +44,206 @@ public class UploadService {
     private final FrameRepository frameRepository;
     private final S3Service s3Service;
     private final VideoService videoService;
+    private final SkeletonStorageService skeletonStorageService;
+    private final SkeletonPreviewService skeletonPreviewService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoIdAllocator videoIdAllocator;
+    private final MultipartUploadService multipartUploadService;
+    private final VideoNumberService videoNumberService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxStreamFrames;
 
     public UploadService(
         UserRepository userRepository,
         VideoRepository videoRepository,
         FrameRepository frameRepository,
         S3Service s3Service,
-        VideoService videoService) {
+        VideoService videoService,
+        SkeletonStorageService skeletonStorageService,
+        SkeletonPreviewService skeletonPreviewService,
+        ApplicationEventPublisher eventPublisher,
+        VideoIdAllocator videoIdAllocator,
+        MultipartUploadService multipartUploadService,
+        VideoNumberService videoNumberService,
+        PlatformTransactionManager transactionManager,
+        @Value("${skeleton.stream.max-frames:54000}") int maxStreamFrames) {
             this.userRepository = userRepository;
             this.videoRepository = videoRepository;
             this.frameRepository = frameRepository;
             this.s3Service = s3Service;
             this.videoService = videoService;
+            this.skeletonStorageService = skeletonStorageService;
+            this.skeletonPreviewService = skeletonPreviewService;
+            this.eventPublisher = eventPublisher;
+            this.videoIdAllocator = videoIdAllocator;
+            this.multipartUploadService = multipartUploadService;
+            this.videoNumberService = videoNumberService;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.maxStreamFrames = maxStreamFrames;
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Video uploadSkeleton(String userId, String videoName, String jointsJson) {
-        User user = userRepository.findByUserId(userId).orElseGet(() -> {
-            User newUser = new User();
-            newUser.setUserId(userId);
-            return userRepository.save(newUser);
+        VideoNumberService.Reservation number = videoNumberService.reserve(userId);
+
+        return transactionTemplate.execute(status -> {
+            Video video = createVideo(number, videoName);
+
+            Frame frame = new Frame();
+            frame.setVideo(video);
+            frame = frameRepository.save(frame);
+            skeletonStorageService.writeJson(frame, jointsJson);
+
+            userRepository.incrementVideoListVersion(userId);
+            eventPublisher.publishEvent(new SkeletonUploadedEvent(userId, video.getVideoId()));
+            return video;
         });
+    }
+
+    // 본문을 끝까지 읽어 청크로 인코딩한 뒤에 짧은 트랜잭션 하나로 영상/프레임/청크를 저장한다.
+    // 느린 클라이언트가 본문을 보내는 동안 DB 커넥션이나 사용자 행 잠금을 잡고 있지 않도록 이 메서드에는 트랜잭션을 걸지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Video uploadSkeletonStream(String userId, String videoName, InputStream joints) throws IOException {
+        List<FrameChunk> chunks;
+        try (JsonParser parser = SkeletonJson.factory().createParser(joints)) {
+            chunks = skeletonStorageService.encodeFrames(new SkeletonJsonReader(parser), maxStreamFrames);
 
-        long videoCount = videoRepository.countByUser(user);
-        String newVideoId = String.format("%04d", videoCount + 1);
+            if (parser.nextToken() != null) {
+                throw new SkeletonFormatException("joints 배열 뒤에 불필요한 데이터가 있습니다.");
+            }
+        }
 
+        VideoNumberService.Reservation number = videoNumberService.reserve(userId);
+
+        return transactionTemplate.execute(status -> {
+            Video video = createVideo(number, videoName);
+
+            Frame frame = new Frame();
+            frame.setVideo(video);
+            frame = frameRepository.save(frame);
+            skeletonStorageService.writeChunks(frame, chunks);
+
+            userRepository.incrementVideoListVersion(userId);
+            eventPublisher.publishEvent(new SkeletonUploadedEvent(userId, video.getVideoId()));
+            return video;
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Video createVideo(String userId, String videoName) {
+        VideoNumberService.Reservation number = videoNumberService.reserve(userId);
+
+        return transactionTemplate.execute(status -> {
+            Video video = createVideo(number, videoName);
+            userRepository.incrementVideoListVersion(userId);
+            return video;
+        });
+    }
+
+    // 호출한 쪽 트랜잭션에서 영상 행을 만든다. 번호는 그 트랜잭션을 열기 전에 VideoNumberService.reserve 로 받아 둔다.
+    // 목록 버전(사용자 행 잠금)은 커밋 직전에 호출한 쪽에서 올린다.
+    public Video createVideo(VideoNumberService.Reservation number, String videoName) {
         Video video = new Video();
-        video.setUser(user);
-        video.setVideoId(newVideoId);
+        video.setUser(number.user());
+        video.setVideoId(videoIdAllocator.nextVideoId());
+        video.setDisplayNumber(number.displayNumber());
         video.setVideoName(videoName);
-        video = videoRepository.save(video);
-
-        Frame frame = new Frame();
-        frame.setVideo(video);
-        frame.setJoints(jointsJson);
-        frameRepository.save(frame);
+        return videoRepository.save(video);
+    }
 
-        return video;
+    // 스켈레톤 ETag 용 버전. 영상이 없거나 권한이 없으면 null
+    @Transactional(readOnly = true)
+    public String getSkeletonVersion(String userId, String videoId) {
+        return frameRepository.findVersionByVideoIdAndUserId(videoId, userId).orElse(null);
     }
 
     public FrameDto getSkeleton(String userId, String videoId) {
-        Optional<User> userOpt = userRepository.findByUserId(userId);
+        return getSkeleton(userId, videoId, SkeletonSelection.all(), 0);
+    }
+
+    // lod 0 은 원본, 1 이상은 미리보기 레벨
+    // 원본이 캐시에 있으면 Frame 행(LOB 포함)을 읽지 않는다.
+    public FrameDto getSkeleton(String userId, String videoId, SkeletonSelection selection, int lod) {
+        Long frameId = frameRepository.findIdByVideoIdAndUserId(videoId, userId).orElse(null);
+        if (frameId == null) {
+            return null;
+        }
+
+        if (lod == 0) {
+            SkeletonView cached = skeletonStorageService.readCached(frameId, selection);
+            if (cached != null) {
+                return new FrameDto(videoId, SkeletonJson.toJson(cached.getData()), cached.getStartFrame(), cached.getTotalFrames());
+            }
+        }
 
-        if (userOpt.isEmpty()) {
+        Frame frame = frameRepository.findById(frameId).orElse(null);
+        if (frame == null) {
             return null;
         }
 
-        Optional<Video> videoOpt = videoRepository.findByVideoId(videoId)
-            .filter(video -> video.getUser().getUserId().equals(userId));
+        if (lod > 0) {
+            return skeletonPreviewService.readPreview(videoId, frame, lod, selection);
+        }
 
-        if (videoOpt.isEmpty()) {
+        return new FrameDto(
+            videoId,
+            skeletonStorageService.readJson(frame, selection),
+            selection.getFromFrame(),
+            skeletonStorageService.countFrames(frame)
+        );
+    }
+
+    // 바이너리 응답용: JSON 문자열 대신 float 버퍼로 읽는다.
+    public SkeletonView getSkeletonView(String userId, String videoId, SkeletonSelection selection, int lod) {
+        Long frameId = frameRepository.findIdByVideoIdAndUserId(videoId, userId).orElse(null);
+        if (frameId == null) {
             return null;
         }
 
-        Frame frame = frameRepository.findByVideo(videoOpt.get()).orElse(null);
+        if (lod == 0) {
+            SkeletonView cached = skeletonStorageService.readCached(frameId, selection);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Frame frame = frameRepository.findById(frameId).orElse(null);
         if (frame == null) {
             return null;
         }
 
-        return new FrameDto(videoId, frame.getJoints());
+        if (lod > 0) {
+            return skeletonPreviewService.readPreviewView(frame, lod, selection);
+        }
+
+        SkeletonData data = skeletonStorageService.readData(frame, selection);
+        return data == null ? null : new SkeletonView(
+            data,
+            selection.getFromFrame(),
+            skeletonStorageService.countFrames(frame),
+            null
+        );
     }
 
+    // fileSize 가 멀티파트 기준 이상이면 PUT URL 하나 대신 멀티파트 업로드를 시작하고,
+    // 영상 메타데이터는 업로드가 완료될 때 저장한다. S3 호출을 기다리는 동안 트랜잭션을 열어 두지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UploadUrlDto createUploadUrl(
         String userId,
         String videoId,
         String bucket,
-        String objectName
+        String objectName,
+        Long fileSize
     )   
     throws Exception {
+        if (multipartUploadService.shouldUseMultipart(fileSize)) {
+            return new UploadUrlDto(
+                bucket,
+                objectName,
+                multipartUploadService.start(userId, videoId, bucket, objectName, fileSize)
+            );
+        }
+
         String uploadUrl = s3Service.getUploadUrl(bucket, objectName);
 
         videoService.saveVideoMetadata(userId, videoId, objectName);
@@ -100,6 +251,32 @@ public class UploadService {
         return new UploadUrlDto(bucket, objectName, uploadUrl);
     }
 
+    // 목록 화면용: 소유 확인과 객체 키 조회를 한 번의 쿼리로 하고 서명은 한꺼번에 한다.
+    // 없거나 권한이 없거나 아직 영상 파일이 없는 videoId 는 결과에서 빠진다. 순서는 요청 순서
+    public List<DownloadUrlDto> createDownloadUrls(String userId, List<String> videoIds, String bucket) {
+        Map<String, String> objectNames = new HashMap<>();
+        for (VideoRepository.ObjectNameView view : videoRepository.findObjectNamesByUserIdAndVideoIdIn(userId, videoIds)) {
+            objectNames.put(view.getVideoId(), view.getObjectName());
+        }
+
+        Map<String, String> urls;
+        try {
+            urls = s3Service.getDownloadUrls(bucket, objectNames.values());
+        }
+        catch (Exception e) {
+            throw new RuntimeException("S3 다운로드 URL 생성에 실패했습니다.", e);
+        }
+
+        List<DownloadUrlDto> result = new ArrayList<>();
+        for (String videoId : new LinkedHashSet<>(videoIds)) {
+            String objectName = objectNames.get(videoId);
+            if (objectName != null) {
+                result.add(new DownloadUrlDto(videoId, bucket, objectName, urls.get(objectName)));
+            }
+        }
+        return result;
+    }
+
     public DownloadUrlDto createDownloadUrl(String userId, String videoId, String bucket) {
     
     String objectName = videoRepository.findObjectNameByUserIdAndVideoId(userId, videoId)
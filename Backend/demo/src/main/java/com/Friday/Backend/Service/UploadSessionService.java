@@ -0,0 +1,279 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Frame;
+import com.Friday.Backend.Domain.db.FrameChunk;
+import com.Friday.Backend.Domain.db.UploadSession;
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Domain.repository.FrameRepository;
+import com.Friday.Backend.Domain.repository.UploadSessionRepository;
+import com.Friday.Backend.Domain.repository.UserRepository;
+import com.Friday.Backend.Skeleton.SkeletonCodec;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonJson;
+import com.Friday.Backend.Skeleton.SkeletonJsonReader;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 청크 단위 이어 올리기. 영상(Video)은 commit 때 만들어서 끝나지 않은 세션이 목록과 영상 수에 잡히지 않게 한다.
+// 마지막 청크 이후 ttl 이 지나도록 commit 되지 않은 세션은 정리 작업이 프레임(청크 포함)과 함께 지운다.
+@Service
+public class UploadSessionService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FrameRepository frameRepository;
+    private final UploadService uploadService;
+    private final SkeletonStorageService skeletonStorageService;
+    private final SkeletonCodec skeletonCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VideoNumberService videoNumberService;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchFrames;
+    private final Duration ttl;
+    private final boolean reaperEnabled;
+
+    public UploadSessionService(
+        UploadSessionRepository uploadSessionRepository,
+        FrameRepository frameRepository,
+        UploadService uploadService,
+        SkeletonStorageService skeletonStorageService,
+        SkeletonCodec skeletonCodec,
+        ApplicationEventPublisher eventPublisher,
+        VideoNumberService videoNumberService,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${skeleton.session.max-batch-frames:1024}") int maxBatchFrames,
+        @Value("${skeleton.session.ttl:24h}") Duration ttl,
+        @Value("${skeleton.session.reaper.enabled:true}") boolean reaperEnabled
+    ) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.frameRepository = frameRepository;
+        this.uploadService = uploadService;
+        this.skeletonStorageService = skeletonStorageService;
+        this.skeletonCodec = skeletonCodec;
+        this.eventPublisher = eventPublisher;
+        this.videoNumberService = videoNumberService;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchFrames = maxBatchFrames;
+        this.ttl = ttl;
+        this.reaperEnabled = reaperEnabled;
+    }
+
+    // 청크를 붙일 프레임만 만든다. 영상은 commit 에서 만든다.
+    @Transactional
+    public UploadSession openSession(String userId, String videoName, String fileExtension) {
+        Frame frame = frameRepository.save(new Frame());
+
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), frame, userId, videoName, fileExtension);
+        return uploadSessionRepository.save(session);
+    }
+
+    @Transactional(readOnly = true)
+    public UploadSession getSession(String userId, String sessionId) {
+        return uploadSessionRepository.findBySessionIdAndUserId(sessionId, userId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "업로드 세션이 없거나, 권한이 없습니다."));
+    }
+
+    // 이미 받은 번호의 청크는 다시 저장하지 않고 현재 상태만 돌려준다 (재시도에 대해 멱등).
+    // 본문은 트랜잭션 밖에서 읽어 인코딩한다. 느린 클라이언트가 본문을 보내는 동안 커넥션과 세션 행을 잡지 않는다.
+    // 청크 저장과 nextSequence 증가만 짧은 트랜잭션으로 하고, 그 사이 같은 번호가 먼저 저장되면 세션의 @Version 으로 걸러진다.
+    public UploadSession appendChunk(String userId, String sessionId, int sequence, InputStream body) throws IOException {
+        UploadSession current = getSession(userId, sessionId);
+        if (sequence < current.getNextSequence()) {
+            return current;
+        }
+        checkNextChunk(current, sequence);
+
+        FrameChunk chunk;
+        SkeletonShape shape;
+        try (JsonParser parser = SkeletonJson.factory().createParser(body)) {
+            SkeletonJsonReader reader = new SkeletonJsonReader(parser, getShape(current));
+            chunk = skeletonStorageService.encodeChunk(sequence, current.getFrameCount(), reader, maxBatchFrames);
+
+            if (parser.nextToken() != null) {
+                throw new SkeletonFormatException("joints 배열 뒤에 불필요한 데이터가 있습니다.");
+            }
+            shape = reader.readShape();
+        }
+
+        return transactionTemplate.execute(status -> {
+            UploadSession session = getSession(userId, sessionId);
+            if (sequence < session.getNextSequence()) {
+                return session;
+            }
+            checkNextChunk(session, sequence);
+            checkShape(session, shape);
+
+            skeletonStorageService.writeChunk(session.getFrame(), chunk);
+            session.setFrameCount(session.getFrameCount() + chunk.getFrameCount());
+            session.setNextSequence(sequence + 1);
+            return session;
+        });
+    }
+
+    private void checkNextChunk(UploadSession session, int sequence) {
+        if (session.getStatus() != UploadSession.Status.OPEN) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 완료된 업로드 세션입니다.");
+        }
+        if (sequence > session.getNextSequence()) {
+            throw new ResponseStatusException(
+                HttpStatus.CONFLICT,
+                "청크 순서가 맞지 않습니다. 다음 청크 번호: " + session.getNextSequence()
+            );
+        }
+    }
+
+    // WebSocket 수집 경로: 이미 float 버퍼로 받은 프레임을 다음 청크 번호로 저장한다.
+    @Transactional
+    public UploadSession appendFrames(String userId, String sessionId, SkeletonShape shape, float[] values, int frameCount) {
+        UploadSession session = getSession(userId, sessionId);
+
+        if (session.getStatus() != UploadSession.Status.OPEN) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 완료된 업로드 세션입니다.");
+        }
+        checkShape(session, shape);
+
+        skeletonStorageService.appendFrames(
+            session.getFrame(),
+            session.getNextSequence(),
+            session.getFrameCount(),
+            shape,
+            values,
+            frameCount
+        );
+
+        session.setFrameCount(session.getFrameCount() + frameCount);
+        session.setNextSequence(session.getNextSequence() + 1);
+
+        return session;
+    }
+
+    // 세션에 관절 구조가 없으면 등록하고, 있으면 같은지 확인한다.
+    @Transactional
+    public UploadSession registerShape(String userId, String sessionId, SkeletonShape shape) {
+        UploadSession session = getSession(userId, sessionId);
+        checkShape(session, shape);
+        return session;
+    }
+
+    public SkeletonShape getShape(UploadSession session) {
+        return session.getShapeHeader() == null ? null : skeletonCodec.readShape(session.getShapeHeader());
+    }
+
+    private void checkShape(UploadSession session, SkeletonShape shape) {
+        if (session.getShapeHeader() == null) {
+            session.setShapeHeader(skeletonCodec.encode(shape, new float[0], 0, 0));
+        }
+        else if (!shape.equals(getShape(session))) {
+            throw new SkeletonFormatException("관절 구조가 이전 프레임과 다릅니다.");
+        }
+    }
+
+    // 영상 표시 번호는 세션 트랜잭션을 열기 전에 받는다 (UploadService.createVideo 참고).
+    // 같은 세션을 동시에 commit 하면 늦은 쪽이 받은 번호는 비게 된다.
+    public UploadSession commit(String userId, String sessionId) {
+        UploadSession current = getSession(userId, sessionId);
+        if (current.getStatus() == UploadSession.Status.COMMITTED) {
+            return current;
+        }
+        if (current.getFrameCount() == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "저장된 프레임이 없습니다.");
+        }
+
+        VideoNumberService.Reservation number = videoNumberService.reserve(userId);
+
+        return transactionTemplate.execute(status -> {
+            UploadSession session = getSession(userId, sessionId);
+            if (session.getStatus() == UploadSession.Status.COMMITTED) {
+                return session;
+            }
+
+            Video video = uploadService.createVideo(number, session.getVideoName());
+            Frame frame = session.getFrame();
+            frame.setVideo(video);
+            frame.setFrameCount(session.getFrameCount());
+            video.setFrame(frame);
+            session.setStatus(UploadSession.Status.COMMITTED);
+
+            userRepository.incrementVideoListVersion(userId);
+            eventPublisher.publishEvent(new SkeletonUploadedEvent(userId, video.getVideoId()));
+            return session;
+        });
+    }
+
+    // updatedAt 이 ttl 보다 오래된 OPEN 세션을 지운다. 지운 수
+    public int reap() {
+        return reap(LocalDateTime.now().minus(ttl));
+    }
+
+    // 세션마다 따로 커밋하므로 하나가 실패해도 나머지는 지운다. 그 사이에 청크가 들어온 세션은 @Version 으로 걸러진다.
+    int reap(LocalDateTime cutoff) {
+        int reaped = 0;
+        while (true) {
+            List<String> sessionIds = uploadSessionRepository.findIdsByStatusUpdatedBefore(UploadSession.Status.OPEN, cutoff, Limit.of(100));
+            int before = reaped;
+            for (String sessionId : sessionIds) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> expire(sessionId, cutoff)))) {
+                        reaped++;
+                    }
+                }
+                catch (ConcurrencyFailureException e) {
+                    // 정리하는 사이에 청크가 들어왔다. 다음 주기에 다시 본다.
+                }
+            }
+            if (sessionIds.size() < 100 || reaped == before) {
+                return reaped;
+            }
+        }
+    }
+
+    private boolean expire(String sessionId, LocalDateTime cutoff) {
+        UploadSession session = uploadSessionRepository.findById(sessionId).orElse(null);
+        if (session == null || session.getStatus() != UploadSession.Status.OPEN || !session.getUpdatedAt().isBefore(cutoff)) {
+            return false;
+        }
+
+        Frame frame = session.getFrame();
+        uploadSessionRepository.delete(session);
+        uploadSessionRepository.flush();
+
+        // 청크는 프레임이 지워질 때 DB 가 함께 지운다.
+        frameRepository.delete(frame);
+        return true;
+    }
+
+    // skeleton.session.reaper.enabled=false 면 돌지 않는다. 테스트는 reap 을 직접 부른다.
+    @Scheduled(initialDelayString = "${skeleton.session.reap-interval:1h}", fixedDelayString = "${skeleton.session.reap-interval:1h}")
+    public void reapOnSchedule() {
+        if (!reaperEnabled) {
+            return;
+        }
+        try {
+            reap();
+        }
+        catch (RuntimeException e) {
+            System.err.println("업로드 세션 정리 실패: " + e.getMessage());
+        }
+    }
+}
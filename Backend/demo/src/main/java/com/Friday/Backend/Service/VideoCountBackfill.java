@@ -0,0 +1,55 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.Friday.Backend.Domain.db.IdSequence;
+import com.Friday.Backend.Domain.repository.IdSequenceRepository;
+import com.Friday.Backend.Domain.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// User.videoCount 가 생기기 전에 올린 영상이 있는 사용자에게 영상 수를 한 번만 채워 넣는다.
+// 끝나면 id_sequence 에 표시 행을 남겨 다음부터는 건너뛴다. 요청을 받기 전(컨텍스트 초기화 중)에 돈다.
+@Component
+public class VideoCountBackfill {
+
+    static final String MARKER = "migration.user-video-count";
+
+    private final UserRepository userRepository;
+    private final IdSequenceRepository idSequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public VideoCountBackfill(
+        UserRepository userRepository,
+        IdSequenceRepository idSequenceRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.idSequenceRepository = idSequenceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (idSequenceRepository.existsById(MARKER)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                backfill();
+                idSequenceRepository.saveAndFlush(new IdSequence(MARKER));
+            });
+        }
+        catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 순간에 끝냈다.
+        }
+    }
+
+    // 이미 값이 있는 사용자는 건드리지 않으므로 다시 돌려도 결과가 같다.
+    int backfill() {
+        return transactionTemplate.execute(status -> userRepository.backfillVideoCount());
+    }
+}
@@ -0,0 +1,154 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 영상 ID 발급. 64비트 = 밀리초 시각(42) | 노드(10) | 같은 밀리초 안의 순번(12) 을 36진수 13자로 쓴다.
+// 길이가 고정이라 문자열 순서가 발급 시각 순서와 같다. 발급은 CAS 한 번으로 끝나고 DB 를 보지 않는다.
+// 노드 번호는 인스턴스가 뜰 때 video_id_node_lease 에서 임대하므로 여러 인스턴스가 같은 밀리초에 발급해도 겹치지 않는다.
+// 임대는 떠 있는 동안 주기적으로 늘리고, 만료된 노드만 다른 인스턴스가 가져간다. video.id.node 를 주면 임대 없이 그 번호를 쓴다.
+@Component
+public class VideoIdAllocator {
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long NODE_COUNT = 1L << NODE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int WIDTH = 13;
+
+    // 2025-01-01T00:00:00Z. 42비트라 약 139년 쓸 수 있다.
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private final LongSupplier clock;
+    private final VideoIdNodeLeaseService leaseService;
+    private final String owner = UUID.randomUUID().toString();
+    private final long leaseTtlMillis;
+
+    private volatile long node;
+
+    // 이 시각(clock 기준 밀리초)까지만 발급한다. 임대 기한의 절반만 믿어 인스턴스 사이 시계 차이와 멈춤에 여유를 둔다.
+    // 갱신이 늦어 이 시각을 넘기면 갱신될 때까지 발급하지 않는다.
+    private volatile long validUntil = Long.MAX_VALUE;
+
+    // (마지막 시각 << SEQUENCE_BITS) | 순번. 순번이 넘치면 시각 자리로 올라가 다음 밀리초를 미리 쓴다.
+    // 시계가 뒤로 가도 이 값보다 작아지지 않으므로 ID 가 줄어들지 않는다.
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public VideoIdAllocator(
+        VideoIdNodeLeaseService leaseService,
+        @Value("${video.id.node:-1}") long node,
+        @Value("${video.id.lease-ttl-ms:300000}") long leaseTtlMillis
+    ) {
+        this(node, System::currentTimeMillis, node >= 0 ? null : leaseService, leaseTtlMillis);
+    }
+
+    VideoIdAllocator(long node, LongSupplier clock) {
+        this(node, clock, null, 0);
+    }
+
+    VideoIdAllocator(long node, LongSupplier clock, VideoIdNodeLeaseService leaseService, long leaseTtlMillis) {
+        this.clock = clock;
+        this.leaseService = leaseService;
+        this.leaseTtlMillis = leaseTtlMillis;
+
+        if (leaseService != null) {
+            lease();
+            return;
+        }
+        if (node < 0 || node >= NODE_COUNT) {
+            throw new IllegalArgumentException("video.id.node 는 0 이상 " + NODE_COUNT + " 미만이어야 합니다.");
+        }
+        this.node = node;
+    }
+
+    public String nextVideoId() {
+        return format(nextId());
+    }
+
+    long nextId() {
+        if (clock.getAsLong() > validUntil) {
+            throw new IllegalStateException("영상 ID 노드 임대가 만료되었습니다. 갱신될 때까지 발급하지 않습니다.");
+        }
+        while (true) {
+            long prev = state.get();
+            long now = clock.getAsLong() - EPOCH;
+            long next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                    | node << SEQUENCE_BITS
+                    | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    long getNode() {
+        return node;
+    }
+
+    static String format(long id) {
+        String digits = Long.toString(id, 36);
+        return "0".repeat(WIDTH - digits.length()) + digits;
+    }
+
+    // 임대 기한의 1/5 간격으로 기한을 늘린다. 멈춰 있던 사이 만료되어 다른 인스턴스가 노드를 가져갔으면
+    // (그동안은 validUntil 이 지나 발급하지 않았다) 새 노드를 임대한다.
+    @Scheduled(fixedDelayString = "${video.id.lease-renew-ms:60000}")
+    public void renewLease() {
+        if (leaseService == null) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            if (leaseService.renew((int) node, owner, now, leaseTtlMillis)) {
+                validUntil = now + leaseTtlMillis / 2;
+            }
+            else {
+                lease();
+            }
+        }
+        catch (RuntimeException e) {
+            System.err.println("영상 ID 노드 임대 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leaseService != null) {
+            leaseService.release((int) node, owner);
+        }
+    }
+
+    // 노드 번호는 만료된 임대만 다시 쓰므로 같은 번호를 두 인스턴스가 동시에 쓰지 않는다.
+    // 1024개가 모두 살아 있는 인스턴스에 임대되어 있으면 돌려 쓰지 않고 시작에 실패한다.
+    private void lease() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long now = clock.getAsLong();
+            int leased;
+            try {
+                leased = leaseService.claim(owner, now, leaseTtlMillis, (int) NODE_COUNT);
+            }
+            catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 노드를 같은 순간에 만들었다.
+                continue;
+            }
+            if (leased < 0) {
+                throw new IllegalStateException("비어 있는 영상 ID 노드가 없습니다 (" + NODE_COUNT + "개 모두 임대 중).");
+            }
+            node = leased;
+            validUntil = now + leaseTtlMillis / 2;
+            return;
+        }
+        throw new IllegalStateException("영상 ID 노드를 임대하지 못했습니다.");
+    }
+}
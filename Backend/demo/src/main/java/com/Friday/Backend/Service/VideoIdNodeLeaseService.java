@@ -0,0 +1,49 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Friday.Backend.Domain.repository.VideoIdNodeLeaseRepository;
+
+// 영상 ID 노드 번호를 임대한다. 모든 메서드는 호출한 쪽 트랜잭션과 무관하게 바로 커밋한다.
+@Service
+public class VideoIdNodeLeaseService {
+
+    private final VideoIdNodeLeaseRepository videoIdNodeLeaseRepository;
+
+    public VideoIdNodeLeaseService(VideoIdNodeLeaseRepository videoIdNodeLeaseRepository) {
+        this.videoIdNodeLeaseRepository = videoIdNodeLeaseRepository;
+    }
+
+    // 만료된 노드를 먼저 다시 쓰고, 없으면 새 노드를 만든다. 빈 노드가 없으면 -1
+    // 두 인스턴스가 같은 새 노드를 동시에 만들면 한쪽이 키 중복으로 실패하므로 호출한 쪽에서 다시 시도한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int claim(String owner, long now, long ttlMillis, int nodeCount) {
+        for (int node : videoIdNodeLeaseRepository.findExpiredNodes(now, Limit.of(8))) {
+            if (videoIdNodeLeaseRepository.claimExpired(node, owner, now + ttlMillis, now) == 1) {
+                return node;
+            }
+        }
+
+        int next = (int) videoIdNodeLeaseRepository.count();
+        if (next >= nodeCount) {
+            return -1;
+        }
+        videoIdNodeLeaseRepository.create(next, owner, now + ttlMillis);
+        return next;
+    }
+
+    // owner 가 아직 node 를 가지고 있으면 기한을 늘린다. 만료된 뒤 다른 인스턴스가 가져갔으면 false
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean renew(int node, String owner, long now, long ttlMillis) {
+        return videoIdNodeLeaseRepository.renew(node, owner, now + ttlMillis) == 1;
+    }
+
+    // 종료할 때 바로 다시 쓸 수 있게 기한을 지난 것으로 돌린다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(int node, String owner) {
+        videoIdNodeLeaseRepository.renew(node, owner, 0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.Friday.Backend.Service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.Friday.Backend.Domain.db.User;
+import com.Friday.Backend.Domain.repository.UserRepository;
+
+@Service
+public class VideoNumberService {
+
+    private final UserRepository userRepository;
+
+    public VideoNumberService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // 새 영상의 표시 번호를 잡는다. 호출한 쪽 트랜잭션과 무관하게 바로 커밋해서 사용자 행 잠금을 업로드가 끝날 때까지 잡지 않는다.
+    // 두 번째 커넥션을 쓰지 않도록 업로드 트랜잭션을 열기 전에 부른다. 업로드가 실패하면 그 번호는 비게 된다.
+    // 사용자 행이 없으면 여기서 만든다 (업로드 트랜잭션에서 만들면 커밋 전이라 이 트랜잭션에서 보이지 않는다).
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Reservation reserve(String userId) {
+        User user = userRepository.findByUserId(userId)
+            .orElseGet(() -> userRepository.saveAndFlush(new User(userId)));
+
+        userRepository.incrementVideoCount(userId);
+        return new Reservation(user, userRepository.findVideoCount(userId).orElseThrow());
+    }
+
+    public record Reservation(User user, int displayNumber) {}
+}
@@ -2,15 +2,17 @@ package com.Friday.Backend.Service;
 
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
-
-import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,32 +20,77 @@ import com.Friday.Backend.Domain.db.Video;
 import com.Friday.Backend.Domain.repository.UserRepository;
 import com.Friday.Backend.Domain.repository.VideoRepository;
 import com.Friday.Backend.Dto.VideoListDto;
+import com.Friday.Backend.Dto.VideoPageDto;
 
 @Service
 public class VideoService {
 
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
-    private final S3Client s3Client;
+    private final S3PurgeService s3PurgeService;
+    private final SkeletonCacheService skeletonCacheService;
 
     @Value("${aws.s3.bucket-name}")
     private String bucket;
 
-    public VideoService(S3Client s3Client, UserRepository userRepository, VideoRepository videoRepository) {
-        this.s3Client = s3Client;
+    public VideoService(
+        S3PurgeService s3PurgeService,
+        UserRepository userRepository,
+        VideoRepository videoRepository,
+        SkeletonCacheService skeletonCacheService
+    ) {
+        this.s3PurgeService = s3PurgeService;
         this.userRepository = userRepository;
         this.videoRepository = videoRepository;
+        this.skeletonCacheService = skeletonCacheService;
     }
 
     @Transactional(readOnly = true)
     public List<VideoListDto> getAllVideosByUser(String userId) {
-        return videoRepository.findAllByUser_UserId(userId).stream()
-        .map(video -> new VideoListDto(
-            video.getVideoId(),
-            video.getVideoName(),
-            video.getUploadTime()
-        ))
-        .collect(Collectors.toList());
+        return videoRepository.findListByUserId(userId, Limit.unlimited());
+    }
+
+    // 최신순 한 페이지. cursor 는 이전 페이지의 nextCursor (첫 페이지는 null)
+    @Transactional(readOnly = true)
+    public VideoPageDto getVideoPage(String userId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<VideoListDto> videos;
+
+        if (cursor == null) {
+            videos = videoRepository.findListByUserId(userId, limit);
+        }
+        else {
+            VideoListDto after = decodeCursor(cursor);
+            videos = videoRepository.findListByUserIdBefore(userId, after.getUploadTime(), after.getVideoId(), limit);
+        }
+
+        if (videos.size() <= size) {
+            return new VideoPageDto(videos, null);
+        }
+        videos = videos.subList(0, size);
+        return new VideoPageDto(videos, encodeCursor(videos.get(size - 1)));
+    }
+
+    private static String encodeCursor(VideoListDto last) {
+        String raw = last.getUploadTime() + "|" + last.getVideoId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static VideoListDto decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new VideoListDto(raw.substring(separator + 1), null, null, LocalDateTime.parse(raw.substring(0, separator)));
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor 가 올바르지 않습니다.", e);
+        }
+    }
+
+    // 목록 ETag 용 버전. 사용자가 아직 없으면 빈 목록의 버전
+    @Transactional(readOnly = true)
+    public String getVideoListVersion(String userId) {
+        return userRepository.findVideoListVersion(userId).orElse("0.0");
     }
 
     @Transactional
@@ -54,22 +101,18 @@ public class VideoService {
         if (videoOpt.isPresent()) {
             Video video = videoOpt.get();
 
+            // S3 객체는 커밋 뒤 S3PurgeService 가 지운다.
             if (video.getObjectName() != null) {
-                try {
-                    DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(video.getObjectName())
-                    .build();
-
-                    s3Client.deleteObject(deleteRequest);
-                }
-                catch (SdkClientException e) {
-                    System.err.println("S3 삭제 실패 (객체 키: " + video.getObjectName() + "): " + e.getMessage());
-                    return false;
-                }
+                s3PurgeService.enqueue(bucket, List.of(video.getObjectName()));
             }
 
             videoRepository.delete(video);
+            userRepository.incrementVideoListVersion(userId);
+
+            // 프레임 PK 는 재사용되지 않으므로 커밋 전에 비워도 다시 읽힐 뿐 틀린 데이터를 주지는 않는다.
+            if (video.getFrame() != null) {
+                skeletonCacheService.invalidate(video.getFrame().getId());
+            }
             return true;
         }
         else {
@@ -83,23 +126,17 @@ public class VideoService {
         .map(user -> {
             List<Video> videosToDelete = videoRepository.findAllByUser_UserId(userId);
 
-            for (Video video : videosToDelete) {
-                if (video.getObjectName() != null) {
-                    try {
-                        DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(video.getObjectName())
-                        .build();
-
-                        s3Client.deleteObject(deleteRequest);
-                    }
-                    catch (SdkClientException e) {
-                        System.err.println("사용자[" + userId + "]의 S3 객체 삭제 실패: " + e.getMessage());
-                    }
-                }
-            }
-                
+            // S3 객체는 커밋 뒤 S3PurgeService 가 묶어서 지운다.
+            s3PurgeService.enqueue(bucket, videosToDelete.stream()
+                .map(Video::getObjectName)
+                .filter(objectName -> objectName != null)
+                .toList());
+
             videoRepository.deleteAll(videosToDelete);
+            skeletonCacheService.invalidateAll(videosToDelete.stream()
+                .filter(video -> video.getFrame() != null)
+                .map(video -> video.getFrame().getId())
+                .toList());
                 
             userRepository.delete(user);
             return true;
@@ -0,0 +1,57 @@
+package com.Friday.Backend.Skeleton;
+
+public class ScalarSkeletonNormalizer implements SkeletonNormalizer {
+
+    @Override
+    public void normalize(
+        float[] src,
+        int srcOffset,
+        int srcDims,
+        float[] dst,
+        int dstOffset,
+        int outDims,
+        int jointCount,
+        int frames
+    ) {
+        SkeletonNormalizer.checkArguments(srcDims, outDims, jointCount);
+
+        int srcFrameSize = jointCount * srcDims;
+        int dstFrameSize = jointCount * outDims;
+
+        for (int frame = 0; frame < frames; frame++) {
+            int in = srcOffset + frame * srcFrameSize;
+            int out = dstOffset + frame * dstFrameSize;
+
+            float scale = shoulderLength(src, in, srcDims, outDims);
+            boolean scaled = scale > MIN_SCALE;
+
+            for (int dim = 0; dim < outDims; dim++) {
+                float ref = hipCenter(src, in, srcDims, dim);
+
+                for (int joint = 0; joint < jointCount; joint++) {
+                    float value = src[in + joint * srcDims + dim] - ref;
+                    dst[out + joint * outDims + dim] = scaled ? value / scale : value;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static float hipCenter(float[] src, int frameOffset, int srcDims, int dim) {
+        return (src[frameOffset + LEFT_HIP * srcDims + dim] + src[frameOffset + RIGHT_HIP * srcDims + dim]) / 2f;
+    }
+
+    // np.linalg.norm(float32 벡터) = sqrt(x·x), float32 누적
+    static float shoulderLength(float[] src, int frameOffset, int srcDims, int outDims) {
+        float sum = 0f;
+        for (int dim = 0; dim < outDims; dim++) {
+            float d = src[frameOffset + LEFT_SHOULDER * srcDims + dim] - src[frameOffset + RIGHT_SHOULDER * srcDims + dim];
+            sum += d * d;
+        }
+        return (float) Math.sqrt(sum);
+    }
+}
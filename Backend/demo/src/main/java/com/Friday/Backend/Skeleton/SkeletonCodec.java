@@ -0,0 +1,337 @@
+package com.Friday.Backend.Skeleton;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// FSK v1
+//   magic "FSK" | version | layout | compression
+//   varint frameCount | varint jointCount | varint dims
+//   joint names (POSITION_OBJECTS) 또는 좌표 이름 (COORDINATE_OBJECTS)
+//   varint payloadLength | payload
+// payload는 (joint, dim) 열 단위로 float 비트의 차분을 zigzag varint로 기록한 뒤 deflate로 압축한다.
+@Component
+public class SkeletonCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte[] MAGIC = { 'F', 'S', 'K' };
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_DEFLATE = 1;
+
+    private final int compressionLevel;
+
+    public SkeletonCodec() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public SkeletonCodec(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return data != null
+            && data.length > MAGIC.length
+            && data[0] == MAGIC[0]
+            && data[1] == MAGIC[1]
+            && data[2] == MAGIC[2];
+    }
+
+    public byte[] encode(SkeletonData data) {
+        return encode(data.getShape(), data.getValues(), 0, data.getFrameCount());
+    }
+
+    public byte[] encode(SkeletonShape shape, float[] values, int fromFrame, int frameCount) {
+        int frameSize = shape.getFrameSize();
+        int base = fromFrame * frameSize;
+
+        ByteSink columns = new ByteSink(frameCount * frameSize * 2 + 16);
+        for (int column = 0; column < frameSize; column++) {
+            int previous = 0;
+            for (int frame = 0; frame < frameCount; frame++) {
+                int bits = Float.floatToRawIntBits(values[base + frame * frameSize + column]);
+                columns.writeVarInt(zigZag(bits - previous));
+                previous = bits;
+            }
+        }
+
+        byte[] payload = deflate(columns.buffer, columns.size);
+        byte compression = COMPRESSION_DEFLATE;
+        if (payload.length >= columns.size) {
+            payload = Arrays.copyOf(columns.buffer, columns.size);
+            compression = COMPRESSION_NONE;
+        }
+
+        ByteSink out = new ByteSink(payload.length + 64);
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(VERSION);
+        out.write((byte) shape.getLayout().getCode());
+        out.write(compression);
+        out.writeVarInt(frameCount);
+        out.writeVarInt(shape.getJointCount());
+        out.writeVarInt(shape.getDims());
+        writeNames(out, shape);
+        out.writeVarInt(columns.size);
+        out.writeVarInt(payload.length);
+        out.write(payload, 0, payload.length);
+
+        return Arrays.copyOf(out.buffer, out.size);
+    }
+
+    public SkeletonData decode(byte[] data) {
+        Header header = readHeader(data);
+
+        byte[] raw;
+        int rawOffset;
+        if (header.compression == COMPRESSION_DEFLATE) {
+            raw = inflate(data, header.payloadOffset, header.payloadLength, header.rawLength);
+            rawOffset = 0;
+        }
+        else if (header.compression == COMPRESSION_NONE) {
+            raw = data;
+            rawOffset = header.payloadOffset;
+        }
+        else {
+            throw new SkeletonFormatException("알 수 없는 압축 방식입니다: " + header.compression);
+        }
+
+        int frameCount = header.frameCount;
+        int frameSize = header.shape.getFrameSize();
+        float[] values = new float[frameCount * frameSize];
+
+        ByteSource columns = new ByteSource(raw, rawOffset);
+        for (int column = 0; column < frameSize; column++) {
+            int previous = 0;
+            for (int frame = 0; frame < frameCount; frame++) {
+                int bits = previous + unZigZag(columns.readVarInt());
+                values[frame * frameSize + column] = Float.intBitsToFloat(bits);
+                previous = bits;
+            }
+        }
+
+        return new SkeletonData(header.shape, frameCount, values);
+    }
+
+    public SkeletonShape readShape(byte[] data) {
+        return readHeader(data).shape;
+    }
+
+    public int readFrameCount(byte[] data) {
+        return readHeader(data).frameCount;
+    }
+
+    // 오름차순 프레임 번호 목록 (미리보기 키프레임): 개수 + 간격 varint
+    public static byte[] encodeIndices(int[] indices) {
+        ByteSink out = new ByteSink(indices.length + 5);
+        out.writeVarInt(indices.length);
+        int previous = 0;
+        for (int index : indices) {
+            out.writeVarInt(index - previous);
+            previous = index;
+        }
+        return Arrays.copyOf(out.buffer, out.size);
+    }
+
+    public static int[] decodeIndices(byte[] data) {
+        ByteSource in = new ByteSource(data, 0);
+        int[] indices = new int[in.readVarInt()];
+        int previous = 0;
+        for (int i = 0; i < indices.length; i++) {
+            previous += in.readVarInt();
+            indices[i] = previous;
+        }
+        return indices;
+    }
+
+    private static Header readHeader(byte[] data) {
+        if (!isEncoded(data)) {
+            throw new SkeletonFormatException("스켈레톤 바이너리 형식이 아닙니다.");
+        }
+        ByteSource in = new ByteSource(data, MAGIC.length);
+
+        byte version = in.read();
+        if (version != VERSION) {
+            throw new SkeletonFormatException("지원하지 않는 스켈레톤 형식 버전입니다: " + version);
+        }
+
+        SkeletonLayout layout = SkeletonLayout.fromCode(in.read());
+        byte compression = in.read();
+        int frameCount = in.readVarInt();
+        int jointCount = in.readVarInt();
+        int dims = in.readVarInt();
+
+        String[] jointNames = layout == SkeletonLayout.POSITION_OBJECTS ? readNames(in, jointCount) : null;
+        String[] dimNames = layout == SkeletonLayout.COORDINATE_OBJECTS ? readNames(in, dims) : null;
+        SkeletonShape shape = new SkeletonShape(layout, jointCount, dims, jointNames, dimNames);
+
+        int rawLength = in.readVarInt();
+        int payloadLength = in.readVarInt();
+        int payloadOffset = in.take(payloadLength);
+
+        return new Header(shape, frameCount, compression, rawLength, payloadLength, payloadOffset);
+    }
+
+    private static void writeNames(ByteSink out, SkeletonShape shape) {
+        String[] names = switch (shape.getLayout()) {
+            case POSITION_OBJECTS -> shape.getJointNames();
+            case COORDINATE_OBJECTS -> shape.getDimNames();
+            case ARRAYS -> new String[0];
+        };
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            out.writeVarInt(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static String[] readNames(ByteSource in, int count) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = in.readVarInt();
+            names[i] = new String(in.data, in.take(length), length, StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private byte[] deflate(byte[] input, int length) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(input, 0, length);
+            deflater.finish();
+
+            byte[] output = new byte[Math.max(64, length / 2)];
+            int size = 0;
+            while (!deflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                size += deflater.deflate(output, size, output.length - size);
+            }
+            return Arrays.copyOf(output, size);
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+
+            byte[] output = new byte[rawLength];
+            int size = 0;
+            while (size < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(output, size, rawLength - size);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                size += n;
+            }
+            if (size != rawLength) {
+                throw new SkeletonFormatException("스켈레톤 데이터 압축 해제에 실패했습니다.");
+            }
+            return output;
+        }
+        catch (DataFormatException e) {
+            throw new SkeletonFormatException("스켈레톤 데이터 압축 해제에 실패했습니다.", e);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    private record Header(
+        SkeletonShape shape,
+        int frameCount,
+        byte compression,
+        int rawLength,
+        int payloadLength,
+        int payloadOffset
+    ) {}
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class ByteSink {
+        private byte[] buffer;
+        private int size;
+
+        ByteSink(int capacity) {
+            this.buffer = new byte[Math.max(16, capacity)];
+        }
+
+        void write(byte b) {
+            ensure(1);
+            buffer[size++] = b;
+        }
+
+        void write(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size + extra, buffer.length * 2));
+            }
+        }
+    }
+
+    private static final class ByteSource {
+        private final byte[] data;
+        private int position;
+
+        ByteSource(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        byte read() {
+            if (position >= data.length) {
+                throw new SkeletonFormatException("스켈레톤 데이터가 잘렸습니다.");
+            }
+            return data[position++];
+        }
+
+        int take(int length) {
+            if (length < 0 || length > data.length - position) {
+                throw new SkeletonFormatException("스켈레톤 데이터가 잘렸습니다.");
+            }
+            int start = position;
+            position += length;
+            return start;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = read();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SkeletonFormatException("잘못된 varint 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.Friday.Backend.Skeleton;
+
+public class SkeletonData {
+
+    private final SkeletonShape shape;
+    private final int frameCount;
+    // frame-major: values[(frame * jointCount + joint) * dims + dim]
+    private final float[] values;
+
+    public SkeletonData(SkeletonShape shape, int frameCount, float[] values) {
+        if (values.length < frameCount * shape.getFrameSize()) {
+            throw new SkeletonFormatException("프레임 버퍼 크기가 부족합니다.");
+        }
+        this.shape = shape;
+        this.frameCount = frameCount;
+        this.values = values;
+    }
+
+    public SkeletonShape getShape() {
+        return shape;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    public float get(int frame, int joint, int dim) {
+        return values[(frame * shape.getJointCount() + joint) * shape.getDims() + dim];
+    }
+}
@@ -0,0 +1,98 @@
+package com.Friday.Backend.Skeleton;
+
+// 미리보기용 키프레임 선택.
+// 프레임마다 관절 속도 변화량(가속도 크기)을 중요도로 보고, 누적 중요도를 같은 간격으로 나눠 뽑는다.
+// 동작이 바뀌는 구간엔 키프레임이 몰리고 멈춰 있는 구간은 듬성듬성해진다.
+// 움직임이 거의 없거나 너무 짧으면 균등 샘플링으로 대신한다.
+public final class SkeletonDecimator {
+
+    // 평균 중요도에 대한 바닥값 비율. 정지 구간도 완전히 비지 않도록 한다.
+    private static final double BASELINE = 0.25;
+
+    private SkeletonDecimator() {
+    }
+
+    public static int[] motionAware(SkeletonData data, int targetFrames) {
+        int frames = data.getFrameCount();
+        if (targetFrames >= frames) {
+            return uniform(frames, frames);
+        }
+        if (frames < 3 || targetFrames < 3) {
+            return uniform(frames, targetFrames);
+        }
+
+        double[] importance = accelerations(data);
+        double total = 0;
+        for (double value : importance) {
+            total += value;
+        }
+        if (!(total > 0) || Double.isInfinite(total)) {
+            return uniform(frames, targetFrames);
+        }
+
+        double floor = total / frames * BASELINE;
+        double[] cumulative = new double[frames];
+        double sum = 0;
+        for (int i = 0; i < frames; i++) {
+            sum += importance[i] + floor;
+            cumulative[i] = sum;
+        }
+
+        // 처음과 끝은 항상 남기고, 나머지는 누적 중요도의 등분점에서 고른다.
+        int[] picked = new int[targetFrames];
+        picked[targetFrames - 1] = frames - 1;
+        int cursor = 0;
+        for (int k = 1; k < targetFrames - 1; k++) {
+            double goal = sum * k / (targetFrames - 1);
+            while (cursor < frames - 1 && cumulative[cursor] < goal) {
+                cursor++;
+            }
+            // 중복 없이 증가하고, 뒤에 남은 자리만큼 프레임을 남겨 둔다.
+            int index = Math.max(cursor, picked[k - 1] + 1);
+            picked[k] = Math.min(index, frames - (targetFrames - k));
+        }
+        return picked;
+    }
+
+    public static int[] uniform(int frames, int targetFrames) {
+        int count = Math.max(1, Math.min(frames, targetFrames));
+        int[] picked = new int[count];
+        if (count == 1) {
+            return picked;
+        }
+        for (int k = 0; k < count; k++) {
+            picked[k] = (int) Math.round((double) k * (frames - 1) / (count - 1));
+        }
+        return picked;
+    }
+
+    public static SkeletonData pick(SkeletonData data, int[] indices) {
+        int frameSize = data.getShape().getFrameSize();
+        float[] values = new float[indices.length * frameSize];
+        for (int i = 0; i < indices.length; i++) {
+            System.arraycopy(data.getValues(), indices[i] * frameSize, values, i * frameSize, frameSize);
+        }
+        return new SkeletonData(data.getShape(), indices.length, values);
+    }
+
+    // |(p[i+1] - p[i]) - (p[i] - p[i-1])|² 를 모든 관절/좌표에 대해 합한 값. 양 끝은 0
+    private static double[] accelerations(SkeletonData data) {
+        int frames = data.getFrameCount();
+        int frameSize = data.getShape().getFrameSize();
+        float[] values = data.getValues();
+        double[] importance = new double[frames];
+
+        for (int i = 1; i < frames - 1; i++) {
+            int previous = (i - 1) * frameSize;
+            int current = i * frameSize;
+            int next = (i + 1) * frameSize;
+            double sum = 0;
+            for (int f = 0; f < frameSize; f++) {
+                double change = values[next + f] - 2.0 * values[current + f] + values[previous + f];
+                sum += change * change;
+            }
+            importance[i] = Math.sqrt(sum);
+        }
+        return importance;
+    }
+}
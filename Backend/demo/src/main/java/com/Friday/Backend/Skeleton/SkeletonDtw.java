@@ -0,0 +1,143 @@
+package com.Friday.Backend.Skeleton;
+
+import java.util.Arrays;
+
+// Sakoe-Chiba 밴드 DTW. 프레임 간 거리는 정규화 좌표의 제곱 유클리드 거리이다.
+// 한 행의 최솟값이 abandonAbove 를 넘으면 끝까지 가도 그보다 작아질 수 없으므로 바로 포기한다.
+// 행 버퍼를 재사용하므로 인스턴스는 스레드마다 하나씩 써야 한다.
+public final class SkeletonDtw {
+
+    private double[] previous = new double[0];
+    private double[] current = new double[0];
+
+    public double distance(
+        float[] a,
+        int aFrames,
+        float[] b,
+        int bFrames,
+        int frameSize,
+        double bandRatio,
+        double abandonAbove
+    ) {
+        return distance(a, 0, aFrames, b, 0, bFrames, frameSize, bandRatio, abandonAbove);
+    }
+
+    public double distance(
+        float[] a,
+        int aStart,
+        int aFrames,
+        float[] b,
+        int bStart,
+        int bFrames,
+        int frameSize,
+        double bandRatio,
+        double abandonAbove
+    ) {
+        if (aFrames == 0 || bFrames == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        ensureCapacity(bFrames);
+
+        int window = Math.max(
+            (int) Math.ceil(bandRatio * Math.max(aFrames, bFrames)),
+            (int) Math.ceil((double) bFrames / aFrames)
+        );
+        double slope = aFrames == 1 ? 0 : (double) (bFrames - 1) / (aFrames - 1);
+
+        int previousLow = 0;
+        int previousHigh = -1;
+
+        for (int i = 0; i < aFrames; i++) {
+            int center = (int) Math.round(i * slope);
+            int low = Math.max(0, center - window);
+            int high = Math.min(bFrames - 1, center + window);
+            double rowMin = Double.POSITIVE_INFINITY;
+            int aOffset = aStart + i * frameSize;
+
+            for (int j = low; j <= high; j++) {
+                double cost = squaredDistance(a, aOffset, b, bStart + j * frameSize, frameSize);
+
+                double best;
+                if (i == 0 && j == 0) {
+                    best = 0;
+                }
+                else {
+                    best = Double.POSITIVE_INFINITY;
+                    if (j >= previousLow && j <= previousHigh) {
+                        best = previous[j];
+                    }
+                    if (j > low) {
+                        best = Math.min(best, current[j - 1]);
+                    }
+                    if (j - 1 >= previousLow && j - 1 <= previousHigh) {
+                        best = Math.min(best, previous[j - 1]);
+                    }
+                }
+
+                double total = cost + best;
+                current[j] = total;
+                if (total < rowMin) {
+                    rowMin = total;
+                }
+            }
+
+            if (rowMin > abandonAbove) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            double[] swap = previous;
+            previous = current;
+            current = swap;
+            previousLow = low;
+            previousHigh = high;
+        }
+
+        return previousHigh == bFrames - 1 ? previous[bFrames - 1] : Double.POSITIVE_INFINITY;
+    }
+
+    public static float squaredDistance(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float s0 = 0f;
+        float s1 = 0f;
+        float s2 = 0f;
+        float s3 = 0f;
+
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            float d0 = a[aOffset + i] - b[bOffset + i];
+            float d1 = a[aOffset + i + 1] - b[bOffset + i + 1];
+            float d2 = a[aOffset + i + 2] - b[bOffset + i + 2];
+            float d3 = a[aOffset + i + 3] - b[bOffset + i + 3];
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+            s2 += d2 * d2;
+            s3 += d3 * d3;
+        }
+        for (; i < length; i++) {
+            float d = a[aOffset + i] - b[bOffset + i];
+            s0 += d * d;
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    // 프레임을 stride 간격으로 건너뛴 새 버퍼 (30fps → stride 3 이면 10fps)
+    public static float[] downsample(float[] values, int frames, int frameSize, int stride) {
+        if (stride <= 1) {
+            return Arrays.copyOf(values, frames * frameSize);
+        }
+        int outFrames = (frames + stride - 1) / stride;
+        float[] out = new float[outFrames * frameSize];
+        for (int frame = 0; frame < outFrames; frame++) {
+            System.arraycopy(values, frame * stride * frameSize, out, frame * frameSize, frameSize);
+        }
+        return out;
+    }
+
+    private void ensureCapacity(int frames) {
+        if (previous.length < frames) {
+            previous = new double[frames];
+            current = new double[frames];
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.Friday.Backend.Skeleton;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// 리틀 엔디언 float32 응답 본문: frame-major 좌표 뒤에 (있으면) 키프레임 번호를 float32 로 잇는다.
+public final class SkeletonFloat32 {
+
+    private SkeletonFloat32() {
+    }
+
+    public static byte[] encode(SkeletonData data, int[] frameIndices) {
+        int valueCount = data.getFrameCount() * data.getShape().getFrameSize();
+
+        ByteBuffer buffer = ByteBuffer
+            .allocate((valueCount + (frameIndices == null ? 0 : frameIndices.length)) * Float.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(data.getValues(), 0, valueCount);
+        if (frameIndices != null) {
+            buffer.position(valueCount * Float.BYTES);
+            for (int index : frameIndices) {
+                buffer.putFloat(index);
+            }
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,12 @@
+package com.Friday.Backend.Skeleton;
+
+public class SkeletonFormatException extends IllegalArgumentException {
+
+    public SkeletonFormatException(String message) {
+        super(message);
+    }
+
+    public SkeletonFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,179 @@
+package com.Friday.Backend.Skeleton;
+
+import javax.imageio.ImageIO;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 목록 화면용 스틱 피겨 이미지. 정면(x, y)으로 투영해 Java2D 로 그린다 (화면이 없는 서버에서도 동작).
+// 여러 프레임이면 cellSize 크기 칸을 columns 개씩 채운 스프라이트 시트가 되고,
+// 모든 칸이 같은 축척을 써서 넘겨 볼 때 인물이 튀지 않는다.
+// 저장 좌표는 y 가 위쪽이다 (클라이언트가 MediaPipe 의 y 를 뒤집어 보낸다).
+public final class SkeletonImageRenderer {
+
+    // 그리는 방식이 바뀌면 올려서 예전 이미지의 content hash 와 겹치지 않게 한다.
+    public static final int VERSION = 1;
+
+    // client/src/renderer/SkeletonConnection.ts 와 같은 연결 (MediaPipe 33 관절 + neck, pelvis, midspine)
+    static final int[][] BONES = {
+        { 11, 12 }, { 11, 13 }, { 13, 15 },
+        { 12, 14 }, { 14, 16 },
+        { 15, 17 }, { 17, 19 }, { 19, 21 },
+        { 16, 18 }, { 18, 20 }, { 20, 22 },
+        { 23, 24 }, { 23, 25 }, { 24, 26 },
+        { 25, 27 }, { 27, 31 }, { 26, 28 }, { 28, 32 },
+        { 27, 29 }, { 29, 31 }, { 28, 30 }, { 30, 32 },
+        { 33, 34 }, { 34, 35 },
+        { 33, 0 }
+    };
+
+    private static final Color BONE_COLOR = new Color(0x00, 0xff, 0x00);
+    private static final Color JOINT_COLOR = new Color(0xff, 0xff, 0xff, 0xc0);
+    private static final double PADDING = 0.08;
+
+    private SkeletonImageRenderer() {
+    }
+
+    public static BufferedImage render(SkeletonData data, int[] frames, int cellSize, int columns) {
+        if (frames.length == 0 || cellSize <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("그릴 프레임과 칸 크기가 필요합니다.");
+        }
+
+        int cols = Math.min(columns, frames.length);
+        int rows = (frames.length + cols - 1) / cols;
+        BufferedImage image = new BufferedImage(cols * cellSize, rows * cellSize, BufferedImage.TYPE_INT_ARGB);
+        if (data.getShape().getDims() < 2) {
+            return image;
+        }
+
+        // 모든 칸에 같은 축척: 그리는 프레임 전체의 (x, y) 경계
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        int joints = data.getShape().getJointCount();
+        for (int frame : frames) {
+            for (int joint = 0; joint < joints; joint++) {
+                float x = data.get(frame, joint, 0);
+                float y = data.get(frame, joint, 1);
+                if (Float.isFinite(x) && Float.isFinite(y)) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (minX > maxX) {
+            return image;
+        }
+
+        double usable = cellSize * (1 - 2 * PADDING);
+        double extent = Math.max(maxX - minX, maxY - minY);
+        double scale = extent > 0 ? usable / extent : 1;
+        double centerX = (minX + maxX) / 2;
+        double centerY = (minY + maxY) / 2;
+        float stroke = Math.max(1.5f, cellSize / 48f);
+        double dot = stroke * 1.6;
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setStroke(new BasicStroke(stroke, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+
+            Line2D.Double line = new Line2D.Double();
+            Ellipse2D.Double circle = new Ellipse2D.Double();
+            for (int cell = 0; cell < frames.length; cell++) {
+                int frame = frames[cell];
+                double originX = (cell % cols) * cellSize + cellSize / 2.0;
+                double originY = (cell / cols) * cellSize + cellSize / 2.0;
+
+                g.setColor(BONE_COLOR);
+                for (int[] bone : BONES) {
+                    if (bone[0] >= joints || bone[1] >= joints) {
+                        continue;
+                    }
+                    float ax = data.get(frame, bone[0], 0), ay = data.get(frame, bone[0], 1);
+                    float bx = data.get(frame, bone[1], 0), by = data.get(frame, bone[1], 1);
+                    if (!Float.isFinite(ax) || !Float.isFinite(ay) || !Float.isFinite(bx) || !Float.isFinite(by)) {
+                        continue;
+                    }
+                    line.setLine(
+                        originX + (ax - centerX) * scale, originY - (ay - centerY) * scale,
+                        originX + (bx - centerX) * scale, originY - (by - centerY) * scale
+                    );
+                    g.draw(line);
+                }
+
+                g.setColor(JOINT_COLOR);
+                for (int joint = 0; joint < joints; joint++) {
+                    float x = data.get(frame, joint, 0), y = data.get(frame, joint, 1);
+                    if (!Float.isFinite(x) || !Float.isFinite(y)) {
+                        continue;
+                    }
+                    circle.setFrame(
+                        originX + (x - centerX) * scale - dot / 2, originY - (y - centerY) * scale - dot / 2,
+                        dot, dot
+                    );
+                    g.fill(circle);
+                }
+            }
+        }
+        finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    public static byte[] toPng(BufferedImage image) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 결과 이미지를 결정하는 입력(그리는 프레임의 x, y 와 칸 배치)만으로 만든 해시.
+    // 같은 동작을 다시 올리면 같은 값이 나오므로 이미 그린 이미지를 다시 쓸 수 있다.
+    public static String contentHash(SkeletonData data, int[] frames, int cellSize, int columns) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        int joints = data.getShape().getJointCount();
+        int dims = Math.min(2, data.getShape().getDims());
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 6)
+            .putInt(VERSION).putInt(cellSize).putInt(columns).putInt(joints).putInt(dims).putInt(frames.length);
+        digest.update(header.array());
+
+        ByteBuffer buffer = ByteBuffer.allocate(joints * dims * Float.BYTES);
+        for (int frame : frames) {
+            buffer.clear();
+            for (int joint = 0; joint < joints; joint++) {
+                for (int dim = 0; dim < dims; dim++) {
+                    buffer.putFloat(data.get(frame, joint, dim));
+                }
+            }
+            digest.update(buffer.array());
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+}
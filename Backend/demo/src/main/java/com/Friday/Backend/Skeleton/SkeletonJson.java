@@ -0,0 +1,120 @@
+package com.Friday.Backend.Skeleton;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+public final class SkeletonJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private SkeletonJson() {}
+
+    public static JsonFactory factory() {
+        return JSON_FACTORY;
+    }
+
+    public static SkeletonData parse(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            SkeletonJsonReader reader = new SkeletonJsonReader(parser);
+
+            SkeletonShape shape = reader.readShape();
+            if (shape == null) {
+                throw new SkeletonFormatException("프레임이 없습니다.");
+            }
+
+            int frameSize = shape.getFrameSize();
+            float[] values = new float[frameSize * 64];
+            int frames = 0;
+
+            while (true) {
+                if (values.length < (frames + 1) * frameSize) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                if (!reader.nextFrame(values, frames * frameSize)) {
+                    break;
+                }
+                frames++;
+            }
+
+            if (parser.nextToken() != null) {
+                throw new SkeletonFormatException("joints 배열 뒤에 불필요한 데이터가 있습니다.");
+            }
+
+            return new SkeletonData(shape, frames, Arrays.copyOf(values, frames * frameSize));
+        }
+        catch (IOException e) {
+            throw new SkeletonFormatException("joints JSON을 해석할 수 없습니다.", e);
+        }
+    }
+
+    public static String toJson(SkeletonData data) {
+        StringWriter writer = new StringWriter(data.getFrameCount() * data.getShape().getFrameSize() * 12 + 2);
+
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            writeFrames(generator, data.getShape(), data.getValues(), 0, data.getFrameCount());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+
+    public static void writeFrames(
+        JsonGenerator generator,
+        SkeletonShape shape,
+        float[] values,
+        int fromFrame,
+        int toFrame
+    ) throws IOException {
+        generator.writeStartArray();
+        for (int frame = fromFrame; frame < toFrame; frame++) {
+            writeFrame(generator, shape, values, frame * shape.getFrameSize());
+        }
+        generator.writeEndArray();
+    }
+
+    public static void writeFrame(JsonGenerator generator, SkeletonShape shape, float[] values, int offset) throws IOException {
+        int jointCount = shape.getJointCount();
+        int dims = shape.getDims();
+
+        generator.writeStartArray();
+        for (int joint = 0; joint < jointCount; joint++) {
+            int base = offset + joint * dims;
+
+            switch (shape.getLayout()) {
+                case ARRAYS -> writeCoordinates(generator, values, base, dims);
+                case POSITION_OBJECTS -> {
+                    generator.writeStartObject();
+                    generator.writeStringField("name", shape.getJointNames()[joint]);
+                    generator.writeFieldName("position");
+                    writeCoordinates(generator, values, base, dims);
+                    generator.writeEndObject();
+                }
+                case COORDINATE_OBJECTS -> {
+                    String[] dimNames = shape.getDimNames();
+                    generator.writeStartObject();
+                    for (int dim = 0; dim < dims; dim++) {
+                        generator.writeNumberField(dimNames[dim], values[base + dim]);
+                    }
+                    generator.writeEndObject();
+                }
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeCoordinates(JsonGenerator generator, float[] values, int base, int dims) throws IOException {
+        generator.writeStartArray();
+        for (int dim = 0; dim < dims; dim++) {
+            generator.writeNumber(values[base + dim]);
+        }
+        generator.writeEndArray();
+    }
+}
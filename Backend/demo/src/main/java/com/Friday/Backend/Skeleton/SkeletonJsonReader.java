@@ -0,0 +1,326 @@
+package com.Friday.Backend.Skeleton;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SkeletonJsonReader {
+
+    private final JsonParser parser;
+    private final SkeletonShape expectedShape;
+
+    private SkeletonShape shape;
+    private float[] pendingFrame;
+    private boolean started;
+    private boolean finished;
+    private int framesRead;
+
+    public SkeletonJsonReader(JsonParser parser) {
+        this(parser, null);
+    }
+
+    public SkeletonJsonReader(JsonParser parser, SkeletonShape expectedShape) {
+        this.parser = parser;
+        this.expectedShape = expectedShape;
+    }
+
+    public SkeletonShape readShape() throws IOException {
+        if (shape != null || finished) {
+            return shape;
+        }
+
+        start();
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            finished = true;
+            return null;
+        }
+        expect(token, JsonToken.START_ARRAY, "프레임은 배열이어야 합니다.");
+
+        readFirstFrame();
+        return shape;
+    }
+
+    public boolean nextFrame(float[] dst, int offset) throws IOException {
+        if (shape == null && readShape() == null) {
+            return false;
+        }
+
+        if (pendingFrame != null) {
+            System.arraycopy(pendingFrame, 0, dst, offset, pendingFrame.length);
+            pendingFrame = null;
+            framesRead++;
+            return true;
+        }
+
+        if (finished) {
+            return false;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            finished = true;
+            return false;
+        }
+        expect(token, JsonToken.START_ARRAY, "프레임은 배열이어야 합니다.");
+
+        readFrame(dst, offset);
+        framesRead++;
+        return true;
+    }
+
+    public int getFramesRead() {
+        return framesRead;
+    }
+
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        expect(token, JsonToken.START_ARRAY, "joints는 프레임 배열이어야 합니다.");
+    }
+
+    private void readFirstFrame() throws IOException {
+        SkeletonLayout layout = null;
+        List<String> jointNames = new ArrayList<>();
+        List<String> dimNames = null;
+        int dims = -1;
+
+        float[] values = new float[128];
+        int size = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            SkeletonLayout jointLayout;
+            String jointName = null;
+            int jointStart = size;
+
+            if (token == JsonToken.START_ARRAY) {
+                jointLayout = SkeletonLayout.ARRAYS;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    values = ensureCapacity(values, size + 1);
+                    values[size++] = readNumber(token);
+                }
+            }
+            else if (token == JsonToken.START_OBJECT) {
+                List<String> fields = new ArrayList<>();
+                boolean hasPosition = false;
+
+                while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+                    String field = parser.currentName();
+                    token = parser.nextToken();
+
+                    if ("name".equals(field) && token == JsonToken.VALUE_STRING) {
+                        jointName = parser.getText();
+                    }
+                    else if ("position".equals(field) && token == JsonToken.START_ARRAY) {
+                        hasPosition = true;
+                        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                            values = ensureCapacity(values, size + 1);
+                            values[size++] = readNumber(token);
+                        }
+                    }
+                    else {
+                        values = ensureCapacity(values, size + 1);
+                        values[size++] = readNumber(token);
+                    }
+                    fields.add(field);
+                }
+
+                if (jointName != null && hasPosition && fields.size() == 2) {
+                    jointLayout = SkeletonLayout.POSITION_OBJECTS;
+                }
+                else if (jointName == null && !hasPosition) {
+                    jointLayout = SkeletonLayout.COORDINATE_OBJECTS;
+                    if (fields.size() > Integer.SIZE) {
+                        throw new SkeletonFormatException("좌표 필드가 너무 많습니다.");
+                    }
+                    if (dimNames == null) {
+                        dimNames = fields;
+                    }
+                    else if (!dimNames.equals(fields)) {
+                        throw new SkeletonFormatException("관절마다 좌표 필드가 다릅니다.");
+                    }
+                }
+                else {
+                    throw new SkeletonFormatException("지원하지 않는 관절 형식입니다.");
+                }
+            }
+            else {
+                throw new SkeletonFormatException("관절은 배열 또는 객체여야 합니다.");
+            }
+
+            if (layout == null) {
+                layout = jointLayout;
+            }
+            else if (layout != jointLayout) {
+                throw new SkeletonFormatException("한 프레임 안에 관절 형식이 섞여 있습니다.");
+            }
+
+            int jointDims = size - jointStart;
+            if (dims == -1) {
+                dims = jointDims;
+            }
+            else if (dims != jointDims) {
+                throw new SkeletonFormatException("관절마다 좌표 차원이 다릅니다.");
+            }
+
+            jointNames.add(jointName);
+        }
+
+        if (layout == null) {
+            throw new SkeletonFormatException("빈 프레임은 허용되지 않습니다.");
+        }
+
+        shape = new SkeletonShape(
+            layout,
+            jointNames.size(),
+            dims,
+            layout == SkeletonLayout.POSITION_OBJECTS ? jointNames.toArray(new String[0]) : null,
+            layout == SkeletonLayout.COORDINATE_OBJECTS ? dimNames.toArray(new String[0]) : null
+        );
+        if (expectedShape != null && !expectedShape.equals(shape)) {
+            throw new SkeletonFormatException("관절 구조가 이전 프레임과 다릅니다.");
+        }
+        pendingFrame = Arrays.copyOf(values, size);
+    }
+
+    private void readFrame(float[] dst, int offset) throws IOException {
+        int jointCount = shape.getJointCount();
+        int dims = shape.getDims();
+        int joint = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (joint >= jointCount) {
+                throw new SkeletonFormatException("프레임 " + framesRead + "의 관절 수가 " + jointCount + "개를 초과합니다.");
+            }
+            int base = offset + joint * dims;
+
+            switch (shape.getLayout()) {
+                case ARRAYS -> {
+                    expect(token, JsonToken.START_ARRAY, "관절은 좌표 배열이어야 합니다.");
+                    readCoordinates(dst, base, dims);
+                }
+                case POSITION_OBJECTS -> {
+                    expect(token, JsonToken.START_OBJECT, "관절은 객체여야 합니다.");
+                    readPositionObject(dst, base, dims, shape.getJointNames()[joint]);
+                }
+                case COORDINATE_OBJECTS -> {
+                    expect(token, JsonToken.START_OBJECT, "관절은 객체여야 합니다.");
+                    readCoordinateObject(dst, base, dims);
+                }
+            }
+            joint++;
+        }
+
+        if (joint != jointCount) {
+            throw new SkeletonFormatException("프레임 " + framesRead + "의 관절 수가 " + jointCount + "개가 아닙니다.");
+        }
+    }
+
+    private void readCoordinates(float[] dst, int base, int dims) throws IOException {
+        int dim = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (dim >= dims) {
+                throw new SkeletonFormatException("좌표 차원이 " + dims + "을 초과합니다.");
+            }
+            dst[base + dim++] = readNumber(token);
+        }
+        if (dim != dims) {
+            throw new SkeletonFormatException("좌표 차원이 " + dims + "이 아닙니다.");
+        }
+    }
+
+    private void readPositionObject(float[] dst, int base, int dims, String expectedName) throws IOException {
+        boolean hasName = false;
+        boolean hasPosition = false;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+            String field = parser.currentName();
+            token = parser.nextToken();
+
+            if ("name".equals(field) && token == JsonToken.VALUE_STRING && !hasName) {
+                if (!expectedName.equals(parser.getText())) {
+                    throw new SkeletonFormatException("관절 순서가 첫 프레임과 다릅니다: " + parser.getText());
+                }
+                hasName = true;
+            }
+            else if ("position".equals(field) && token == JsonToken.START_ARRAY && !hasPosition) {
+                readCoordinates(dst, base, dims);
+                hasPosition = true;
+            }
+            else {
+                throw new SkeletonFormatException("지원하지 않는 관절 필드입니다: " + field);
+            }
+        }
+
+        if (!hasName || !hasPosition) {
+            throw new SkeletonFormatException("관절에 name 또는 position이 없습니다.");
+        }
+    }
+
+    private void readCoordinateObject(float[] dst, int base, int dims) throws IOException {
+        String[] dimNames = shape.getDimNames();
+        int seen = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_OBJECT) {
+            String field = parser.currentName();
+            token = parser.nextToken();
+
+            int dim = indexOf(dimNames, field);
+            if (dim < 0 || (seen & (1 << dim)) != 0) {
+                throw new SkeletonFormatException("지원하지 않는 좌표 필드입니다: " + field);
+            }
+            dst[base + dim] = readNumber(token);
+            seen |= 1 << dim;
+        }
+
+        if (Integer.bitCount(seen) != dims) {
+            throw new SkeletonFormatException("관절 좌표 필드가 누락되었습니다.");
+        }
+    }
+
+    private float readNumber(JsonToken token) throws IOException {
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            throw new SkeletonFormatException("좌표는 숫자여야 합니다.");
+        }
+        return parser.getFloatValue();
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static float[] ensureCapacity(float[] values, int required) {
+        if (required <= values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, Math.max(required, values.length * 2));
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, String message) {
+        if (actual != expected) {
+            throw new SkeletonFormatException(message);
+        }
+    }
+}
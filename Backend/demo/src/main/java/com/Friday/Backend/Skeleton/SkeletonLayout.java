@@ -0,0 +1,29 @@
+package com.Friday.Backend.Skeleton;
+
+public enum SkeletonLayout {
+    // [[{"name": "nose", "position": [x, y, z]}, ...], ...]
+    POSITION_OBJECTS(0),
+    // [[{"x": .., "y": .., "z": ..}, ...], ...]
+    COORDINATE_OBJECTS(1),
+    // [[[x, y, z], ...], ...]
+    ARRAYS(2);
+
+    private final int code;
+
+    SkeletonLayout(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static SkeletonLayout fromCode(int code) {
+        for (SkeletonLayout layout : values()) {
+            if (layout.code == code) {
+                return layout;
+            }
+        }
+        throw new SkeletonFormatException("알 수 없는 스켈레톤 레이아웃입니다: " + code);
+    }
+}
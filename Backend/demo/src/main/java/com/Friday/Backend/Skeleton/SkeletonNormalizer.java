@@ -0,0 +1,57 @@
+package com.Friday.Backend.Skeleton;
+
+// evaluation/normalization.py 의 normalize() 와 같은 계산:
+//   P_ref = (P[23] + P[24]) / 2,  L = |P[11] - P[12]|,  P'' = (P - P_ref) / L  (L <= 1e-6 이면 나누지 않음)
+// numpy float32 연산 순서를 그대로 따르므로 결과가 비트 단위로 같다.
+// 프레임 버퍼는 frame-major [frame][joint][dim] 배열이며, 앞쪽 outDims 개 좌표만 사용한다 (모델 입력은 x, y).
+public interface SkeletonNormalizer {
+
+    int LEFT_SHOULDER = 11;
+    int RIGHT_SHOULDER = 12;
+    int LEFT_HIP = 23;
+    int RIGHT_HIP = 24;
+
+    // normalization.py 의 `L > 1e-6` (파이썬 float 비교)
+    double MIN_SCALE = 1e-6;
+
+    void normalize(
+        float[] src,
+        int srcOffset,
+        int srcDims,
+        float[] dst,
+        int dstOffset,
+        int outDims,
+        int jointCount,
+        int frames
+    );
+
+    String name();
+
+    // Vector API 구현은 -Pvector 로 빌드했고(클래스가 있음) 실행 시 jdk.incubator.vector 모듈이 로드된 경우에만 쓴다.
+    // 기본 빌드에는 클래스가 없으므로 이름으로 찾는다.
+    static SkeletonNormalizer create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (SkeletonNormalizer) Class.forName("com.Friday.Backend.Skeleton.VectorSkeletonNormalizer")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            }
+            catch (ClassNotFoundException e) {
+                // -Pvector 없이 빌드됨
+            }
+            catch (ReflectiveOperationException | LinkageError e) {
+                System.err.println("Vector API를 사용할 수 없어 스칼라 정규화를 사용합니다: " + e);
+            }
+        }
+        return new ScalarSkeletonNormalizer();
+    }
+
+    static void checkArguments(int srcDims, int outDims, int jointCount) {
+        if (jointCount <= RIGHT_HIP) {
+            throw new SkeletonFormatException("정규화에는 최소 " + (RIGHT_HIP + 1) + "개의 관절이 필요합니다.");
+        }
+        if (outDims <= 0 || outDims > srcDims) {
+            throw new SkeletonFormatException("정규화 좌표 차원이 올바르지 않습니다: " + outDims);
+        }
+    }
+}
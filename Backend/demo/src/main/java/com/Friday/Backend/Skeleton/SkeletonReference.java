@@ -0,0 +1,39 @@
+package com.Friday.Backend.Skeleton;
+
+// 채점 기준 동작: 정규화 + 다운샘플된 frame-major 좌표
+public class SkeletonReference {
+
+    private final String name;
+    private final int jointCount;
+    private final int frameSize;
+    private final int frameCount;
+    private final float[] values;
+
+    public SkeletonReference(String name, int jointCount, int frameSize, int frameCount, float[] values) {
+        this.name = name;
+        this.jointCount = jointCount;
+        this.frameSize = frameSize;
+        this.frameCount = frameCount;
+        this.values = values;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getJointCount() {
+        return jointCount;
+    }
+
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,80 @@
+package com.Friday.Backend.Skeleton;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 프레임 단위 고정 크기 링 버퍼. 쓰는 쪽(WebSocket 수신)과 읽는 쪽(flush 작업)이 서로 다른 스레드다.
+public class SkeletonRingBuffer {
+
+    private final float[] data;
+    private final int frameSize;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int head;
+    private int size;
+
+    public SkeletonRingBuffer(int capacityFrames, int frameSize) {
+        this.data = new float[capacityFrames * frameSize];
+        this.frameSize = frameSize;
+        this.capacity = capacityFrames;
+    }
+
+    // 전부 들어갈 자리가 없으면 아무것도 넣지 않고 false를 돌려준다.
+    public boolean offer(FloatBuffer src, int frames) {
+        lock.lock();
+        try {
+            if (size + frames > capacity) {
+                return false;
+            }
+
+            int tail = (head + size) % capacity;
+            int first = Math.min(frames, capacity - tail);
+            src.get(data, tail * frameSize, first * frameSize);
+            if (first < frames) {
+                src.get(data, 0, (frames - first) * frameSize);
+            }
+            size += frames;
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int drain(float[] dst, int maxFrames) {
+        lock.lock();
+        try {
+            int frames = Math.min(size, maxFrames);
+            int first = Math.min(frames, capacity - head);
+            System.arraycopy(data, head * frameSize, dst, 0, first * frameSize);
+            if (first < frames) {
+                System.arraycopy(data, 0, dst, first * frameSize, (frames - first) * frameSize);
+            }
+            head = (head + frames) % capacity;
+            size -= frames;
+            return frames;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int frameSize() {
+        return frameSize;
+    }
+}
@@ -0,0 +1,121 @@
+package com.Friday.Backend.Skeleton;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 스켈레톤 조회 범위: [fromFrame, toFrame) 프레임과 관절 목록(이름 또는 인덱스, null 이면 전체)
+public class SkeletonSelection {
+
+    private static final SkeletonSelection ALL = new SkeletonSelection(0, Integer.MAX_VALUE, null);
+
+    private final int fromFrame;
+    private final int toFrame;
+    private final List<String> joints;
+
+    public SkeletonSelection(int fromFrame, int toFrame, List<String> joints) {
+        if (fromFrame < 0 || toFrame < fromFrame) {
+            throw new SkeletonFormatException("프레임 범위가 올바르지 않습니다.");
+        }
+        this.fromFrame = fromFrame;
+        this.toFrame = toFrame;
+        this.joints = joints == null || joints.isEmpty() ? null : List.copyOf(joints);
+    }
+
+    public static SkeletonSelection all() {
+        return ALL;
+    }
+
+    public int getFromFrame() {
+        return fromFrame;
+    }
+
+    public int getToFrame() {
+        return toFrame;
+    }
+
+    public List<String> getJoints() {
+        return joints;
+    }
+
+    public boolean isAll() {
+        return isFullRange() && joints == null;
+    }
+
+    public boolean isFullRange() {
+        return fromFrame == 0 && toFrame == Integer.MAX_VALUE;
+    }
+
+    // 선택한 관절의 인덱스. 전체면 null
+    public int[] jointIndices(SkeletonShape shape) {
+        if (joints == null) {
+            return null;
+        }
+
+        int[] indices = new int[joints.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = jointIndex(shape, joints.get(i).trim());
+        }
+        return indices;
+    }
+
+    public static SkeletonShape project(SkeletonShape shape, int[] indices) {
+        if (indices == null) {
+            return shape;
+        }
+
+        String[] names = null;
+        if (shape.getJointNames() != null) {
+            names = new String[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                names[i] = shape.getJointNames()[indices[i]];
+            }
+        }
+        return new SkeletonShape(shape.getLayout(), indices.length, shape.getDims(), names, shape.getDimNames());
+    }
+
+    // 한 프레임에서 선택한 관절만 dst 앞쪽으로 모은다.
+    public static void copyJoints(float[] values, int offset, SkeletonShape shape, int[] indices, float[] dst) {
+        int dims = shape.getDims();
+        for (int i = 0; i < indices.length; i++) {
+            System.arraycopy(values, offset + indices[i] * dims, dst, i * dims, dims);
+        }
+    }
+
+    // 모든 프레임에 관절 선택을 적용한 새 데이터. indices 가 null 이면 그대로
+    public static SkeletonData project(SkeletonData data, int[] indices) {
+        if (indices == null) {
+            return data;
+        }
+
+        SkeletonShape shape = data.getShape();
+        SkeletonShape projected = project(shape, indices);
+        int frameSize = shape.getFrameSize();
+        float[] values = new float[data.getFrameCount() * projected.getFrameSize()];
+        float[] scratch = new float[projected.getFrameSize()];
+        for (int frame = 0; frame < data.getFrameCount(); frame++) {
+            copyJoints(data.getValues(), frame * frameSize, shape, indices, scratch);
+            System.arraycopy(scratch, 0, values, frame * scratch.length, scratch.length);
+        }
+        return new SkeletonData(projected, data.getFrameCount(), values);
+    }
+
+    private static int jointIndex(SkeletonShape shape, String joint) {
+        String[] names = shape.getJointNames();
+        if (names != null) {
+            int index = Arrays.asList(names).indexOf(joint);
+            if (index >= 0) {
+                return index;
+            }
+        }
+
+        try {
+            int index = Integer.parseInt(joint);
+            if (index >= 0 && index < shape.getJointCount()) {
+                return index;
+            }
+        }
+        catch (NumberFormatException ignored) {
+        }
+        throw new SkeletonFormatException("알 수 없는 관절입니다: " + joint);
+    }
+}
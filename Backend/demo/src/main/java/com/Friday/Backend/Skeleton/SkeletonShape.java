@@ -0,0 +1,78 @@
+package com.Friday.Backend.Skeleton;
+
+import java.util.Arrays;
+
+public class SkeletonShape {
+
+    private final SkeletonLayout layout;
+    private final int jointCount;
+    private final int dims;
+    private final String[] jointNames;
+    private final String[] dimNames;
+
+    public SkeletonShape(SkeletonLayout layout, int jointCount, int dims, String[] jointNames, String[] dimNames) {
+        if (jointCount <= 0 || dims <= 0) {
+            throw new SkeletonFormatException("관절 수와 좌표 차원은 1 이상이어야 합니다.");
+        }
+        if (layout == SkeletonLayout.POSITION_OBJECTS && (jointNames == null || jointNames.length != jointCount)) {
+            throw new SkeletonFormatException("관절 이름 수가 관절 수와 일치하지 않습니다.");
+        }
+        if (layout == SkeletonLayout.COORDINATE_OBJECTS && (dimNames == null || dimNames.length != dims)) {
+            throw new SkeletonFormatException("좌표 이름 수가 좌표 차원과 일치하지 않습니다.");
+        }
+        this.layout = layout;
+        this.jointCount = jointCount;
+        this.dims = dims;
+        this.jointNames = jointNames;
+        this.dimNames = dimNames;
+    }
+
+    public SkeletonLayout getLayout() {
+        return layout;
+    }
+
+    public int getJointCount() {
+        return jointCount;
+    }
+
+    public int getDims() {
+        return dims;
+    }
+
+    public int getFrameSize() {
+        return jointCount * dims;
+    }
+
+    public String[] getJointNames() {
+        return jointNames;
+    }
+
+    public String[] getDimNames() {
+        return dimNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SkeletonShape other)) {
+            return false;
+        }
+        return layout == other.layout
+            && jointCount == other.jointCount
+            && dims == other.dims
+            && Arrays.equals(jointNames, other.jointNames)
+            && Arrays.equals(dimNames, other.dimNames);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = layout.hashCode();
+        result = 31 * result + jointCount;
+        result = 31 * result + dims;
+        result = 31 * result + Arrays.hashCode(jointNames);
+        result = 31 * result + Arrays.hashCode(dimNames);
+        return result;
+    }
+}
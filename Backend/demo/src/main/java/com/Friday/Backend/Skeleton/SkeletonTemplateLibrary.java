@@ -0,0 +1,183 @@
+package com.Friday.Backend.Skeleton;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 기준 동작 묶음의 불변 스냅샷. 다시 읽을 때는 새 인스턴스를 만들어 통째로 바꾼다.
+// 분류용으로 모든 템플릿을 같은 길이(classifyFrames)로 리샘플해 하나의 float[] 에 이어 붙이고,
+// LB_Keogh 하한 계산에 쓸 위/아래 포락선도 같은 배치로 미리 만들어 둔다.
+public final class SkeletonTemplateLibrary {
+
+    private final Map<String, SkeletonReference> references;
+    private final String[] names;
+    private final int frameSize;
+    private final int classifyFrames;
+    private final double bandRatio;
+    private final int window;
+    private final float[] series;
+    private final float[] upper;
+    private final float[] lower;
+
+    public SkeletonTemplateLibrary(Map<String, SkeletonReference> references, int classifyFrames, double bandRatio) {
+        this.references = Collections.unmodifiableMap(new LinkedHashMap<>(references));
+        this.names = this.references.keySet().toArray(new String[0]);
+        this.classifyFrames = classifyFrames;
+        this.bandRatio = bandRatio;
+        this.window = Math.max(1, (int) Math.ceil(bandRatio * classifyFrames));
+
+        int size = 0;
+        for (SkeletonReference reference : this.references.values()) {
+            if (size == 0) {
+                size = reference.getFrameSize();
+            }
+            else if (size != reference.getFrameSize()) {
+                throw new SkeletonFormatException("기준 동작마다 관절 구성이 다릅니다: " + reference.getName());
+            }
+        }
+        this.frameSize = size;
+
+        int length = classifyFrames * frameSize;
+        this.series = new float[names.length * length];
+        this.upper = new float[names.length * length];
+        this.lower = new float[names.length * length];
+
+        for (int t = 0; t < names.length; t++) {
+            SkeletonReference reference = this.references.get(names[t]);
+            float[] resampled = resample(reference.getValues(), reference.getFrameCount(), frameSize, classifyFrames);
+            System.arraycopy(resampled, 0, series, t * length, length);
+            buildEnvelope(t * length);
+        }
+    }
+
+    public static SkeletonTemplateLibrary empty() {
+        return new SkeletonTemplateLibrary(Map.of(), 1, 0.1);
+    }
+
+    public SkeletonReference get(String name) {
+        return references.get(name);
+    }
+
+    public Collection<SkeletonReference> getAll() {
+        return references.values();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public int getClassifyFrames() {
+        return classifyFrames;
+    }
+
+    // 하한이 작은 템플릿부터 DTW 를 돌리고, 하한이 지금까지의 최솟값 이상이면 DTW 를 건너뛴다.
+    // query 는 정확히 queryFrames 프레임이어야 한다. 관절이 더 많은 질의도 길이가 맞지 않아 거부된다.
+    public Classification classify(float[] query, int queryFrames, SkeletonDtw dtw) {
+        if (names.length == 0) {
+            return null;
+        }
+        if (queryFrames == 0 || query.length != queryFrames * frameSize) {
+            throw new SkeletonFormatException("분류할 프레임이 없거나 관절 구성이 다릅니다.");
+        }
+
+        float[] resampled = resample(query, queryFrames, frameSize, classifyFrames);
+        int length = classifyFrames * frameSize;
+
+        double[] bounds = new double[names.length];
+        Integer[] order = new Integer[names.length];
+        for (int t = 0; t < names.length; t++) {
+            bounds[t] = lbKeogh(resampled, t * length, length);
+            order[t] = t;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(bounds[x], bounds[y]));
+
+        double best = Double.POSITIVE_INFINITY;
+        int bestIndex = -1;
+        int pruned = 0;
+        int abandoned = 0;
+
+        for (int t : order) {
+            if (bounds[t] >= best) {
+                pruned++;
+                continue;
+            }
+            double distance = dtw.distance(
+                resampled, 0, classifyFrames,
+                series, t * length, classifyFrames,
+                frameSize, bandRatio, best
+            );
+            if (distance == Double.POSITIVE_INFINITY) {
+                abandoned++;
+            }
+            else if (distance < best) {
+                best = distance;
+                bestIndex = t;
+            }
+        }
+
+        return new Classification(names[bestIndex], best / classifyFrames, names.length, pruned, abandoned);
+    }
+
+    private double lbKeogh(float[] query, int templateOffset, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            float q = query[i];
+            float u = upper[templateOffset + i];
+            float l = lower[templateOffset + i];
+            if (q > u) {
+                sum += (q - u) * (q - u);
+            }
+            else if (q < l) {
+                sum += (l - q) * (l - q);
+            }
+        }
+        return sum;
+    }
+
+    private void buildEnvelope(int offset) {
+        for (int i = 0; i < classifyFrames; i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(classifyFrames - 1, i + window);
+            for (int f = 0; f < frameSize; f++) {
+                float max = Float.NEGATIVE_INFINITY;
+                float min = Float.POSITIVE_INFINITY;
+                for (int j = from; j <= to; j++) {
+                    float value = series[offset + j * frameSize + f];
+                    max = Math.max(max, value);
+                    min = Math.min(min, value);
+                }
+                upper[offset + i * frameSize + f] = max;
+                lower[offset + i * frameSize + f] = min;
+            }
+        }
+    }
+
+    // 선형 보간으로 frames → targetFrames 리샘플
+    public static float[] resample(float[] values, int frames, int frameSize, int targetFrames) {
+        float[] out = new float[targetFrames * frameSize];
+        if (frames == 1 || targetFrames == 1) {
+            for (int frame = 0; frame < targetFrames; frame++) {
+                System.arraycopy(values, 0, out, frame * frameSize, frameSize);
+            }
+            return out;
+        }
+
+        double step = (double) (frames - 1) / (targetFrames - 1);
+        for (int frame = 0; frame < targetFrames; frame++) {
+            double position = frame * step;
+            int left = Math.min(frames - 2, (int) position);
+            float weight = (float) (position - left);
+            int leftOffset = left * frameSize;
+            int rightOffset = leftOffset + frameSize;
+            int outOffset = frame * frameSize;
+            for (int f = 0; f < frameSize; f++) {
+                out[outOffset + f] = values[leftOffset + f] + (values[rightOffset + f] - values[leftOffset + f]) * weight;
+            }
+        }
+        return out;
+    }
+
+    public record Classification(String name, double distance, int candidates, int pruned, int abandoned) {}
+}
@@ -0,0 +1,34 @@
+package com.Friday.Backend.Skeleton;
+
+// 조회 결과: 선택 구간의 프레임과 원본 기준 위치 정보
+public class SkeletonView {
+
+    private final SkeletonData data;
+    private final int startFrame;
+    private final Integer totalFrames;
+    // lod 미리보기일 때 각 프레임의 원본 프레임 번호, 원본이면 null
+    private final int[] frameIndices;
+
+    public SkeletonView(SkeletonData data, int startFrame, Integer totalFrames, int[] frameIndices) {
+        this.data = data;
+        this.startFrame = startFrame;
+        this.totalFrames = totalFrames;
+        this.frameIndices = frameIndices;
+    }
+
+    public SkeletonData getData() {
+        return data;
+    }
+
+    public int getStartFrame() {
+        return startFrame;
+    }
+
+    public Integer getTotalFrames() {
+        return totalFrames;
+    }
+
+    public int[] getFrameIndices() {
+        return frameIndices;
+    }
+}
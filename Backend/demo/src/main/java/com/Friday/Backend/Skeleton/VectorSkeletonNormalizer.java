@@ -0,0 +1,73 @@
+package com.Friday.Backend.Skeleton;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// 한 프레임의 [joint][dim] 구간은 연속이므로 (P - P_ref) / L 을 레인 단위로 계산한다.
+// 레인 수가 dims 의 배수가 아닐 수 있어 P_ref 패턴을 (lanes + dims) 길이로 펼쳐 두고 위상만 바꿔 읽는다.
+// 뺄셈과 나눗셈은 레인별 IEEE 연산이라 스칼라 구현과 결과가 같다.
+public class VectorSkeletonNormalizer implements SkeletonNormalizer {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private final ScalarSkeletonNormalizer fallback = new ScalarSkeletonNormalizer();
+
+    @Override
+    public void normalize(
+        float[] src,
+        int srcOffset,
+        int srcDims,
+        float[] dst,
+        int dstOffset,
+        int outDims,
+        int jointCount,
+        int frames
+    ) {
+        // x, y 만 골라내는 경우는 연속 구간이 아니므로 스칼라 구현을 쓴다.
+        if (srcDims != outDims) {
+            fallback.normalize(src, srcOffset, srcDims, dst, dstOffset, outDims, jointCount, frames);
+            return;
+        }
+        SkeletonNormalizer.checkArguments(srcDims, outDims, jointCount);
+
+        int dims = srcDims;
+        int frameSize = jointCount * dims;
+        int lanes = SPECIES.length();
+        int upper = SPECIES.loopBound(frameSize);
+        float[] pattern = new float[lanes + dims];
+
+        for (int frame = 0; frame < frames; frame++) {
+            int in = srcOffset + frame * frameSize;
+            int out = dstOffset + frame * frameSize;
+
+            float scale = ScalarSkeletonNormalizer.shoulderLength(src, in, dims, dims);
+            boolean scaled = scale > MIN_SCALE;
+
+            for (int d = 0; d < dims; d++) {
+                pattern[d] = ScalarSkeletonNormalizer.hipCenter(src, in, dims, d);
+            }
+            for (int p = dims; p < pattern.length; p++) {
+                pattern[p] = pattern[p - dims];
+            }
+
+            int i = 0;
+            for (; i < upper; i += lanes) {
+                FloatVector ref = FloatVector.fromArray(SPECIES, pattern, i % dims);
+                FloatVector value = FloatVector.fromArray(SPECIES, src, in + i).sub(ref);
+                if (scaled) {
+                    value = value.div(scale);
+                }
+                value.intoArray(dst, out + i);
+            }
+            for (; i < frameSize; i++) {
+                float value = src[in + i] - pattern[i % dims];
+                dst[out + i] = scaled ? value / scale : value;
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length();
+    }
+}
@@ -0,0 +1,124 @@
+package com.Friday.Backend.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Service.EstimateService;
+import com.Friday.Backend.Service.UploadService;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "etag-user")
+class ConditionalRequestTest {
+
+    private static final String JOINTS = "[[[1.0,2.0],[3.0,4.0]],[[5.0,6.0],[7.0,8.0]]]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private EstimateService estimateService;
+
+    @Test
+    void skeletonRevalidatesWithNotModified() throws Exception {
+        Video video = uploadService.uploadSkeleton("etag-user", "태극1장", JOINTS);
+        String url = "/api/skeleton/videos/" + video.getVideoId();
+
+        String etag = mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        // 다른 구간이나 형식은 다른 표현이므로 ETag 도 달라야 한다.
+        mockMvc.perform(get(url).param("from", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get(url).accept(GetController.FLOAT32_MEDIA_TYPE).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void skeletonImagesAreImmutableAndRevalidateByContentHash() throws Exception {
+        Video video = uploadService.uploadSkeleton("etag-user", "태극4장", JOINTS);
+        String url = "/api/skeleton/videos/" + video.getVideoId();
+
+        String etag = mockMvc.perform(get(url + "/thumbnail"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.IMAGE_PNG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(url + "/thumbnail").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get(url + "/sprite"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.IMAGE_PNG))
+            .andExpect(header().string("X-Sprite-Cell-Size", "96"))
+            .andExpect(header().exists("X-Sprite-Frames"));
+
+        // 같은 동작을 다시 올리면 같은 이미지다.
+        Video again = uploadService.uploadSkeleton("etag-user", "태극4장 다시", JOINTS);
+        mockMvc.perform(get("/api/skeleton/videos/" + again.getVideoId() + "/thumbnail"))
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(get("/api/skeleton/videos/none/thumbnail"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void missingSkeletonIsNotFoundEvenWithWildcard() throws Exception {
+        mockMvc.perform(get("/api/skeleton/videos/none").header(HttpHeaders.IF_NONE_MATCH, "*"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void videoListETagChangesOnUploadAndScore() throws Exception {
+        Video video = uploadService.uploadSkeleton("etag-user", "태극2장", JOINTS);
+
+        String first = mockMvc.perform(get("/api/videos"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.IF_NONE_MATCH, first))
+            .andExpect(status().isNotModified());
+
+        estimateService.saveScore("etag-user", video.getVideoId(), "87");
+
+        String second = mockMvc.perform(get("/api/videos").header(HttpHeaders.IF_NONE_MATCH, first))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(first, second);
+
+        uploadService.uploadSkeleton("etag-user", "태극3장", JOINTS);
+
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.IF_NONE_MATCH, second))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,111 @@
+package com.Friday.Backend.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Service.UploadService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "format-user")
+class SkeletonContentNegotiationTest {
+
+    private static final String JOINTS = "[[[1.0,2.0],[3.0,4.0]],[[5.0,6.0],[7.0,8.0]],[[9.0,10.0],[11.0,12.0]]]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Test
+    void jsonStaysDefault() throws Exception {
+        Video video = uploadService.uploadSkeleton("format-user", "태극1장", JOINTS);
+
+        mockMvc.perform(get("/api/skeleton/videos/" + video.getVideoId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.joints").value(JOINTS));
+
+        mockMvc.perform(get("/api/skeleton/videos/" + video.getVideoId()).accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void float32BufferIsLittleEndianFrameMajor() throws Exception {
+        Video video = uploadService.uploadSkeleton("format-user", "태극2장", JOINTS);
+
+        MvcResult result = mockMvc.perform(get("/api/skeleton/videos/" + video.getVideoId())
+                .param("from", "1")
+                .param("joints", "1")
+                .accept(GetController.FLOAT32_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Skeleton-Frame-Count", "2"))
+            .andExpect(header().string("X-Skeleton-Joint-Count", "1"))
+            .andExpect(header().string("X-Skeleton-Dims", "2"))
+            .andReturn();
+
+        float[] values = new float[4];
+        ByteBuffer.wrap(result.getResponse().getContentAsByteArray())
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asFloatBuffer()
+            .get(values);
+        assertArrayEquals(new float[] { 7f, 8f, 11f, 12f }, values);
+    }
+
+    @Test
+    void smileAndCborCarryNumericArrays() throws Exception {
+        Video video = uploadService.uploadSkeleton("format-user", "태극3장", JOINTS);
+
+        for (String mediaType : new String[] { GetController.SMILE_MEDIA_TYPE, MediaType.APPLICATION_CBOR_VALUE }) {
+            byte[] body = mockMvc.perform(get("/api/skeleton/videos/" + video.getVideoId()).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+            ObjectMapper mapper = new ObjectMapper(
+                mediaType.equals(GetController.SMILE_MEDIA_TYPE) ? new SmileFactory() : new CBORFactory()
+            );
+            JsonNode frames = mapper.readTree(body);
+            assertEquals(3, frames.get("frameCount").asInt());
+            assertEquals(12, frames.get("values").size());
+            assertEquals(12.0, frames.get("values").get(11).asDouble());
+        }
+    }
+
+    @Test
+    void videoListSupportsCbor() throws Exception {
+        uploadService.uploadSkeleton("format-user", "태극4장", JOINTS);
+
+        mockMvc.perform(get("/api/videos").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+}
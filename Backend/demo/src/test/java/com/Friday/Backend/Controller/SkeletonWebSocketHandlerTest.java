@@ -0,0 +1,162 @@
+package com.Friday.Backend.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.Friday.Backend.Domain.db.UploadSession;
+import com.Friday.Backend.Security.JwtHandshakeInterceptor;
+import com.Friday.Backend.Security.JwtTokenProvider;
+import com.Friday.Backend.Service.UploadService;
+import com.Friday.Backend.Service.UploadSessionService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = { "skeleton.ws.buffer-frames=8", "skeleton.ws.flush-frames=4" }
+)
+@ActiveProfiles("test")
+class SkeletonWebSocketHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UploadSessionService uploadSessionService;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Test
+    void streamsFramesAndCommits() throws Exception {
+        String userId = "ws-user";
+        UploadSession uploadSession = uploadSessionService.openSession(userId, "태극1장", ".mp4");
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        URI url = URI.create("ws://localhost:" + port + "/ws/skeleton?sessionId=" + uploadSession.getSessionId());
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol(List.of(
+            JwtHandshakeInterceptor.SUBPROTOCOL,
+            JwtHandshakeInterceptor.TOKEN_SUBPROTOCOL_PREFIX + jwtTokenProvider.createToken(userId)
+        ));
+
+        WebSocketSession session = new StandardWebSocketClient()
+            .execute(new TextWebSocketHandler() {
+                @Override
+                protected void handleTextMessage(WebSocketSession s, TextMessage message) {
+                    messages.add(message.getPayload());
+                }
+            }, headers, url)
+            .get(5, TimeUnit.SECONDS);
+        // 토큰이 실린 서브프로토콜은 돌려주지 않는다.
+        assertEquals(JwtHandshakeInterceptor.SUBPROTOCOL, session.getAcceptedProtocol());
+
+        session.sendMessage(new TextMessage("{\"type\":\"shape\",\"jointCount\":1,\"dims\":2}"));
+        assertTrue(next(messages).contains("\"ready\""));
+
+        ByteBuffer frames = ByteBuffer.allocate(6 * 2 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 6; i++) {
+            frames.putFloat(i).putFloat(i + 0.5f);
+        }
+        session.sendMessage(new BinaryMessage(frames.flip()));
+        session.sendMessage(new TextMessage("{\"type\":\"commit\"}"));
+
+        String message;
+        do {
+            message = next(messages);
+        } while (!message.contains("\"committed\""));
+        session.close();
+
+        assertTrue(message.contains("\"frameCount\":6"));
+        String videoId = new ObjectMapper().readTree(message).get("videoId").asText();
+        assertEquals(
+            "[[[0.0,0.5]],[[1.0,1.5]],[[2.0,2.5]],[[3.0,3.5]],[[4.0,4.5]],[[5.0,5.5]]]",
+            uploadService.getSkeleton(userId, videoId).getJoints()
+        );
+    }
+
+    // 버퍼를 잡기 전에 관절 수를 확인해서 큰 shape 메시지 하나로 힙을 다 쓰지 못하게 한다.
+    @Test
+    void rejectsOversizedShape() throws Exception {
+        String userId = "ws-shape-user";
+        UploadSession uploadSession = uploadSessionService.openSession(userId, "태극3장", ".mp4");
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        CompletableFuture<CloseStatus> closed = new CompletableFuture<>();
+        URI url = URI.create("ws://localhost:" + port + "/ws/skeleton?sessionId=" + uploadSession.getSessionId());
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol(List.of(
+            JwtHandshakeInterceptor.SUBPROTOCOL,
+            JwtHandshakeInterceptor.TOKEN_SUBPROTOCOL_PREFIX + jwtTokenProvider.createToken(userId)
+        ));
+
+        WebSocketSession session = new StandardWebSocketClient()
+            .execute(new TextWebSocketHandler() {
+                @Override
+                protected void handleTextMessage(WebSocketSession s, TextMessage message) {
+                    messages.add(message.getPayload());
+                }
+
+                @Override
+                public void afterConnectionClosed(WebSocketSession s, CloseStatus status) {
+                    closed.complete(status);
+                }
+            }, headers, url)
+            .get(5, TimeUnit.SECONDS);
+
+        session.sendMessage(new TextMessage("{\"type\":\"shape\",\"jointCount\":100000,\"dims\":3}"));
+
+        assertTrue(next(messages).contains("\"error\""));
+        assertEquals(CloseStatus.BAD_DATA.getCode(), closed.get(5, TimeUnit.SECONDS).getCode());
+        assertNull(uploadSessionService.getSession(userId, uploadSession.getSessionId()).getShapeHeader());
+    }
+
+    // 접근 로그에 남는 쿼리 문자열 토큰은 받지 않는다.
+    @Test
+    void rejectsQueryStringToken() throws Exception {
+        String userId = "ws-query-user";
+        UploadSession uploadSession = uploadSessionService.openSession(userId, "태극2장", ".mp4");
+        String url = "ws://localhost:" + port + "/ws/skeleton?sessionId=" + uploadSession.getSessionId()
+            + "&token=" + jwtTokenProvider.createToken(userId);
+
+        assertThrows(ExecutionException.class, () -> new StandardWebSocketClient()
+            .execute(new TextWebSocketHandler(), url)
+            .get(5, TimeUnit.SECONDS));
+    }
+
+    private static String next(BlockingQueue<String> messages) throws InterruptedException {
+        String message = messages.poll(5, TimeUnit.SECONDS);
+        if (message == null) {
+            throw new AssertionError("WebSocket 응답이 없습니다.");
+        }
+        return message;
+    }
+}
@@ -0,0 +1,104 @@
+package com.Friday.Backend.Security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Friday.Backend.Service.TokenRevocationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationTest {
+
+    private static final String PASSWORD = "Relogin1!pass";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void verifiedTokenIsReusedUntilRevoked() {
+        String token = jwtTokenProvider.createToken("jwt-user");
+
+        VerifiedToken first = jwtTokenProvider.verify(token);
+        assertEquals("jwt-user", first.userId());
+        assertSame(first, jwtTokenProvider.verify(token));
+
+        tokenRevocationService.revoke("jwt-user");
+        assertNull(jwtTokenProvider.verify(token));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtTokenProvider.createToken("jwt-user2");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(jwtTokenProvider.verify(tampered));
+        assertNull(jwtTokenProvider.verify("not-a-jwt"));
+    }
+
+    // 사용자 행이 없어도 토큰만으로 인증되고, 로그아웃하면 같은 토큰이 거부된다.
+    @Test
+    void logoutRevokesTokensWithoutUserLookup() throws Exception {
+        String bearer = "Bearer " + jwtTokenProvider.createToken("jwt-no-row-user");
+
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.AUTHORIZATION, bearer))
+            .andExpect(status().isUnauthorized());
+    }
+
+    // 로그아웃 직후(같은 초 안) 다시 로그인해 받은 토큰은 유효하고, 이전 토큰만 거부된다.
+    @Test
+    void loginRightAfterLogoutIsAccepted() throws Exception {
+        mockMvc.perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"jwt-relogin-user\",\"password\":\"" + PASSWORD + "\",\"email\":\"relogin@test.local\"}"))
+            .andExpect(status().isOk());
+        String old = "Bearer " + login("jwt-relogin-user");
+
+        // 로그아웃과 재로그인이 같은 초에 일어나도록 초가 막 바뀐 때에 맞춘다.
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000);
+        mockMvc.perform(post("/auth/logout").header(HttpHeaders.AUTHORIZATION, old))
+            .andExpect(status().isNoContent());
+        String fresh = "Bearer " + login("jwt-relogin-user");
+
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.AUTHORIZATION, fresh))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/videos").header(HttpHeaders.AUTHORIZATION, old))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private String login(String userId) throws Exception {
+        String body = mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + userId + "\",\"password\":\"" + PASSWORD + "\"}"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+}
@@ -0,0 +1,107 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.Friday.Backend.Domain.db.User;
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Domain.repository.UserRepository;
+import com.Friday.Backend.Domain.repository.VideoRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentUploadTest {
+
+    private static final int USERS = 4;
+    private static final int UPLOADS_PER_USER = 40;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoCountBackfill videoCountBackfill;
+
+    @Test
+    void concurrentUploadsGetUniqueIdsAndGaplessDisplayNumbers() throws Exception {
+        List<Callable<Video>> uploads = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            String userId = "concurrent-user-" + u;
+            userRepository.save(new User(userId));
+            for (int i = 0; i < UPLOADS_PER_USER; i++) {
+                uploads.add(() -> uploadService.createVideo(userId, "동시 업로드"));
+            }
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Video> created = new ArrayList<>();
+        try {
+            List<Future<Video>> futures = new ArrayList<>();
+            for (Callable<Video> upload : uploads) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return upload.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Video> future : futures) {
+                created.add(future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        Set<String> videoIds = new HashSet<>();
+        created.forEach(video -> videoIds.add(video.getVideoId()));
+        assertEquals(USERS * UPLOADS_PER_USER, videoIds.size());
+
+        List<Integer> expected = IntStream.rangeClosed(1, UPLOADS_PER_USER).boxed().toList();
+        for (int u = 0; u < USERS; u++) {
+            List<Integer> numbers = videoRepository.findAllByUser_UserId("concurrent-user-" + u).stream()
+                .map(Video::getDisplayNumber)
+                .sorted()
+                .toList();
+            assertEquals(expected, numbers);
+        }
+    }
+
+    // videoCount 칸이 생기기 전에 올린 영상(표시 번호 1~3)이 있으면 채우기 후 4번부터 이어진다.
+    @Test
+    void backfillContinuesNumberingAfterLegacyVideos() {
+        User user = userRepository.save(new User("legacy-count-user"));
+        for (int i = 1; i <= 3; i++) {
+            Video video = new Video();
+            video.setUser(user);
+            video.setVideoId("legacy-count-" + i);
+            video.setDisplayNumber(i);
+            video.setVideoName("이전 영상");
+            videoRepository.save(video);
+        }
+
+        assertEquals(1, videoCountBackfill.backfill());
+        assertEquals(0, videoCountBackfill.backfill());
+        assertEquals(4, uploadService.createVideo("legacy-count-user", "새 영상").getDisplayNumber());
+    }
+}
@@ -0,0 +1,110 @@
+package com.Friday.Backend.Service;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+// 호출마다 몇 번째 호출인지와 요청을 받아 응답 future 를 돌려주는 S3 대역
+class FakeS3AsyncClient implements S3AsyncClient {
+
+    final AtomicInteger headCalls = new AtomicInteger();
+    final List<List<String>> deleteRequests = new CopyOnWriteArrayList<>();
+    final List<CompletableFuture<?>> issued = new CopyOnWriteArrayList<>();
+
+    volatile BiFunction<Integer, HeadObjectRequest, CompletableFuture<HeadObjectResponse>> onHead =
+        (call, request) -> CompletableFuture.completedFuture(HeadObjectResponse.builder().build());
+
+    volatile BiFunction<Integer, List<String>, CompletableFuture<DeleteObjectsResponse>> onDelete =
+        (call, keys) -> CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build());
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request) {
+        CompletableFuture<HeadObjectResponse> response = onHead.apply(headCalls.getAndIncrement(), request);
+        issued.add(response);
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectsResponse> deleteObjects(DeleteObjectsRequest request) {
+        List<String> keys = request.delete().objects().stream().map(ObjectIdentifier::key).toList();
+        deleteRequests.add(keys);
+        CompletableFuture<DeleteObjectsResponse> response = onDelete.apply(deleteRequests.size() - 1, keys);
+        issued.add(response);
+        return response;
+    }
+
+    // 진행 중인 멀티파트 업로드: uploadId → 업로드. 완료된 것은 completedParts 에 남는다.
+    final Map<String, MultipartUpload> multipartUploads = new ConcurrentHashMap<>();
+    final Map<String, List<CompletedPart>> completedParts = new ConcurrentHashMap<>();
+    final AtomicInteger uploadIds = new AtomicInteger();
+    volatile Supplier<Instant> clock = Instant::now;
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = "upload-" + uploadIds.incrementAndGet();
+        multipartUploads.put(uploadId, MultipartUpload.builder()
+            .key(request.key())
+            .uploadId(uploadId)
+            .initiated(clock.get())
+            .build());
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId(uploadId).build());
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        if (multipartUploads.remove(request.uploadId()) == null) {
+            return CompletableFuture.failedFuture(NoSuchUploadException.builder().statusCode(404).build());
+        }
+        completedParts.put(request.uploadId(), request.multipartUpload().parts());
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().key(request.key()).build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        if (multipartUploads.remove(request.uploadId()) == null) {
+            return CompletableFuture.failedFuture(NoSuchUploadException.builder().statusCode(404).build());
+        }
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<ListMultipartUploadsResponse> listMultipartUploads(ListMultipartUploadsRequest request) {
+        return CompletableFuture.completedFuture(ListMultipartUploadsResponse.builder()
+            .uploads(List.copyOf(multipartUploads.values()))
+            .isTruncated(false)
+            .build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,176 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Domain.repository.MultipartUploadRepository;
+import com.Friday.Backend.Domain.repository.VideoRepository;
+import com.Friday.Backend.Dto.MultipartCompleteDto;
+import com.Friday.Backend.Dto.MultipartUploadDto;
+import com.Friday.Backend.Dto.UploadPartUrlDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MultipartUploadServiceTest {
+
+    private static final long MB = 1L << 20;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MultipartUploadRepository multipartUploadRepository;
+
+    private final FakeS3AsyncClient s3 = new FakeS3AsyncClient();
+
+    @Test
+    void planKeepsPartsWithinS3Limits() {
+        assertEquals(new MultipartPlan(16 * MB, 7), MultipartPlan.of(100 * MB, 16 * MB));
+        // 너무 작은 파트 크기는 5MiB 로 올린다.
+        assertEquals(MultipartPlan.MIN_PART_SIZE, MultipartPlan.of(100 * MB, MB).partSize());
+
+        // 10000 파트를 넘지 않도록 파트를 키운다.
+        MultipartPlan huge = MultipartPlan.of(1L << 40, 16 * MB);
+        assertTrue(huge.partCount() <= MultipartPlan.MAX_PARTS);
+        assertTrue(huge.partSize() * huge.partCount() >= 1L << 40);
+
+        assertThrows(IllegalArgumentException.class, () -> MultipartPlan.of(MultipartPlan.MAX_OBJECT_SIZE + 1, 16 * MB));
+    }
+
+    @Test
+    void partsAreHandedOutInBatchesAndCompletionSavesTheVideo() {
+        String userId = "multipart-user";
+        Video video = uploadService.createVideo(userId, "큰영상");
+        String objectName = userId + "-" + video.getVideoId() + ".mp4";
+        MultipartUploadService service = service(3);
+
+        MultipartUploadDto started = service.start(userId, video.getVideoId(), "test-bucket", objectName, 100 * MB);
+
+        assertEquals(7, started.getPartCount());
+        assertEquals(List.of(1, 2, 3), started.getParts().stream().map(UploadPartUrlDto::getPartNumber).toList());
+        assertTrue(started.getParts().get(0).getUploadUrl().contains("uploadId=" + started.getUploadId()));
+        // 완료 전에는 영상 파일이 없는 것으로 본다.
+        assertTrue(videoRepository.findObjectNameByUserIdAndVideoId(userId, video.getVideoId()).isEmpty());
+
+        List<UploadPartUrlDto> rest = service.getPartUrls(userId, video.getVideoId(), 4, 100);
+        assertEquals(List.of(4, 5, 6), rest.stream().map(UploadPartUrlDto::getPartNumber).toList());
+        assertEquals(List.of(7), service.getPartUrls(userId, video.getVideoId(), 7, 3).stream().map(UploadPartUrlDto::getPartNumber).toList());
+
+        // 다른 사용자에게는 보이지 않는다.
+        ResponseStatusException notFound = assertThrows(ResponseStatusException.class,
+            () -> service.getPartUrls("someone-else", video.getVideoId(), 1, 3));
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+
+        // 순서가 섞여 와도 파트 번호순으로 완료한다.
+        List<MultipartCompleteDto.Part> parts = new ArrayList<>();
+        for (int partNumber = 7; partNumber >= 1; partNumber--) {
+            parts.add(new MultipartCompleteDto.Part(partNumber, "\"etag-" + partNumber + "\""));
+        }
+        service.complete(userId, video.getVideoId(), parts);
+
+        List<CompletedPart> completed = s3.completedParts.get(started.getUploadId());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), completed.stream().map(CompletedPart::partNumber).toList());
+        assertEquals(objectName, videoRepository.findObjectNameByUserIdAndVideoId(userId, video.getVideoId()).orElseThrow());
+        assertTrue(multipartUploadRepository.findById(video.getVideoId()).isEmpty());
+    }
+
+    @Test
+    void missingPartIsRejectedBeforeCallingS3() {
+        String userId = "multipart-missing";
+        Video video = uploadService.createVideo(userId, "빠진파트");
+        MultipartUploadService service = service(50);
+        MultipartUploadDto started = service.start(userId, video.getVideoId(), "test-bucket", "missing.mp4", 40 * MB);
+
+        List<MultipartCompleteDto.Part> parts = List.of(
+            new MultipartCompleteDto.Part(1, "a"),
+            new MultipartCompleteDto.Part(3, "c")
+        );
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+            () -> service.complete(userId, video.getVideoId(), parts));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertTrue(s3.multipartUploads.containsKey(started.getUploadId()));
+
+        service.abort(userId, video.getVideoId());
+        assertFalse(s3.multipartUploads.containsKey(started.getUploadId()));
+        assertTrue(multipartUploadRepository.findById(video.getVideoId()).isEmpty());
+        assertFalse(videoService.saveVideoMetadata("nobody", video.getVideoId(), "x"));
+    }
+
+    @Test
+    void reaperAbortsOnlyRecordedUploadsOlderThanMaxAge() throws Exception {
+        MultipartUploadService service = service(50);
+
+        String abandonedVideo = uploadService.createVideo("multipart-reaper", "버려짐").getVideoId();
+        String abandoned = service.start("multipart-reaper", abandonedVideo, "test-bucket", "abandoned.mp4", 10 * MB).getUploadId();
+        Thread.sleep(5);
+        LocalDateTime cutoff = LocalDateTime.now();
+        Thread.sleep(5);
+        String activeVideo = uploadService.createVideo("multipart-reaper", "진행중").getVideoId();
+        String active = service.start("multipart-reaper", activeVideo, "test-bucket", "active.mp4", 10 * MB).getUploadId();
+
+        // 같은 버킷에서 다른 곳이 시작한 오래된 업로드는 기록이 없으므로 건드리지 않는다.
+        s3.clock = () -> Instant.now().minus(Duration.ofDays(2));
+        String foreign = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            .bucket("test-bucket").key("backup/archive.tar").build()).join().uploadId();
+        s3.clock = Instant::now;
+
+        assertEquals(1, service.reap(cutoff));
+
+        assertFalse(s3.multipartUploads.containsKey(abandoned));
+        assertTrue(s3.multipartUploads.containsKey(active));
+        assertTrue(s3.multipartUploads.containsKey(foreign));
+        assertTrue(multipartUploadRepository.findById(abandonedVideo).isEmpty());
+        assertTrue(multipartUploadRepository.findById(activeVideo).isPresent());
+    }
+
+    private MultipartUploadService service(int urlBatch) {
+        AwsCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIATEST", "secret"));
+        S3Service s3Service = new S3Service(
+            S3Presigner.builder().region(Region.AP_NORTHEAST_2).credentialsProvider(credentials).build(),
+            credentials,
+            new SimpleMeterRegistry(),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(2),
+            Duration.ofMinutes(5),
+            100
+        );
+        S3Gateway gateway = new S3Gateway(s3, new SimpleMeterRegistry(), Duration.ofSeconds(5),
+            false, Duration.ZERO, new CircuitBreaker(50, 50, 1.0, 1000));
+
+        return new MultipartUploadService(multipartUploadRepository, gateway, s3Service, videoService,
+            64 * MB, 16 * MB, urlBatch, Duration.ofHours(24), false);
+    }
+}
@@ -0,0 +1,89 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3GatewayTest {
+
+    private final FakeS3AsyncClient s3 = new FakeS3AsyncClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void slowFirstAttemptIsHedgedAndTheLoserIsCancelled() {
+        s3.onHead = (call, request) -> call == 0
+            ? new CompletableFuture<HeadObjectResponse>().completeOnTimeout(null, 5, TimeUnit.SECONDS)
+            : CompletableFuture.supplyAsync(() -> HeadObjectResponse.builder().contentLength(7L).build(),
+                CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+        S3Gateway gateway = gateway(true, Duration.ofSeconds(2), new CircuitBreaker(10, 5, 0.5, 1000));
+
+        long start = System.nanoTime();
+        assertEquals(7L, gateway.headObject("bucket", "a.mp4").join().orElseThrow().contentLength());
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, s3.headCalls.get());
+        assertTrue(s3.issued.get(0).isCancelled());
+        assertEquals(1.0, meterRegistry.get("s3.hedges.won").tag("operation", "HEAD").counter().count());
+    }
+
+    @Test
+    void deadlineCancelsTheRequestAndReportsGatewayTimeout() {
+        s3.onDelete = (call, keys) -> new CompletableFuture<>();
+        S3Gateway gateway = gateway(false, Duration.ofMillis(100), new CircuitBreaker(10, 5, 0.5, 1000));
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> gateway.deleteObjects("bucket", List.of("a.mp4")).join());
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, assertInstanceOf(ResponseStatusException.class, e.getCause()).getStatusCode());
+        assertTrue(s3.issued.get(0).isCancelled());
+        assertEquals(1, meterRegistry.get("s3.requests").tag("operation", "DELETE").tag("outcome", "timeout").timer().count());
+    }
+
+    @Test
+    void repeatedServerErrorsOpenTheCircuitAndLaterCallsFailFast() {
+        s3.onDelete = (call, keys) -> CompletableFuture.failedFuture(S3Exception.builder().statusCode(503).build());
+        S3Gateway gateway = gateway(false, Duration.ofSeconds(1), new CircuitBreaker(10, 4, 0.5, 60_000));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(CompletionException.class, () -> gateway.deleteObjects("bucket", List.of("a.mp4")).join());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, gateway.getCircuitState());
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> gateway.deleteObjects("bucket", List.of("a.mp4")).join());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, assertInstanceOf(ResponseStatusException.class, e.getCause()).getStatusCode());
+        assertEquals(4, s3.deleteRequests.size());
+    }
+
+    @Test
+    void missingObjectIsEmptyAndDoesNotTripTheCircuit() {
+        s3.onHead = (call, request) -> CompletableFuture.failedFuture(NoSuchKeyException.builder().statusCode(404).build());
+        S3Gateway gateway = gateway(true, Duration.ofSeconds(1), new CircuitBreaker(4, 2, 0.5, 60_000));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(gateway.headObject("bucket", "missing.mp4").join().isEmpty());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, gateway.getCircuitState());
+    }
+
+    private S3Gateway gateway(boolean hedging, Duration deadline, CircuitBreaker circuitBreaker) {
+        return new S3Gateway(s3, meterRegistry, deadline, hedging, Duration.ofMillis(50), circuitBreaker);
+    }
+}
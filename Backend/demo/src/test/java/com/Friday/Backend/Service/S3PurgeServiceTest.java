@@ -0,0 +1,144 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.Friday.Backend.Domain.db.S3PurgeTask;
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Domain.repository.S3PurgeTaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class S3PurgeServiceTest {
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private S3PurgeTaskRepository s3PurgeTaskRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    void deletingAUserOnlyWritesTheOutboxAndTheWorkerDeletesInBatches() {
+        String userId = "purge-user";
+        List<String> objectNames = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Video video = uploadService.createVideo(userId, "삭제" + i);
+            String objectName = userId + "-" + video.getVideoId() + ".mp4";
+            videoService.saveVideoMetadata(userId, video.getVideoId(), objectName);
+            objectNames.add(objectName);
+        }
+
+        Set<String> deleted = ConcurrentHashMap.newKeySet();
+        FakeS3AsyncClient s3 = s3(Set.of(), 0, deleted);
+        S3PurgeService purgeService = purgeService(s3, 2, 3);
+
+        assertTrue(videoService.deleteUser(userId));
+        assertEquals(0, s3.deleteRequests.size());
+        assertEquals(objectNames.size(), pending(objectNames).size());
+
+        purgeService.drain();
+
+        assertTrue(deleted.containsAll(objectNames));
+        assertTrue(s3.deleteRequests.stream().allMatch(keys -> keys.size() <= 2));
+        assertTrue(pending(objectNames).isEmpty());
+    }
+
+    @Test
+    void failedKeysAreRetriedAndThenDeadLettered() {
+        String flaky = "purge-flaky.mp4";
+        String broken = "purge-broken.mp4";
+        // 첫 요청은 통째로 실패, broken 은 매번 AccessDenied
+        FakeS3AsyncClient s3 = s3(Set.of(broken), 1, ConcurrentHashMap.newKeySet());
+        S3PurgeService purgeService = purgeService(s3, 1000, 3);
+
+        s3PurgeTaskRepository.saveAll(List.of(
+            new S3PurgeTask("test-bucket", flaky, 0),
+            new S3PurgeTask("test-bucket", broken, 0)
+        ));
+
+        purgeService.drain();
+        List<S3PurgeTask> afterFirst = pending(List.of(flaky, broken));
+        assertEquals(2, afterFirst.size());
+        assertTrue(afterFirst.stream().allMatch(task -> task.getAttempts() == 1 && !task.isDead()));
+
+        purgeService.drain();
+        purgeService.drain();
+
+        List<S3PurgeTask> remaining = pending(List.of(flaky, broken));
+        assertEquals(1, remaining.size());
+        S3PurgeTask dead = remaining.get(0);
+        assertEquals(broken, dead.getObjectKey());
+        assertEquals(3, dead.getAttempts());
+        assertTrue(dead.isDead());
+        assertTrue(dead.getLastError().startsWith("AccessDenied"));
+
+        // dead 는 더 이상 시도하지 않는다.
+        int requests = s3.deleteRequests.size();
+        purgeService.drain();
+        assertEquals(requests, s3.deleteRequests.size());
+    }
+
+    private S3PurgeService purgeService(FakeS3AsyncClient s3, int batchSize, int maxAttempts) {
+        S3Gateway gateway = new S3Gateway(s3, new SimpleMeterRegistry(), Duration.ofSeconds(5),
+            false, Duration.ZERO, new CircuitBreaker(50, 50, 1.0, 1000));
+        return new S3PurgeService(s3PurgeTaskRepository, gateway, eventPublisher, new SimpleMeterRegistry(),
+            taskScheduler, batchSize, maxAttempts, 0, 0, false);
+    }
+
+    // 받은 키를 기록하고, failing 키는 객체 단위 오류로, 처음 failRequests 번은 요청 전체를 실패시킨다.
+    private static FakeS3AsyncClient s3(Set<String> failing, int failRequests, Set<String> deleted) {
+        FakeS3AsyncClient s3 = new FakeS3AsyncClient();
+        s3.onDelete = (call, keys) -> {
+            if (call < failRequests) {
+                return CompletableFuture.failedFuture(S3Exception.builder().message("SlowDown").statusCode(503).build());
+            }
+
+            List<S3Error> errors = new ArrayList<>();
+            for (String key : keys) {
+                if (failing.contains(key)) {
+                    errors.add(S3Error.builder().key(key).code("AccessDenied").message("Access Denied").build());
+                }
+                else {
+                    deleted.add(key);
+                }
+            }
+            return CompletableFuture.completedFuture(DeleteObjectsResponse.builder().errors(errors).build());
+        };
+        return s3;
+    }
+
+    private List<S3PurgeTask> pending(List<String> objectKeys) {
+        return s3PurgeTaskRepository.findAll().stream()
+            .filter(task -> objectKeys.contains(task.getObjectKey()))
+            .toList();
+    }
+}
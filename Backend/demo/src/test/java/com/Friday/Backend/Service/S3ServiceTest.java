@@ -0,0 +1,107 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ServiceTest {
+
+    private final AtomicReference<AwsCredentials> credentials =
+        new AtomicReference<>(AwsBasicCredentials.create("AKIAFIRST", "secret-1"));
+    private final AwsCredentialsProvider credentialsProvider = credentials::get;
+    private final AtomicInteger presignCalls = new AtomicInteger();
+
+    // 실제 presigner 로 서명하되 presignGetObject 호출 수를 센다.
+    private S3Presigner countingPresigner() {
+        S3Presigner real = S3Presigner.builder()
+            .region(Region.AP_NORTHEAST_2)
+            .credentialsProvider(credentialsProvider)
+            .build();
+
+        return (S3Presigner) Proxy.newProxyInstance(
+            S3Presigner.class.getClassLoader(),
+            new Class<?>[] { S3Presigner.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("presignGetObject")) {
+                    presignCalls.incrementAndGet();
+                }
+                try {
+                    return method.invoke(real, args);
+                }
+                catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        );
+    }
+
+    private S3Service service(Duration minRemaining) {
+        return new S3Service(
+            countingPresigner(),
+            credentialsProvider,
+            new SimpleMeterRegistry(),
+            Duration.ofMinutes(10),
+            minRemaining,
+            Duration.ofMinutes(5),
+            100
+        );
+    }
+
+    @Test
+    void reusesUrlPerObjectAndCredentials() {
+        S3Service s3Service = service(Duration.ofMinutes(2));
+
+        String first = s3Service.getDownloadUrl("bucket", "a.mp4");
+        assertEquals(first, s3Service.getDownloadUrl("bucket", "a.mp4"));
+        assertEquals(1, presignCalls.get());
+        assertTrue(first.contains("X-Amz-Credential=AKIAFIRST"));
+
+        s3Service.getDownloadUrl("bucket", "b.mp4");
+        assertEquals(2, presignCalls.get());
+
+        // 자격 증명이 바뀌면 새로 서명한다.
+        credentials.set(AwsBasicCredentials.create("AKIASECOND", "secret-2"));
+        String rotated = s3Service.getDownloadUrl("bucket", "a.mp4");
+        assertEquals(3, presignCalls.get());
+        assertTrue(rotated.contains("X-Amz-Credential=AKIASECOND"));
+    }
+
+    @Test
+    void batchPresignsOnlyMissingObjects() {
+        S3Service s3Service = service(Duration.ofMinutes(2));
+        String cached = s3Service.getDownloadUrl("bucket", "a.mp4");
+
+        Map<String, String> urls = s3Service.getDownloadUrls("bucket", List.of("a.mp4", "b.mp4", "c.mp4"));
+
+        assertEquals(3, urls.size());
+        assertEquals(cached, urls.get("a.mp4"));
+        assertTrue(urls.get("c.mp4").contains("/c.mp4?"));
+        assertEquals(3, presignCalls.get());
+    }
+
+    @Test
+    void neverServesUrlBelowMinimumRemainingValidity() {
+        // 최소 유효 시간이 서명 기간보다 길면 캐시된 URL 은 쓸 수 없다.
+        S3Service s3Service = service(Duration.ofMinutes(11));
+
+        s3Service.getDownloadUrl("bucket", "a.mp4");
+        s3Service.getDownloadUrl("bucket", "a.mp4");
+        assertEquals(2, presignCalls.get());
+    }
+}
@@ -0,0 +1,141 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Dto.ScoreResultDto;
+import com.Friday.Backend.Dto.ScoringJobDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScoringJobServiceTest {
+
+    @TempDir
+    static Path referenceDir;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private ScoringJobService scoringJobService;
+
+    @Autowired
+    private EstimateService estimateService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void scoringProperties(DynamicPropertyRegistry registry) {
+        try {
+            Files.writeString(referenceDir.resolve("taegeuk-1.json"), motion(90, 0.0, 33));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        registry.add("scoring.reference-dir", referenceDir::toString);
+        registry.add("scoring.reference-watch", () -> "false");
+    }
+
+    @Test
+    void uploadEnqueuesScoringAfterCommit() throws Exception {
+        Video video = uploadService.uploadSkeleton("job-user", "taegeuk-1", motion(90, 0.0, 33));
+
+        ScoringJobDto job = awaitFinished("job-user", video.getVideoId());
+
+        assertEquals("DONE", job.getStatus());
+        assertEquals("taegeuk-1", job.getResult().getReference());
+        assertEquals("100.0", job.getResult().getScore());
+        assertTrue(meterRegistry.get("scoring.jobs.processing").timer().count() >= 1);
+        assertEquals(0.0, meterRegistry.get("scoring.jobs.queue.depth").gauge().value());
+    }
+
+    @Test
+    void differentMotionScoresLower() throws Exception {
+        Video video = uploadService.uploadSkeleton("job-user", "taegeuk-1", motion(120, 0.6, 33));
+
+        ScoringJobDto job = awaitFinished("job-user", video.getVideoId());
+
+        assertEquals("DONE", job.getStatus());
+        assertTrue(Double.parseDouble(job.getResult().getScore()) < 100.0);
+    }
+
+    // 관절 수가 다른 영상: 단건 채점은 422, 재채점은 그 영상만 빼고 나머지를 채점한다 (병렬 채점에서 500 이 되지 않도록).
+    @Test
+    void mismatchedJointLayoutIsUnprocessable() throws Exception {
+        Video matching = uploadService.uploadSkeleton("layout-user", "taegeuk-1", motion(90, 0.0, 33));
+        Video mismatched = uploadService.uploadSkeleton("layout-user", "taegeuk-1", motion(90, 0.0, 25));
+        awaitFinished("layout-user", matching.getVideoId());
+        awaitFinished("layout-user", mismatched.getVideoId());
+
+        ResponseStatusException error = assertThrows(ResponseStatusException.class,
+            () -> estimateService.evaluateScore("layout-user", mismatched.getVideoId(), "taegeuk-1"));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, error.getStatusCode());
+
+        List<ScoreResultDto> rescored = estimateService.rescoreVideos("layout-user", "taegeuk-1");
+        assertEquals(1, rescored.size());
+        assertEquals(matching.getVideoId(), rescored.get(0).getVideoId());
+    }
+
+    private ScoringJobDto awaitFinished(String userId, String videoId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ScoringJobDto job = scoringJobService.getJob(userId, videoId);
+            if (job.getStatus().equals("DONE") || job.getStatus().equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("채점 작업이 끝나지 않았습니다.");
+    }
+
+    // joints 관절 [x, y, z] 배열 형식. 어깨/골반은 고정하고 나머지 관절이 phase 만큼 어긋난 원을 그린다.
+    private static String motion(int frames, double phase, int joints) {
+        StringBuilder json = new StringBuilder("[");
+        for (int frame = 0; frame < frames; frame++) {
+            json.append(frame == 0 ? "[" : ",[");
+            for (int joint = 0; joint < joints; joint++) {
+                double x;
+                double y;
+                if (joint == 11 || joint == 12) {
+                    x = joint == 11 ? 0.6 : 0.4;
+                    y = 0.3;
+                }
+                else if (joint == 23 || joint == 24) {
+                    x = joint == 23 ? 0.55 : 0.45;
+                    y = 0.7;
+                }
+                else {
+                    double angle = frame * 0.1 + joint * 0.3 + phase * joint;
+                    x = 0.5 + 0.2 * Math.cos(angle);
+                    y = 0.5 + 0.2 * Math.sin(angle);
+                }
+                json.append(joint == 0 ? "[" : ",[")
+                    .append(String.format(Locale.ROOT, "%.4f,%.4f,0.0", x, y))
+                    .append(']');
+            }
+            json.append(']');
+        }
+        return json.append(']').toString();
+    }
+}
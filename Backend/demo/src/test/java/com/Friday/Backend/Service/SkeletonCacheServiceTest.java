@@ -0,0 +1,126 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+
+import com.Friday.Backend.Skeleton.SkeletonData;
+import com.Friday.Backend.Skeleton.SkeletonLayout;
+import com.Friday.Backend.Skeleton.SkeletonShape;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonCacheServiceTest {
+
+    private static final SkeletonShape SHAPE = new SkeletonShape(SkeletonLayout.ARRAYS, 1, 1, null, null);
+
+    private static SkeletonData frames(int count) {
+        return new SkeletonData(SHAPE, count, new float[count]);
+    }
+
+    // 로더는 DB 를 읽는다. 가상 스레드에서 로더가 기다리는 동안 캐리어 스레드가 고정되면 안 된다.
+    @Test
+    void slowLoaderDoesNotPinVirtualThreads() throws Exception {
+        SkeletonCacheService cache = new SkeletonCacheService(new SimpleMeterRegistry(), 1 << 20);
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (long id = 0; id < 8; id++) {
+                    long frameId = id % 2;
+                    executor.submit(() -> cache.get(frameId, () -> {
+                        try {
+                            Thread.sleep(20);
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return frames(10);
+                    }));
+                }
+            }
+            recording.stop();
+        }
+
+        assertTrue(pinned.isEmpty(), "고정된 가상 스레드: " + pinned.size());
+        assertNotNull(cache.getIfPresent(0L));
+    }
+
+    @Test
+    void weighsEntriesByBufferSize() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SkeletonCacheService cache = new SkeletonCacheService(registry, 1 << 20);
+
+        SkeletonData data = frames(1000);
+        assertSame(data, cache.get(1L, () -> data));
+        assertSame(data, cache.get(1L, () -> { throw new AssertionError("다시 읽으면 안 된다"); }));
+        cache.cleanUp();
+
+        assertEquals(1000 * Float.BYTES + 512, cache.getResidentBytes());
+        assertEquals(1000 * Float.BYTES + 512, registry.get("skeleton.cache.resident.bytes").gauge().value());
+        assertEquals(0.5, registry.get("skeleton.cache.hit.ratio").gauge().value(), 1e-9);
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count(), 1e-9);
+    }
+
+    @Test
+    void oneLargeRecordingDoesNotFlushTheWorkingSet() {
+        SkeletonCacheService cache = new SkeletonCacheService(new SimpleMeterRegistry(), 1 << 20);
+
+        // 자주 보는 작은 녹화 8개 (각 약 100KB). 빈도 기록은 캐시가 절반 이상 찬 뒤부터 시작된다.
+        for (long id = 1; id <= 8; id++) {
+            cache.get(id, () -> frames(25_000));
+        }
+        cache.cleanUp();
+        for (int round = 0; round < 4; round++) {
+            for (long id = 1; id <= 8; id++) {
+                cache.getIfPresent(id);
+            }
+            cache.cleanUp();
+        }
+
+        // 한 번만 보는 긴 녹화 (약 800KB)
+        cache.get(100L, () -> frames(200_000));
+        cache.cleanUp();
+
+        for (long id = 1; id <= 8; id++) {
+            assertNotNull(cache.getIfPresent(id), "작업 집합 " + id + " 이 밀려났다");
+        }
+        assertNull(cache.getIfPresent(100L));
+        assertTrue(cache.getResidentBytes() <= 1 << 20);
+    }
+
+    @Test
+    void invalidationDropsEntriesAndNullIsNotCached() {
+        SkeletonCacheService cache = new SkeletonCacheService(new SimpleMeterRegistry(), 1 << 20);
+        cache.get(1L, () -> frames(10));
+        cache.get(2L, () -> frames(10));
+        cache.get(3L, () -> frames(10));
+
+        cache.invalidate(1L);
+        cache.invalidateAll(List.of(2L));
+
+        assertNull(cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertNotNull(cache.getIfPresent(3L));
+
+        assertNull(cache.get(4L, () -> null));
+        assertNull(cache.getIfPresent(4L));
+    }
+}
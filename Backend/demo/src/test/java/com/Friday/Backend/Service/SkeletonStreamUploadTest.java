@@ -0,0 +1,160 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.Video;
+import com.Friday.Backend.Dto.FrameDto;
+import com.Friday.Backend.Skeleton.SkeletonFormatException;
+import com.Friday.Backend.Skeleton.SkeletonSelection;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = { "skeleton.chunk-frames=4", "skeleton.stream.max-frames=12" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SkeletonStreamUploadTest {
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void streamedFramesAreChunkedAndReadBack() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int frame = 0; frame < 10; frame++) {
+            if (frame > 0) {
+                json.append(',');
+            }
+            json.append("[{\"name\":\"nose\",\"position\":[").append(frame).append(".5,0.25,-1.0]}]");
+        }
+        json.append(']');
+
+        Video video = uploadService.uploadSkeletonStream("stream-user", "태극1장", stream(json.toString()));
+        FrameDto frameDto = uploadService.getSkeleton("stream-user", video.getVideoId());
+
+        assertEquals(json.toString(), frameDto.getJoints());
+    }
+
+    @Test
+    void rangeAndJointQueryReadsOnlySelectedFrames() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int frame = 0; frame < 10; frame++) {
+            if (frame > 0) {
+                json.append(',');
+            }
+            json.append("[{\"name\":\"nose\",\"position\":[").append(frame).append(".5,0.25,-1.0]},")
+                .append("{\"name\":\"left_wrist\",\"position\":[").append(frame).append(".0,1.0,2.0]}]");
+        }
+        json.append(']');
+
+        Video video = uploadService.uploadSkeleton("stream-user", "태극3장", json.toString());
+        FrameDto frameDto = uploadService.getSkeleton(
+            "stream-user", video.getVideoId(), new SkeletonSelection(3, 6, List.of("left_wrist")), 0
+        );
+
+        assertEquals(
+            "[[{\"name\":\"left_wrist\",\"position\":[3.0,1.0,2.0]}],"
+                + "[{\"name\":\"left_wrist\",\"position\":[4.0,1.0,2.0]}],"
+                + "[{\"name\":\"left_wrist\",\"position\":[5.0,1.0,2.0]}]]",
+            frameDto.getJoints()
+        );
+        assertEquals(3, frameDto.getStartFrame());
+        assertEquals(10, frameDto.getTotalFrames());
+        assertThrows(SkeletonFormatException.class, () -> uploadService.getSkeleton(
+            "stream-user", video.getVideoId(), new SkeletonSelection(0, 2, List.of("right_ankle")), 0
+        ));
+    }
+
+    @Test
+    void lodPreviewKeepsEndpointsAndShrinksFrames() {
+        StringBuilder json = new StringBuilder("[");
+        for (int frame = 0; frame < 120; frame++) {
+            if (frame > 0) {
+                json.append(',');
+            }
+            // 앞 60프레임은 정지, 뒤 60프레임은 가속하며 움직임
+            double x = frame < 60 ? 0.0 : (frame - 60) * (frame - 60) * 0.001;
+            json.append("[[").append(x).append(",0.5]]");
+        }
+        json.append(']');
+
+        Video video = uploadService.uploadSkeleton("stream-user", "태극4장", json.toString());
+        FrameDto preview = uploadService.getSkeleton("stream-user", video.getVideoId(), SkeletonSelection.all(), 2);
+
+        int[] indices = preview.getFrameIndices();
+        assertEquals(12, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(119, indices[indices.length - 1]);
+        assertEquals(120, preview.getTotalFrames());
+        assertThrows(ResponseStatusException.class, () ->
+            uploadService.getSkeleton("stream-user", video.getVideoId(), SkeletonSelection.all(), 9));
+    }
+
+    @Test
+    void rejectsMalformedFrames() {
+        assertThrows(SkeletonFormatException.class, () ->
+            uploadService.uploadSkeletonStream("stream-user", "태극2장", stream("[[[1,2]],[[1,2,3]]]")));
+    }
+
+    // 본문이 중간에 끊기면 JSON 문법 오류이므로 500 이 아니라 400 이고, 영상도 만들어지지 않는다.
+    @Test
+    @WithMockUser(username = "stream-truncated")
+    void truncatedBodyIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/upload/skeleton/stream")
+                .param("videoName", "태극5장")
+                .param("fileExtension", ".mp4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[[[1.0,2.0]],[[3.0,"))
+            .andExpect(status().isBadRequest());
+
+        assertTrue(videoService.getAllVideosByUser("stream-truncated").isEmpty());
+    }
+
+    // 인코딩된 청크를 모두 들고 있다가 저장하므로 프레임 수 상한을 넘는 본문은 413 으로 거부한다.
+    @Test
+    @WithMockUser(username = "stream-too-long")
+    void tooManyFramesIsPayloadTooLarge() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int frame = 0; frame < 13; frame++) {
+            if (frame > 0) {
+                json.append(',');
+            }
+            json.append("[[").append(frame).append(".0,0.5]]");
+        }
+        json.append(']');
+
+        mockMvc.perform(post("/api/upload/skeleton/stream")
+                .param("videoName", "태극6장")
+                .param("fileExtension", ".mp4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json.toString()))
+            .andExpect(status().isPayloadTooLarge());
+
+        assertTrue(videoService.getAllVideosByUser("stream-too-long").isEmpty());
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Domain.db.UploadSession;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UploadSessionServiceTest {
+
+    @Autowired
+    private UploadSessionService uploadSessionService;
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Test
+    void resumesAndIgnoresRetriedChunks() throws Exception {
+        String userId = "session-user";
+        UploadSession session = uploadSessionService.openSession(userId, "태극1장", ".mp4");
+        String sessionId = session.getSessionId();
+
+        uploadSessionService.appendChunk(userId, sessionId, 0, stream("[[[1.0,2.0]],[[1.5,2.5]]]"));
+        // 응답을 받지 못한 클라이언트의 재전송
+        uploadSessionService.appendChunk(userId, sessionId, 0, stream("[[[1.0,2.0]],[[1.5,2.5]]]"));
+
+        assertThrows(ResponseStatusException.class, () ->
+            uploadSessionService.appendChunk(userId, sessionId, 2, stream("[[[9.0,9.0]]]")));
+
+        UploadSession resumed = uploadSessionService.getSession(userId, sessionId);
+        assertEquals(1, resumed.getNextSequence());
+        // commit 전에는 영상이 없어 목록에 보이지 않는다.
+        assertNull(resumed.getFrame().getVideo());
+        assertTrue(videoService.getAllVideosByUser(userId).isEmpty());
+
+        uploadSessionService.appendChunk(userId, sessionId, 1, stream("[[[3.0,4.0]]]"));
+        UploadSession committed = uploadSessionService.commit(userId, sessionId);
+        String videoId = committed.getFrame().getVideo().getVideoId();
+
+        assertEquals(3, committed.getFrameCount());
+        assertEquals(1, videoService.getAllVideosByUser(userId).size());
+        assertEquals("[[[1.0,2.0]],[[1.5,2.5]],[[3.0,4.0]]]", uploadService.getSkeleton(userId, videoId).getJoints());
+    }
+
+    // 본문을 읽는 동안에는 트랜잭션이 없으므로 같은 번호의 재전송이 먼저 저장될 수 있다. 늦은 쪽은 다시 저장하지 않는다.
+    @Test
+    void chunkStoredWhileReadingIsNotStoredTwice() throws Exception {
+        String userId = "session-race";
+        String sessionId = uploadSessionService.openSession(userId, "태극2장", ".mp4").getSessionId();
+
+        InputStream slow = new ByteArrayInputStream("[[[1.0,2.0]],[[1.5,2.5]]]".getBytes(StandardCharsets.UTF_8)) {
+            private boolean raced;
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                if (!raced) {
+                    raced = true;
+                    try {
+                        uploadSessionService.appendChunk(userId, sessionId, 0, stream("[[[1.0,2.0]],[[1.5,2.5]]]"));
+                    }
+                    catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.read(b, off, len);
+            }
+        };
+
+        UploadSession session = uploadSessionService.appendChunk(userId, sessionId, 0, slow);
+
+        assertEquals(1, session.getNextSequence());
+        assertEquals(2, session.getFrameCount());
+        UploadSession committed = uploadSessionService.commit(userId, sessionId);
+        assertEquals("[[[1.0,2.0]],[[1.5,2.5]]]", uploadService.getSkeleton(userId, committed.getFrame().getVideo().getVideoId()).getJoints());
+    }
+
+    @Test
+    void reapsAbandonedSessions() throws Exception {
+        String userId = "session-reaper";
+        UploadSession abandoned = uploadSessionService.openSession(userId, "버려짐", ".mp4");
+        uploadSessionService.appendChunk(userId, abandoned.getSessionId(), 0, stream("[[[1.0,2.0]]]"));
+
+        UploadSession committed = uploadSessionService.openSession(userId, "완료", ".mp4");
+        uploadSessionService.appendChunk(userId, committed.getSessionId(), 0, stream("[[[1.0,2.0]]]"));
+        uploadSessionService.commit(userId, committed.getSessionId());
+
+        assertTrue(uploadSessionService.reap(LocalDateTime.now().plusSeconds(1)) >= 1);
+
+        assertThrows(ResponseStatusException.class, () -> uploadSessionService.getSession(userId, abandoned.getSessionId()));
+        assertEquals(UploadSession.Status.COMMITTED, uploadSessionService.getSession(userId, committed.getSessionId()).getStatus());
+        assertEquals(1, videoService.getAllVideosByUser(userId).size());
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
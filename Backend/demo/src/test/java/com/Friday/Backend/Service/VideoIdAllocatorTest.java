@@ -0,0 +1,139 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoIdAllocatorTest {
+
+    private static final long NOW = 1_767_225_600_000L; // 2026-01-01
+
+    @Test
+    void concurrentCallersNeverShareAnIdAndEachSeesThemIncreasing() throws Exception {
+        VideoIdAllocator allocator = new VideoIdAllocator(7, System::currentTimeMillis);
+        int threads = 16;
+        int perThread = 20_000;
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    String previous = "";
+                    for (int i = 0; i < perThread; i++) {
+                        String id = allocator.nextVideoId();
+                        if (id.compareTo(previous) <= 0 || !seen.add(id)) {
+                            return false;
+                        }
+                        previous = id;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, seen.size());
+    }
+
+    @Test
+    void sequenceOverflowBorrowsTheNextMillisecondAndClockRegressionIsIgnored() {
+        AtomicLong clock = new AtomicLong(NOW);
+        VideoIdAllocator allocator = new VideoIdAllocator(1, clock::get);
+
+        long previous = allocator.nextId();
+        // 한 밀리초에 4096 개를 넘게 발급
+        for (int i = 0; i < 10_000; i++) {
+            long id = allocator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+
+        clock.set(NOW - 60_000);
+        assertTrue(allocator.nextId() > previous);
+    }
+
+    @Test
+    void idsAreFixedWidthAndSortByTimeAcrossNodes() {
+        AtomicLong clock = new AtomicLong(NOW);
+        VideoIdAllocator early = new VideoIdAllocator(1023, clock::get);
+        VideoIdAllocator late = new VideoIdAllocator(0, clock::get);
+
+        String first = early.nextVideoId();
+        String sameMillisecond = late.nextVideoId();
+        clock.addAndGet(1);
+        String second = late.nextVideoId();
+
+        assertEquals(13, first.length());
+        assertEquals(13, second.length());
+        assertNotEquals(first, sameMillisecond);
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(sameMillisecond.compareTo(second) < 0);
+    }
+
+    // 임대 기한의 절반이 지나도록 갱신되지 않으면 발급을 멈추고, 노드를 잃었으면 새로 임대한 노드로 발급한다.
+    @Test
+    void stopsIssuingWhenTheLeaseLapsesAndMovesToANewNode() {
+        AtomicLong clock = new AtomicLong(NOW);
+        StubLeaseService leases = new StubLeaseService();
+        VideoIdAllocator allocator = new VideoIdAllocator(-1, clock::get, leases, 10_000);
+
+        assertEquals(5, allocator.getNode());
+        long first = allocator.nextId();
+
+        clock.addAndGet(5_001);
+        assertThrows(IllegalStateException.class, allocator::nextId);
+
+        leases.held = false;
+        allocator.renewLease();
+
+        assertEquals(6, allocator.getNode());
+        long second = allocator.nextId();
+        assertTrue(second > first);
+        assertEquals(6, (second >>> 12) & 1023);
+    }
+
+    @Test
+    void rejectsNodeOutsideTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new VideoIdAllocator(1024, System::currentTimeMillis));
+    }
+
+    private static final class StubLeaseService extends VideoIdNodeLeaseService {
+
+        private int next = 5;
+        private boolean held = true;
+
+        StubLeaseService() {
+            super(null);
+        }
+
+        @Override
+        public int claim(String owner, long now, long ttlMillis, int nodeCount) {
+            held = true;
+            return next++;
+        }
+
+        @Override
+        public boolean renew(int node, String owner, long now, long ttlMillis) {
+            return held;
+        }
+    }
+}
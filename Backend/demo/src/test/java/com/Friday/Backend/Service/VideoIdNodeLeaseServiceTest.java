@@ -0,0 +1,37 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VideoIdNodeLeaseServiceTest {
+
+    private static final long TTL = 60_000;
+
+    @Autowired
+    private VideoIdNodeLeaseService videoIdNodeLeaseService;
+
+    // 살아 있는 임대는 다른 인스턴스가 가져가거나 늘리지 못한다.
+    @Test
+    void liveLeasesAreNeverShared() {
+        long now = System.currentTimeMillis();
+        int first = videoIdNodeLeaseService.claim("lease-a", now, TTL, 1024);
+        int second = videoIdNodeLeaseService.claim("lease-b", now, TTL, 1024);
+
+        assertTrue(first >= 0);
+        assertTrue(second >= 0);
+        assertNotEquals(first, second);
+        assertFalse(videoIdNodeLeaseService.renew(first, "lease-b", now, TTL));
+        assertTrue(videoIdNodeLeaseService.renew(first, "lease-a", now, TTL));
+
+        videoIdNodeLeaseService.release(first, "lease-a");
+        videoIdNodeLeaseService.release(second, "lease-b");
+    }
+}
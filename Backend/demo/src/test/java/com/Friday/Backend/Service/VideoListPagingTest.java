@@ -0,0 +1,60 @@
+package com.Friday.Backend.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.Friday.Backend.Dto.VideoListDto;
+import com.Friday.Backend.Dto.VideoPageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VideoListPagingTest {
+
+    @Autowired
+    private UploadService uploadService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Test
+    void pagesWalkTheWholeListNewestFirst() {
+        for (int i = 0; i < 7; i++) {
+            uploadService.createVideo("page-user", "영상" + i);
+        }
+
+        List<VideoListDto> all = videoService.getAllVideosByUser("page-user");
+        assertEquals(7, all.size());
+
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            VideoPageDto page = videoService.getVideoPage("page-user", cursor, 3);
+            page.getVideos().forEach(video -> walked.add(video.getVideoId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(all.stream().map(VideoListDto::getVideoId).toList(), walked);
+        for (int i = 1; i < all.size(); i++) {
+            assertEquals(true, !all.get(i).getUploadTime().isAfter(all.get(i - 1).getUploadTime()));
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursorAndBadCursorIsRejected() {
+        assertNull(videoService.getVideoPage("nobody", null, 10).getNextCursor());
+        assertThrows(ResponseStatusException.class, () -> videoService.getVideoPage("page-user", "!!", 10));
+    }
+}
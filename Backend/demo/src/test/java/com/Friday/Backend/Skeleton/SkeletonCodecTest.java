@@ -0,0 +1,52 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonCodecTest {
+
+    private final SkeletonCodec codec = new SkeletonCodec();
+
+    @Test
+    void roundTripsPositionObjects() {
+        String json = "[[{\"name\":\"nose\",\"position\":[0.5,0.25,-0.125]},{\"name\":\"left_eye\",\"position\":[0.51,0.24,-0.1]}],"
+            + "[{\"name\":\"nose\",\"position\":[0.502,0.251,-0.124]},{\"name\":\"left_eye\",\"position\":[0.512,0.242,-0.099]}]]";
+
+        SkeletonData parsed = SkeletonJson.parse(json);
+        byte[] encoded = codec.encode(parsed);
+        SkeletonData decoded = codec.decode(encoded);
+
+        assertTrue(SkeletonCodec.isEncoded(encoded));
+        assertEquals(parsed.getShape(), decoded.getShape());
+        assertEquals(2, decoded.getFrameCount());
+        assertArrayEquals(parsed.getValues(), decoded.getValues());
+        assertEquals(SkeletonJson.toJson(parsed), SkeletonJson.toJson(decoded));
+        assertEquals(json, SkeletonJson.toJson(decoded));
+    }
+
+    @Test
+    void roundTripsCoordinateObjectsAndArrays() {
+        String objects = "[[{\"x\":0.1,\"y\":0.2,\"visibility\":0.9}],[{\"y\":0.3,\"x\":0.15,\"visibility\":0.8}]]";
+        String arrays = "[[[1.0,2.0],[3.0,4.0]],[[1.5,2.5],[3.5,-4.5]]]";
+
+        SkeletonData fromObjects = codec.decode(codec.encode(SkeletonJson.parse(objects)));
+        SkeletonData fromArrays = codec.decode(codec.encode(SkeletonJson.parse(arrays)));
+
+        assertEquals(SkeletonLayout.COORDINATE_OBJECTS, fromObjects.getShape().getLayout());
+        assertEquals(0.15f, fromObjects.get(1, 0, 0));
+        assertEquals(0.3f, fromObjects.get(1, 0, 1));
+        assertEquals(arrays, SkeletonJson.toJson(fromArrays));
+    }
+
+    @Test
+    void rejectsInconsistentFramesAndLegacyJson() {
+        assertThrows(SkeletonFormatException.class, () -> SkeletonJson.parse("[[[1,2]],[[1,2],[3,4]]]"));
+        assertThrows(SkeletonFormatException.class, () -> SkeletonJson.parse("{\"frames\":[]}"));
+        assertFalse(SkeletonCodec.isEncoded("[[[1,2]]]".getBytes()));
+    }
+}
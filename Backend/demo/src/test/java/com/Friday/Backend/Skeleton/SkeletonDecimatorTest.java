@@ -0,0 +1,50 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonDecimatorTest {
+
+    private static final SkeletonShape SHAPE = new SkeletonShape(SkeletonLayout.ARRAYS, 1, 2, null, null);
+
+    @Test
+    void keyframesConcentrateWhereVelocityChanges() {
+        // 0~99 정지, 100~199 지그재그
+        float[] values = new float[200 * 2];
+        for (int frame = 100; frame < 200; frame++) {
+            values[frame * 2] = (frame % 2 == 0) ? 1f : -1f;
+        }
+        int[] picked = SkeletonDecimator.motionAware(new SkeletonData(SHAPE, 200, values), 20);
+
+        assertEquals(20, picked.length);
+        assertEquals(0, picked[0]);
+        assertEquals(199, picked[19]);
+        int moving = 0;
+        for (int i = 0; i < picked.length; i++) {
+            if (i > 0) {
+                assertTrue(picked[i] > picked[i - 1]);
+            }
+            if (picked[i] >= 100) {
+                moving++;
+            }
+        }
+        assertTrue(moving > 14);
+    }
+
+    @Test
+    void fallsBackToUniformWithoutMotion() {
+        int[] picked = SkeletonDecimator.motionAware(new SkeletonData(SHAPE, 9, new float[18]), 5);
+
+        assertArrayEquals(new int[] { 0, 2, 4, 6, 8 }, picked);
+    }
+
+    @Test
+    void indicesRoundTrip() {
+        int[] indices = { 0, 3, 4, 200, 70000 };
+
+        assertArrayEquals(indices, SkeletonCodec.decodeIndices(SkeletonCodec.encodeIndices(indices)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonDtwTest {
+
+    private static final int FRAME_SIZE = 66;
+
+    @Test
+    void fullBandMatchesTextbookDtw() {
+        Random random = new Random(7);
+        float[] a = randomFrames(random, 40);
+        float[] b = randomFrames(random, 55);
+
+        double banded = new SkeletonDtw().distance(a, 40, b, 55, FRAME_SIZE, 1.0, Double.POSITIVE_INFINITY);
+
+        assertEquals(bruteForce(a, 40, b, 55), banded, 1e-3);
+    }
+
+    @Test
+    void timeWarpedCopyIsCloserThanOtherMotion() {
+        Random random = new Random(11);
+        float[] reference = smoothFrames(random, 120);
+        // 같은 동작을 1.5배 느리게 한 시도
+        float[] slower = new float[180 * FRAME_SIZE];
+        for (int frame = 0; frame < 180; frame++) {
+            System.arraycopy(reference, (frame * 2 / 3) * FRAME_SIZE, slower, frame * FRAME_SIZE, FRAME_SIZE);
+        }
+        float[] other = smoothFrames(random, 120);
+
+        SkeletonDtw dtw = new SkeletonDtw();
+        double same = dtw.distance(slower, 180, reference, 120, FRAME_SIZE, 0.1, Double.POSITIVE_INFINITY);
+        double different = dtw.distance(other, 120, reference, 120, FRAME_SIZE, 0.1, Double.POSITIVE_INFINITY);
+
+        assertEquals(0.0, same, 1e-6);
+        assertTrue(different > 0);
+    }
+
+    @Test
+    void abandonsOnceRowMinimumExceedsThreshold() {
+        Random random = new Random(3);
+        float[] a = randomFrames(random, 50);
+        float[] b = randomFrames(random, 50);
+
+        SkeletonDtw dtw = new SkeletonDtw();
+        double exact = dtw.distance(a, 50, b, 50, FRAME_SIZE, 0.2, Double.POSITIVE_INFINITY);
+
+        assertEquals(Double.POSITIVE_INFINITY, dtw.distance(a, 50, b, 50, FRAME_SIZE, 0.2, exact / 2));
+        assertEquals(exact, dtw.distance(a, 50, b, 50, FRAME_SIZE, 0.2, exact), 0.0);
+    }
+
+    private static float[] randomFrames(Random random, int frames) {
+        float[] values = new float[frames * FRAME_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat() * 2f - 1f;
+        }
+        return values;
+    }
+
+    private static float[] smoothFrames(Random random, int frames) {
+        float[] values = new float[frames * FRAME_SIZE];
+        for (int i = 0; i < FRAME_SIZE; i++) {
+            double phase = random.nextDouble() * Math.PI * 2;
+            for (int frame = 0; frame < frames; frame++) {
+                values[frame * FRAME_SIZE + i] = (float) Math.sin(phase + frame * 0.05);
+            }
+        }
+        return values;
+    }
+
+    private static double bruteForce(float[] a, int n, float[] b, int m) {
+        double[][] cost = new double[n + 1][m + 1];
+        for (double[] row : cost) {
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+        }
+        cost[0][0] = 0;
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= m; j++) {
+                double d = SkeletonDtw.squaredDistance(a, (i - 1) * FRAME_SIZE, b, (j - 1) * FRAME_SIZE, FRAME_SIZE);
+                cost[i][j] = d + Math.min(cost[i - 1][j - 1], Math.min(cost[i - 1][j], cost[i][j - 1]));
+            }
+        }
+        return cost[n][m];
+    }
+}
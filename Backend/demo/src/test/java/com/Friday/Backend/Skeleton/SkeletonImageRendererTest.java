@@ -0,0 +1,113 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonImageRendererTest {
+
+    private static final SkeletonShape SHAPE = new SkeletonShape(SkeletonLayout.ARRAYS, 36, 3, null, null);
+
+    @Test
+    void spriteLaysOutCellsAndDrawsBonesInEachCell() throws Exception {
+        SkeletonData data = figure(6);
+
+        BufferedImage sprite = SkeletonImageRenderer.render(data, new int[] { 0, 2, 4, 5 }, 64, 3);
+        assertEquals(3 * 64, sprite.getWidth());
+        assertEquals(2 * 64, sprite.getHeight());
+
+        for (int cell = 0; cell < 4; cell++) {
+            assertTrue(drawnPixels(sprite, (cell % 3) * 64, (cell / 3) * 64, 64) > 0, "칸 " + cell);
+        }
+        // 남는 칸은 비어 있다.
+        assertEquals(0, drawnPixels(sprite, 128, 64, 64));
+
+        byte[] png = SkeletonImageRenderer.toPng(sprite);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(sprite.getWidth(), decoded.getWidth());
+    }
+
+    @Test
+    void headIsDrawnAboveFeet() {
+        BufferedImage image = SkeletonImageRenderer.render(figure(1), new int[] { 0 }, 100, 1);
+
+        // y 가 위쪽인 좌표라 머리(y=1.7)는 위, 발(y=0)은 아래 절반에 그려진다.
+        assertTrue(drawnPixels(image, 0, 0, 100) > 0);
+        int top = 0, bottom = 0;
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 100; x++) {
+                if ((image.getRGB(x, y) >>> 24) != 0) {
+                    if (y < 50) top++;
+                    else bottom++;
+                }
+            }
+        }
+        assertTrue(top > 0 && bottom > 0);
+        assertTrue((image.getRGB(50, 4) >>> 24) == 0, "여백");
+    }
+
+    @Test
+    void contentHashDependsOnPoseAndLayoutOnly() {
+        SkeletonData data = figure(4);
+        String hash = SkeletonImageRenderer.contentHash(data, new int[] { 0, 3 }, 96, 4);
+
+        assertEquals(hash, SkeletonImageRenderer.contentHash(figure(4), new int[] { 0, 3 }, 96, 4));
+        assertNotEquals(hash, SkeletonImageRenderer.contentHash(data, new int[] { 0, 2 }, 96, 4));
+        assertNotEquals(hash, SkeletonImageRenderer.contentHash(data, new int[] { 0, 3 }, 64, 4));
+        assertEquals(32, hash.length());
+    }
+
+    // 팔을 프레임마다 조금씩 올리는 단순한 인물. 머리 y=1.7, 발 y=0
+    private static SkeletonData figure(int frames) {
+        float[] values = new float[frames * SHAPE.getFrameSize()];
+        for (int frame = 0; frame < frames; frame++) {
+            float lift = frame * 0.05f;
+            set(values, frame, 0, 0f, 1.7f);
+            set(values, frame, 11, -0.2f, 1.4f);
+            set(values, frame, 12, 0.2f, 1.4f);
+            set(values, frame, 13, -0.4f, 1.2f + lift);
+            set(values, frame, 14, 0.4f, 1.2f + lift);
+            set(values, frame, 15, -0.5f, 1.0f + 2 * lift);
+            set(values, frame, 16, 0.5f, 1.0f + 2 * lift);
+            set(values, frame, 23, -0.15f, 0.9f);
+            set(values, frame, 24, 0.15f, 0.9f);
+            set(values, frame, 25, -0.15f, 0.45f);
+            set(values, frame, 26, 0.15f, 0.45f);
+            set(values, frame, 27, -0.15f, 0f);
+            set(values, frame, 28, 0.15f, 0f);
+            set(values, frame, 33, 0f, 1.4f);
+            set(values, frame, 34, 0f, 0.9f);
+            set(values, frame, 35, 0f, 1.15f);
+            // 나머지 관절은 골반에 둔다.
+            for (int joint : new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 17, 18, 19, 20, 21, 22, 29, 30, 31, 32 }) {
+                set(values, frame, joint, 0f, 0.9f);
+            }
+        }
+        return new SkeletonData(SHAPE, frames, values);
+    }
+
+    private static void set(float[] values, int frame, int joint, float x, float y) {
+        int offset = (frame * SHAPE.getJointCount() + joint) * SHAPE.getDims();
+        values[offset] = x;
+        values[offset + 1] = y;
+    }
+
+    private static int drawnPixels(BufferedImage image, int left, int top, int size) {
+        int count = 0;
+        for (int y = top; y < top + size; y++) {
+            for (int x = left; x < left + size; x++) {
+                if ((image.getRGB(x, y) >>> 24) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
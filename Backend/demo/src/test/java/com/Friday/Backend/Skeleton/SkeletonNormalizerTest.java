@@ -0,0 +1,88 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SkeletonNormalizerTest {
+
+    private static final int JOINTS = 33;
+
+    // evaluation/export_normalization_fixture.py 가 normalize() 로 만든 입력/출력과 비트 단위로 같아야 한다.
+    @Test
+    void matchesNormalizationPyGoldenFixture() throws IOException {
+        JsonNode fixture;
+        try (InputStream in = getClass().getResourceAsStream("/skeleton/normalization-golden.json")) {
+            fixture = new ObjectMapper().readTree(in);
+        }
+        int joints = fixture.get("jointCount").asInt();
+        int dims = fixture.get("dims").asInt();
+        int frames = fixture.get("input").size();
+        float[] input = floatBits(fixture.get("input"));
+        float[] expected = floatBits(fixture.get("output"));
+
+        for (SkeletonNormalizer normalizer : List.of(new ScalarSkeletonNormalizer(), SkeletonNormalizer.create())) {
+            float[] out = new float[input.length];
+            normalizer.normalize(input, 0, dims, out, 0, dims, joints, frames);
+
+            assertArrayEquals(expected, out, normalizer.name());
+        }
+    }
+
+    @Test
+    void skipsScalingWhenShouldersOverlap() {
+        float[] frame = new float[JOINTS * 2];
+        frame[0] = 1f;
+
+        float[] out = new float[frame.length];
+        new ScalarSkeletonNormalizer().normalize(frame, 0, 2, out, 0, 2, JOINTS, 1);
+
+        assertEquals(1f, out[0]);
+    }
+
+    @Test
+    void vectorImplementationIsBitIdenticalToScalar() {
+        SkeletonNormalizer normalizer = SkeletonNormalizer.create();
+        assumeTrue(normalizer.name().startsWith("vector"), "Vector API 구현은 mvn -Pvector test 에서만 확인합니다.");
+
+        for (int dims : new int[] { 2, 3, 4 }) {
+            float[] src = randomFrames(97, dims, new Random(dims));
+            float[] scalar = new float[src.length];
+            float[] vector = new float[src.length];
+
+            new ScalarSkeletonNormalizer().normalize(src, 0, dims, scalar, 0, dims, JOINTS, 97);
+            normalizer.normalize(src, 0, dims, vector, 0, dims, JOINTS, 97);
+
+            assertArrayEquals(scalar, vector);
+        }
+    }
+
+    private static float[] floatBits(JsonNode frames) {
+        float[] values = new float[frames.size() * frames.get(0).size()];
+        int i = 0;
+        for (JsonNode frame : frames) {
+            for (JsonNode bits : frame) {
+                values[i++] = Float.intBitsToFloat(bits.intValue());
+            }
+        }
+        return values;
+    }
+
+    private static float[] randomFrames(int frames, int dims, Random random) {
+        float[] values = new float[frames * JOINTS * dims];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,114 @@
+package com.Friday.Backend.Skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkeletonTemplateLibraryTest {
+
+    private static final int JOINTS = 33;
+    private static final int FRAME_SIZE = JOINTS * 2;
+    private static final int CLASSIFY_FRAMES = 64;
+
+    @Test
+    void picksSameNeighbourAsExhaustiveDtwWhilePruning() {
+        Random random = new Random(5);
+        Map<String, SkeletonReference> templates = new LinkedHashMap<>();
+        for (int t = 0; t < 20; t++) {
+            int frames = 80 + random.nextInt(60);
+            templates.put("poomsae-" + t, new SkeletonReference("poomsae-" + t, JOINTS, FRAME_SIZE, frames, motion(random, frames)));
+        }
+        SkeletonTemplateLibrary library = new SkeletonTemplateLibrary(templates, CLASSIFY_FRAMES, 0.1);
+        SkeletonDtw dtw = new SkeletonDtw();
+
+        int totalPruned = 0;
+        for (int t = 0; t < 20; t += 4) {
+            SkeletonReference template = templates.get("poomsae-" + t);
+            float[] attempt = noisyStretch(random, template, template.getFrameCount() * 5 / 4);
+            int attemptFrames = attempt.length / FRAME_SIZE;
+
+            SkeletonTemplateLibrary.Classification result = library.classify(attempt, attemptFrames, dtw);
+
+            assertEquals("poomsae-" + t, result.name());
+            assertEquals(exhaustive(library, templates, attempt, attemptFrames), result.name());
+            assertEquals(20, result.candidates());
+            totalPruned += result.pruned() + result.abandoned();
+        }
+        assertTrue(totalPruned > 0);
+    }
+
+    @Test
+    void rejectsQueryWithDifferentFrameSize() {
+        Random random = new Random(7);
+        SkeletonTemplateLibrary library = new SkeletonTemplateLibrary(
+            Map.of("poomsae", new SkeletonReference("poomsae", JOINTS, FRAME_SIZE, 100, motion(random, 100))),
+            CLASSIFY_FRAMES, 0.1
+        );
+        SkeletonDtw dtw = new SkeletonDtw();
+
+        // 관절 수가 더 많거나 적은 질의 (x, y 2차원)
+        assertThrows(SkeletonFormatException.class, () -> library.classify(new float[100 * (JOINTS + 4) * 2], 100, dtw));
+        assertThrows(SkeletonFormatException.class, () -> library.classify(new float[100 * (JOINTS - 8) * 2], 100, dtw));
+    }
+
+    @Test
+    void resampleKeepsEndpoints() {
+        float[] values = { 0f, 10f, 1f, 11f, 2f, 12f };
+        float[] out = SkeletonTemplateLibrary.resample(values, 3, 2, 5);
+
+        assertEquals(0f, out[0]);
+        assertEquals(10f, out[1]);
+        assertEquals(1f, out[4]);
+        assertEquals(2f, out[8]);
+        assertEquals(12f, out[9]);
+    }
+
+    private static String exhaustive(
+        SkeletonTemplateLibrary library,
+        Map<String, SkeletonReference> templates,
+        float[] attempt,
+        int attemptFrames
+    ) {
+        float[] query = SkeletonTemplateLibrary.resample(attempt, attemptFrames, FRAME_SIZE, CLASSIFY_FRAMES);
+        SkeletonDtw dtw = new SkeletonDtw();
+        String best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (SkeletonReference template : templates.values()) {
+            float[] series = SkeletonTemplateLibrary.resample(
+                template.getValues(), template.getFrameCount(), FRAME_SIZE, CLASSIFY_FRAMES
+            );
+            double distance = dtw.distance(query, CLASSIFY_FRAMES, series, CLASSIFY_FRAMES, FRAME_SIZE, 0.1, Double.POSITIVE_INFINITY);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = template.getName();
+            }
+        }
+        return best;
+    }
+
+    private static float[] motion(Random random, int frames) {
+        float[] values = new float[frames * FRAME_SIZE];
+        for (int f = 0; f < FRAME_SIZE; f++) {
+            double phase = random.nextDouble() * Math.PI * 2;
+            double speed = 0.02 + random.nextDouble() * 0.08;
+            for (int frame = 0; frame < frames; frame++) {
+                values[frame * FRAME_SIZE + f] = (float) Math.sin(phase + frame * speed);
+            }
+        }
+        return values;
+    }
+
+    private static float[] noisyStretch(Random random, SkeletonReference template, int frames) {
+        float[] values = SkeletonTemplateLibrary.resample(template.getValues(), template.getFrameCount(), FRAME_SIZE, frames);
+        for (int i = 0; i < values.length; i++) {
+            values[i] += (float) (random.nextGaussian() * 0.05);
+        }
+        return values;
+    }
+}
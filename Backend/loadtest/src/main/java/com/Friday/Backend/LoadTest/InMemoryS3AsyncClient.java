@@ -0,0 +1,160 @@
+package com.Friday.Backend.LoadTest;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 앱이 S3Gateway 로 부르는 S3 API (HEAD, DeleteObjects, 멀티파트)를 메모리에서 처리하는 대역.
+// 객체 내용은 들고 있지 않고 키만 기억한다. 요청마다 roundTripMillis 만큼 늦게 타이머 스레드에서 응답한다.
+// presigned URL 로 가는 PUT/GET 은 앱을 거치지 않으므로, 부하 시나리오가 put() 으로 "클라이언트가 올렸다" 를 표시한다.
+class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final long roundTripMillis;
+
+    private final Map<String, Boolean> objects = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> multipartUploads = new ConcurrentHashMap<>();
+    private final AtomicLong uploadIds = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "in-memory-s3");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    InMemoryS3AsyncClient(long roundTripMillis) {
+        this.roundTripMillis = roundTripMillis;
+    }
+
+    void put(String key) {
+        objects.put(key, Boolean.TRUE);
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request) {
+        return respond(() -> {
+            if (!objects.containsKey(request.key())) {
+                throw NoSuchKeyException.builder().statusCode(404).message("Not Found").build();
+            }
+            return HeadObjectResponse.builder().contentLength(1L).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectsResponse> deleteObjects(DeleteObjectsRequest request) {
+        return respond(() -> {
+            List<DeletedObject> deleted = request.delete().objects().stream()
+                .map(ObjectIdentifier::key)
+                .peek(objects::remove)
+                .map(key -> DeletedObject.builder().key(key).build())
+                .toList();
+            return DeleteObjectsResponse.builder().deleted(deleted).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        return respond(() -> {
+            String uploadId = "in-memory-" + uploadIds.incrementAndGet();
+            multipartUploads.put(uploadId, MultipartUpload.builder()
+                .key(request.key())
+                .uploadId(uploadId)
+                .initiated(Instant.now())
+                .build());
+            return CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        return respond(() -> {
+            if (multipartUploads.remove(request.uploadId()) == null) {
+                throw NoSuchUploadException.builder().statusCode(404).message("NoSuchUpload").build();
+            }
+            put(request.key());
+            return CompleteMultipartUploadResponse.builder().bucket(request.bucket()).key(request.key()).build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        return respond(() -> {
+            multipartUploads.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<ListMultipartUploadsResponse> listMultipartUploads(ListMultipartUploadsRequest request) {
+        return respond(() -> ListMultipartUploadsResponse.builder()
+            .bucket(request.bucket())
+            .uploads(List.copyOf(multipartUploads.values()))
+            .isTruncated(false)
+            .build());
+    }
+
+    private <T> CompletableFuture<T> respond(Supplier<T> handler) {
+        requests.incrementAndGet();
+
+        CompletableFuture<T> response = new CompletableFuture<>();
+        timer.schedule(() -> {
+            if (response.isDone()) {
+                return;
+            }
+            try {
+                response.complete(handler.get());
+            }
+            catch (RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+        }, roundTripMillis, TimeUnit.MILLISECONDS);
+        return response;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
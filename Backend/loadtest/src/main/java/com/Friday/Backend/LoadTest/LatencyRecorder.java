@@ -0,0 +1,145 @@
+package com.Friday.Backend.LoadTest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간(µs) 히스토그램과 실패 수. 가상 사용자들이 동시에 기록한다.
+// 예열이 끝나면 새 recorder 로 바꿔서 측정 구간만 보고한다.
+class LatencyRecorder {
+
+    // 1µs ~ 2분, 유효 숫자 3자리
+    private static final long HIGHEST_MICROS = Duration.ofMinutes(2).toNanos() / 1000;
+
+    // 화면에 그리는 히스토그램 칸 (ms 상한)
+    private static final long[] BUCKETS_MILLIS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    private static final class Endpoint {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAccumulator firstStart = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastEnd = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    // status 는 HTTP 상태 코드. 연결 실패 등으로 응답이 없으면 0
+    void record(String endpoint, long nanos, int status) {
+        long now = System.nanoTime();
+        firstStart.accumulate(now - nanos);
+        lastEnd.accumulate(now);
+
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+        if (status >= 200 && status < 400) {
+            stats.histogram.recordValue(Math.min(HIGHEST_MICROS, Math.max(1, nanos / 1000)));
+        }
+        else {
+            stats.errors.increment();
+            stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    // 첫 요청을 보낸 때부터 마지막 응답까지. 가입/로그인처럼 구간이 정해져 있지 않은 기록의 처리량 계산에 쓴다.
+    Duration span() {
+        return firstStart.get() == Long.MAX_VALUE ? Duration.ZERO : Duration.ofNanos(lastEnd.get() - firstStart.get());
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        long total = 0;
+        for (Map.Entry<String, Endpoint> entry : sorted().entrySet()) {
+            Histogram h = entry.getValue().histogram;
+            long errors = entry.getValue().errors.sum();
+            total += h.getTotalCount() + errors;
+            out.printf("%-40s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                entry.getKey(), h.getTotalCount(), errors, h.getTotalCount() / seconds,
+                millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0);
+        }
+        out.printf("%-40s %9d %7s %9.1f%n", "합계", total, "", total / seconds);
+
+        for (Map.Entry<String, Endpoint> entry : sorted().entrySet()) {
+            out.println();
+            out.println(entry.getKey());
+            printBuckets(out, entry.getValue().histogram);
+            if (!entry.getValue().statuses.isEmpty()) {
+                Map<Integer, Long> statuses = new TreeMap<>();
+                entry.getValue().statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+                out.println("  실패 상태 코드: " + statuses);
+            }
+        }
+    }
+
+    // 엔드포인트별 HdrHistogram 백분위 분포(.hgrm, ms 단위)와 요약 CSV
+    void write(Path directory, Duration elapsed) throws IOException {
+        Files.createDirectories(directory);
+        double seconds = elapsed.toNanos() / 1e9;
+
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,throughput_rps,mean_ms,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+        for (Map.Entry<String, Endpoint> entry : sorted().entrySet()) {
+            Histogram h = entry.getValue().histogram;
+            csv.append(String.format("%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                entry.getKey(), h.getTotalCount(), entry.getValue().errors.sum(), h.getTotalCount() / seconds,
+                h.getMean() / 1000.0, millis(h, 50), millis(h, 90), millis(h, 99), millis(h, 99.9), h.getMaxValue() / 1000.0));
+
+            Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm");
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                h.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        Files.writeString(directory.resolve("summary.csv"), csv);
+    }
+
+    private void printBuckets(PrintStream out, Histogram h) {
+        long total = h.getTotalCount();
+        if (total == 0) {
+            return;
+        }
+
+        long[] counts = new long[BUCKETS_MILLIS.length + 1];
+        for (HistogramIterationValue value : h.recordedValues()) {
+            int bucket = 0;
+            while (bucket < BUCKETS_MILLIS.length && value.getValueIteratedTo() > BUCKETS_MILLIS[bucket] * 1000) {
+                bucket++;
+            }
+            counts[bucket] += value.getCountAddedInThisIterationStep();
+        }
+
+        // 앞뒤의 빈 칸은 생략한다.
+        int first = 0;
+        while (counts[first] == 0) {
+            first++;
+        }
+        int last = counts.length - 1;
+        while (counts[last] == 0) {
+            last--;
+        }
+        for (int i = first; i <= last; i++) {
+            String label = i < BUCKETS_MILLIS.length ? "<= " + BUCKETS_MILLIS[i] + "ms" : "> " + BUCKETS_MILLIS[i - 1] + "ms";
+            out.printf("  %10s %8d %5.1f%% %s%n",
+                label, counts[i], 100.0 * counts[i] / total, "#".repeat((int) Math.round(50.0 * counts[i] / total)));
+        }
+    }
+
+    private Map<String, Endpoint> sorted() {
+        return new TreeMap<>(endpoints);
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.Friday.Backend.LoadTest;
+
+import com.Friday.Backend.SpringApp;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+// java -jar target/loadtest.jar [--users=64 --duration=30s ...]   (인자는 LoadTestOptions.USAGE)
+// AWS 없이 앱 전체를 띄워 부하를 준다. DB 는 H2(MySQL 모드, 메모리), S3 는 같은 프로세스 안의 대역이다
+// (application-loadtest.properties). 가상 사용자마다 가입 → 로그인 → 업로드/목록/스켈레톤 조회/점수 저장/삭제를 반복하고,
+// 측정 구간의 엔드포인트별 처리량과 지연 분포를 출력한다.
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // presigner 가 쓰는 기본 자격 증명 체인이 시스템 속성에서 찾는다. 서명만 하고 AWS 로는 보내지 않는다.
+        System.setProperty("aws.accessKeyId", "AKIALOADTEST");
+        System.setProperty("aws.secretAccessKey", "loadtest-secret");
+
+        System.out.println("스켈레톤 페이로드 생성 중...");
+        SkeletonPayloads payloads = new SkeletonPayloads(options.frames(), options.seed());
+
+        InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient(options.s3RoundTripMillis());
+        try (ConfigurableApplicationContext context = start(options, s3);
+             ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder()
+                .executor(users)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+            System.out.printf("사용자 %d명, 예열 %ds, 측정 %ds, 프레임 %s, 가상 스레드 %s%n",
+                options.users(), options.warmup().toSeconds(), options.duration().toSeconds(),
+                Arrays.toString(options.frames()), options.virtualThreads());
+
+            LatencyRecorder setup = new LatencyRecorder();
+            AtomicReference<LatencyRecorder> current = new AtomicReference<>(new LatencyRecorder());
+            long deadline = System.nanoTime() + options.warmup().toNanos() + options.duration().toNanos();
+
+            List<Thread> threads = new ArrayList<>();
+            for (int user = 0; user < options.users(); user++) {
+                Scenario scenario = new Scenario(user, "http://localhost:" + port, http, options, payloads, s3,
+                    setup, current::get, deadline);
+                threads.add(Thread.ofVirtual().name("load-user-" + user).start(scenario));
+            }
+
+            Thread.sleep(options.warmup());
+            LatencyRecorder measured = new LatencyRecorder();
+            current.set(measured);
+            long measureStart = System.nanoTime();
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - measureStart);
+
+            System.out.println();
+            System.out.println("== 가입/로그인 (사용자당 한 번) ==");
+            setup.print(System.out, setup.span());
+            System.out.println();
+            System.out.printf("== 측정 구간 %.1fs ==%n", elapsed.toNanos() / 1e9);
+            measured.print(System.out, elapsed);
+            System.out.printf("%nS3 대역 요청 %d건, 남은 객체 %d개%n", s3.requestCount(), s3.objectCount());
+
+            if (options.out() != null) {
+                measured.write(options.out(), elapsed);
+                setup.write(options.out().resolve("setup"), setup.span());
+                System.out.println("히스토그램: " + options.out().toAbsolutePath());
+            }
+        }
+        finally {
+            s3.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options, InMemoryS3AsyncClient s3) {
+        return new SpringApplicationBuilder(SpringApp.class)
+            .profiles("loadtest")
+            // 실제 S3 클라이언트 대신 대역을 주입한다.
+            .initializers(context -> ((GenericApplicationContext) context)
+                .registerBean("inMemoryS3AsyncClient", S3AsyncClient.class, () -> s3, definition -> definition.setPrimary(true)))
+            .run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.threads.virtual.enabled=" + options.virtualThreads()
+            );
+    }
+}
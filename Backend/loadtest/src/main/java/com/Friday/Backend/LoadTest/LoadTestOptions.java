@@ -0,0 +1,94 @@
+package com.Friday.Backend.LoadTest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// --이름=값 형식의 실행 인자. 없는 값은 기본값을 쓴다.
+record LoadTestOptions(
+    int users,
+    Duration warmup,
+    Duration duration,
+    int[] frames,
+    Map<Scenario.Action, Integer> mix,
+    Duration think,
+    long s3RoundTripMillis,
+    boolean virtualThreads,
+    long seed,
+    Path out
+) {
+
+    static final String USAGE = """
+        사용법: java -jar target/loadtest.jar [--이름=값 ...]
+          --users=64                 동시에 움직이는 가상 사용자 수 (사용자마다 가입 → 로그인 후 반복)
+          --warmup=10s               측정 전 예열 시간
+          --duration=30s             측정 시간
+          --frames=300,1800          업로드할 스켈레톤 프레임 수 (33관절, 30fps). 여러 개면 업로드마다 무작위로 고른다
+          --mix=upload:1,list:4,skeleton:3,score:1,delete:1
+                                     반복 단계에서 고를 동작과 가중치
+          --think=0ms                동작 사이 대기 시간
+          --s3-rtt=20                S3 대역의 요청당 지연 (ms)
+          --virtual-threads=false    spring.threads.virtual.enabled
+          --seed=42                  동작 선택과 좌표 생성에 쓰는 시드
+          --out=                     엔드포인트별 히스토그램(.hgrm)과 summary.csv 를 쓸 디렉터리
+        """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+            Integer.parseInt(values.getOrDefault("users", "64")),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+            Arrays.stream(values.getOrDefault("frames", "300,1800").split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray(),
+            parseMix(values.getOrDefault("mix", "upload:1,list:4,skeleton:3,score:1,delete:1")),
+            DurationStyle.detectAndParse(values.getOrDefault("think", "0ms")),
+            Long.parseLong(values.getOrDefault("s3-rtt", "20")),
+            Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+            Long.parseLong(values.getOrDefault("seed", "42")),
+            values.containsKey("out") && !values.get("out").isBlank() ? Path.of(values.get("out")) : null
+        );
+
+        values.keySet().removeAll(Set.of(
+            "users", "warmup", "duration", "frames", "mix", "think", "s3-rtt", "virtual-threads", "seed", "out"
+        ));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 인자: " + values.keySet());
+        }
+        if (options.users < 1 || options.frames.length == 0 || Arrays.stream(options.frames).anyMatch(f -> f < 1)) {
+            throw new IllegalArgumentException("users 와 frames 는 1 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    private static Map<Scenario.Action, Integer> parseMix(String value) {
+        Map<Scenario.Action, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 는 동작:가중치 목록이어야 합니다: " + value);
+            }
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                mix.put(Scenario.Action.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 가중치가 양수인 동작이 하나는 있어야 합니다.");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,177 @@
+package com.Friday.Backend.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// 가상 사용자 한 명. 가입 → 로그인 후 마감 시각까지 mix 가중치대로 동작을 골라 반복한다 (닫힌 루프).
+// 가입/로그인은 예열과 상관없이 setup 에 기록하고, 반복 동작은 그 시점의 recorder 에 기록한다.
+// 영상이 없으면 업로드부터 하고, 조회/점수/삭제는 자기가 올린 영상 중 하나를 고른다.
+class Scenario implements Runnable {
+
+    enum Action { UPLOAD, LIST, SKELETON, SCORE, DELETE }
+
+    private static final String PASSWORD = "LoadTest1!";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int user;
+    private final String baseUrl;
+    private final HttpClient http;
+    private final LoadTestOptions options;
+    private final SkeletonPayloads payloads;
+    private final InMemoryS3AsyncClient s3;
+    private final LatencyRecorder setup;
+    private final Supplier<LatencyRecorder> recorder;
+    private final long deadlineNanos;
+    private final Random random;
+
+    private final Action[] wheel;
+    private final List<String> videoIds = new ArrayList<>();
+    private String token;
+
+    Scenario(
+        int user,
+        String baseUrl,
+        HttpClient http,
+        LoadTestOptions options,
+        SkeletonPayloads payloads,
+        InMemoryS3AsyncClient s3,
+        LatencyRecorder setup,
+        Supplier<LatencyRecorder> recorder,
+        long deadlineNanos
+    ) {
+        this.user = user;
+        this.baseUrl = baseUrl;
+        this.http = http;
+        this.options = options;
+        this.payloads = payloads;
+        this.s3 = s3;
+        this.setup = setup;
+        this.recorder = recorder;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new Random(options.seed() * 1_000_003L + user);
+
+        List<Action> actions = new ArrayList<>();
+        for (Map.Entry<Action, Integer> entry : options.mix().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                actions.add(entry.getKey());
+            }
+        }
+        this.wheel = actions.toArray(Action[]::new);
+    }
+
+    @Override
+    public void run() {
+        String userId = "load" + user;
+        send(setup, "POST /auth/signup", post("/auth/signup",
+            "{\"userId\":\"" + userId + "\",\"password\":\"" + PASSWORD + "\",\"email\":\"" + userId + "@loadtest.local\"}"));
+        JsonNode login = send(setup, "POST /auth/login", post("/auth/login",
+            "{\"userId\":\"" + userId + "\",\"password\":\"" + PASSWORD + "\"}"));
+        if (login == null || !login.hasNonNull("token")) {
+            return;
+        }
+        token = login.get("token").asText();
+
+        while (System.nanoTime() < deadlineNanos) {
+            Action action = videoIds.isEmpty() ? Action.UPLOAD : wheel[random.nextInt(wheel.length)];
+            switch (action) {
+                case UPLOAD -> upload(userId);
+                case LIST -> send(recorder.get(), "GET /api/videos", get("/api/videos?size=20"));
+                case SKELETON -> send(recorder.get(), "GET /api/skeleton/videos/{id}", get("/api/skeleton/videos/" + pick()));
+                case SCORE -> send(recorder.get(), "POST /api/score/videos/{id}/score",
+                    post("/api/score/videos/" + pick() + "/score", "{\"score\":\"" + (60 + random.nextInt(41)) + "\"}"));
+                case DELETE -> {
+                    String videoId = videoIds.remove(random.nextInt(videoIds.size()));
+                    send(recorder.get(), "DELETE /api/videos/{id}", authorized("/api/videos/" + videoId).DELETE().build());
+                }
+            }
+
+            if (!options.think().isZero()) {
+                try {
+                    Thread.sleep(options.think());
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // 업로드 후 받은 URL 로 영상을 올린 것처럼 S3 대역에 객체를 만든다.
+    private void upload(String userId) {
+        int frames = options.frames()[random.nextInt(options.frames().length)];
+        String body = "{\"videoName\":\"load\",\"fileExtension\":\".mp4\",\"joints\":" + payloads.get(frames, random) + "}";
+
+        JsonNode response = send(recorder.get(), "POST /api/upload/skeleton", post("/api/upload/skeleton", body));
+        if (response == null || !response.hasNonNull("objectName")) {
+            return;
+        }
+        // objectName = userId-videoId-영상이름.확장자
+        String objectName = response.get("objectName").asText();
+        String videoId = objectName.substring(userId.length() + 1, objectName.length() - "-load.mp4".length());
+        videoIds.add(videoId);
+        s3.put(objectName);
+    }
+
+    private String pick() {
+        return videoIds.get(random.nextInt(videoIds.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return authorized(path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // 응답 본문이 JSON 이면 읽어서 돌려준다. 실패하면 null
+    private JsonNode send(LatencyRecorder target, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        int status = 0;
+        String body = null;
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Exception e) {
+            // 연결 실패는 상태 코드 0 으로 센다.
+        }
+        target.record(endpoint, System.nanoTime() - start, status);
+
+        if (status < 200 || status >= 300 || body == null || body.isEmpty() || body.charAt(0) != '{') {
+            return null;
+        }
+        try {
+            return MAPPER.readTree(body);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.Friday.Backend.LoadTest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+// 업로드 요청 본문의 joints. 클라이언트 SkeletonFrame[] 과 같은 [[{"name", "position": [x, y, z]}]] 형식이고,
+// 관절마다 부드러운 궤적 + 측정 잡음을 준다. 프레임 수마다 몇 벌을 미리 만들어 돌려 쓴다.
+final class SkeletonPayloads {
+
+    private static final String[] POSE_LANDMARKS = {
+        "nose", "left_eye_inner", "left_eye", "left_eye_outer",
+        "right_eye_inner", "right_eye", "right_eye_outer",
+        "left_ear", "right_ear", "mouth_left", "mouth_right",
+        "left_shoulder", "right_shoulder", "left_elbow", "right_elbow",
+        "left_wrist", "right_wrist", "left_pinky", "right_pinky",
+        "left_index", "right_index", "left_thumb", "right_thumb",
+        "left_hip", "right_hip", "left_knee", "right_knee",
+        "left_ankle", "right_ankle", "left_heel", "right_heel",
+        "left_foot_index", "right_foot_index"
+    };
+
+    private static final int JOINTS = POSE_LANDMARKS.length;
+    private static final double FPS = 30.0;
+    private static final int VARIANTS = 4;
+
+    private final Map<Integer, String[]> payloads = new HashMap<>();
+
+    SkeletonPayloads(int[] frameCounts, long seed) {
+        for (int frames : frameCounts) {
+            String[] variants = new String[VARIANTS];
+            for (int i = 0; i < VARIANTS; i++) {
+                variants[i] = json(frames, seed + 31L * frames + i);
+            }
+            payloads.put(frames, variants);
+        }
+    }
+
+    String get(int frames, Random random) {
+        String[] variants = payloads.get(frames);
+        return variants[random.nextInt(variants.length)];
+    }
+
+    private static String json(int frames, long seed) {
+        Random random = new Random(seed);
+        double[] base = new double[JOINTS * 3];
+        double[] amplitude = new double[JOINTS * 3];
+        double[] frequency = new double[JOINTS * 3];
+        double[] phase = new double[JOINTS * 3];
+        for (int joint = 0; joint < JOINTS; joint++) {
+            // 저장 좌표는 y 가 위쪽이다.
+            double y = 1.7 - 1.6 * joint / (JOINTS - 1);
+            for (int dim = 0; dim < 3; dim++) {
+                int i = joint * 3 + dim;
+                base[i] = switch (dim) {
+                    case 0 -> -0.2 + 0.4 * random.nextDouble();
+                    case 1 -> y;
+                    default -> -0.2 + 0.4 * random.nextDouble();
+                };
+                amplitude[i] = 0.02 + 0.1 * random.nextDouble();
+                frequency[i] = 0.2 + 0.8 * random.nextDouble();
+                phase[i] = 2 * Math.PI * random.nextDouble();
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(frames * JOINTS * 80);
+        sb.append('[');
+        for (int frame = 0; frame < frames; frame++) {
+            if (frame > 0) {
+                sb.append(',');
+            }
+            double t = frame / FPS;
+            sb.append('[');
+            for (int joint = 0; joint < JOINTS; joint++) {
+                if (joint > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"name\":\"").append(POSE_LANDMARKS[joint]).append("\",\"position\":[");
+                for (int dim = 0; dim < 3; dim++) {
+                    int i = joint * 3 + dim;
+                    double value = base[i] + amplitude[i] * Math.sin(2 * Math.PI * frequency[i] * t + phase[i])
+                        + 0.002 * random.nextGaussian();
+                    sb.append(dim > 0 ? "," : "").append(value);
+                }
+                sb.append("]}");
+            }
+            sb.append(']');
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+}
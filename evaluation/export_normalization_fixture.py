@@ -0,0 +1,70 @@
+import json
+import os
+import random
+import struct
+import sys
+
+# 백엔드 정규화(SkeletonNormalizer)가 normalize() 와 비트 단위로 같은지 확인하는 골든 픽스처를 만든다.
+# 사용법: python export_normalization_fixture.py
+# 결과는 SkeletonNormalizerTest 가 읽는다. normalize() 를 고치면 다시 만들어 함께 커밋한다.
+
+HERE = os.path.dirname(os.path.abspath(__file__))
+FIXTURE = os.path.join(HERE, '..', 'Backend', 'demo', 'src', 'test', 'resources', 'skeleton', 'normalization-golden.json')
+
+JOINTS = 33
+DIMS = 2
+FRAMES = 4
+
+
+def to_float32(value):
+    return struct.unpack('<f', struct.pack('<f', value))[0]
+
+
+def float32_bits(value):
+    return struct.unpack('<i', struct.pack('<f', value))[0]
+
+
+def make_frames():
+    rng = random.Random(20250101)
+    frames = []
+    for _ in range(FRAMES):
+        frame = [[to_float32(rng.random()) for _ in range(DIMS)] for _ in range(JOINTS)]
+        # 어깨 좌표는 2^-10 의 배수로 둔다. 어깨 거리의 제곱합이 float32 로 정확하므로
+        # np.linalg.norm 이 쓰는 BLAS sdot 의 누적 순서나 FMA 사용 여부와 관계없이 같은 값이 나온다.
+        for joint in (11, 12):
+            frame[joint] = [rng.randrange(256, 768) / 1024 for _ in range(DIMS)]
+        frames.append(frame)
+
+    # 마지막 프레임은 두 어깨가 겹쳐 크기 정규화를 건너뛰는 경우
+    frames[-1][12] = list(frames[-1][11])
+    return frames
+
+
+# 값은 float32 비트 패턴(int32)으로 쓴다. 10진수를 거치며 반올림이 달라지지 않게 하기 위해서다.
+def write_fixture(frames, normalized):
+    with open(FIXTURE, 'w', encoding='utf-8', newline='\n') as f:
+        f.write('{\n')
+        f.write('  "source": "evaluation/normalization.py normalize()",\n')
+        f.write(f'  "jointCount": {JOINTS},\n')
+        f.write(f'  "dims": {DIMS},\n')
+        for key, data, last in (('input', frames, False), ('output', normalized, True)):
+            rows = [json.dumps([float32_bits(v) for joint in frame for v in joint]) for frame in data]
+            f.write(f'  "{key}": [\n    ' + ',\n    '.join(rows) + '\n  ]' + ('\n' if last else ',\n'))
+        f.write('}\n')
+
+
+def main():
+    import numpy as np
+
+    sys.path.insert(0, HERE)
+    from normalization import normalize
+
+    frames = make_frames()
+    normalized = normalize(np.array(frames, dtype=np.float32))
+    assert normalized.dtype == np.float32
+
+    write_fixture(frames, normalized.tolist())
+
+
+if __name__ == '__main__':
+    main()